@@ -0,0 +1,87 @@
+package com.infernokun.infernoComics.benchmarks;
+
+import com.infernokun.infernoComics.config.CacheValueCodec;
+import com.infernokun.infernoComics.config.RedisConfig;
+import com.infernokun.infernoComics.services.ComicVineService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and (de)serialization time of the cache value codecs on a
+ * {@code comic-vine-issues}-sized value: typed JSON as stored today, Smile with the type
+ * registry, and Smile with LZ4 above the production threshold. Encoded sizes are printed
+ * once per trial, since JMH only reports times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheCodecBenchmark {
+
+    @Param({"json", "smile", "smile-lz4"})
+    private String codec;
+
+    @Param({"20", "500"})
+    private int issues;
+
+    private RedisSerializer<Object> serializer;
+    private List<ComicVineService.ComicVineIssueDto> value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(RedisConfig.cacheJsonMapper());
+        serializer = switch (codec) {
+            case "json" -> json;
+            case "smile" -> new CacheValueCodec(RedisConfig.cacheSmileMapper(), json, 0);
+            case "smile-lz4" -> new CacheValueCodec(RedisConfig.cacheSmileMapper(), json, 8 * 1024);
+            default -> throw new IllegalArgumentException(codec);
+        };
+
+        value = new ArrayList<>(issues);
+        for (int i = 1; i <= issues; i++) {
+            value.add(issue(i));
+        }
+        encoded = serializer.serialize(value);
+
+        int jsonSize = json.serialize(value).length;
+        System.out.printf("%n%s, %d issues: %,d bytes (%.0f%% of typed JSON)%n",
+                codec, issues, encoded.length, 100.0 * encoded.length / jsonSize);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+
+    private static ComicVineService.ComicVineIssueDto issue(int number) {
+        ComicVineService.ComicVineIssueDto dto = new ComicVineService.ComicVineIssueDto();
+        dto.setId(String.valueOf(400_000 + number));
+        dto.setIssueNumber(String.valueOf(number));
+        dto.setName("The Amazing Spider-Man #" + number);
+        dto.setDescription("<p>Spider-Man faces a new threat as the city reels from the events of issue "
+                + (number - 1) + ". " + "Peter juggles rent, the Bugle and a mounting list of enemies. ".repeat(4) + "</p>");
+        dto.setCoverDate("1963-%02d-01".formatted(1 + number % 12));
+        dto.setImageUrl("https://comicvine.gamespot.com/a/uploads/scale_large/6/67663/" + (1_000_000 + number) + "-01.jpg");
+
+        List<ComicVineService.ComicVineIssueDto.VariantCover> variants = new ArrayList<>();
+        for (int v = 0; v < number % 3; v++) {
+            variants.add(new ComicVineService.ComicVineIssueDto.VariantCover(
+                    String.valueOf(9_000_000 + number * 10 + v),
+                    "https://comicvine.gamespot.com/a/uploads/original/6/67663/" + (2_000_000 + number * 10 + v) + ".jpg",
+                    "Variant cover " + (char) ('B' + v),
+                    "All Images"));
+        }
+        dto.setVariants(variants);
+        return dto;
+    }
+}
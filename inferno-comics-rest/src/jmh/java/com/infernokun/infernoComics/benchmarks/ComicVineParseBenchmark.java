@@ -0,0 +1,136 @@
+package com.infernokun.infernoComics.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.infernokun.infernoComics.services.ComicVineResponseReader;
+import com.infernokun.infernoComics.services.ComicVineService;
+import com.infernokun.infernoComics.utils.GenericTextCleaner;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse time and allocation for Comic Vine bodies: reading a {@link JsonNode} tree and walking
+ * it, as {@code ComicVineService} used to, against {@link ComicVineResponseReader}'s streaming
+ * parse. The fixtures under {@code comicvine/} are an {@code /issues/} page of 100 and a
+ * {@code /volume/} detail, both as full resources; the {@code field-list} runs trim them to the
+ * fields the service now asks for, as Comic Vine would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ComicVineParseBenchmark {
+
+    @Param({"issues-page", "volume"})
+    private String fixture;
+
+    @Param({"full", "field-list"})
+    private String fields;
+
+    @Param({"tree", "streaming"})
+    private String parser;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/comicvine/" + fixture + ".json")) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture comicvine/" + fixture + ".json");
+            }
+            body = in.readAllBytes();
+        }
+        if (fields.equals("field-list")) {
+            body = project(body, fixture.equals("volume") ? ComicVineResponseReader.SERIES_FIELDS : ComicVineResponseReader.ISSUE_FIELDS);
+        }
+        System.out.printf("%n%s, %s: %,d bytes%n", fixture, fields, body.length);
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        boolean volume = fixture.equals("volume");
+        if (parser.equals("streaming")) {
+            return volume
+                    ? ComicVineResponseReader.readSeries(new ByteArrayInputStream(body))
+                    : ComicVineResponseReader.readIssues(new ByteArrayInputStream(body));
+        }
+        JsonNode root = objectMapper.readTree(body);
+        return volume ? treeSeries(root.path("results")) : treeIssues(root.path("results"));
+    }
+
+    private byte[] project(byte[] full, String fieldList) throws IOException {
+        Set<String> keep = Set.of(fieldList.split(","));
+        JsonNode root = objectMapper.readTree(full);
+        JsonNode results = root.path("results");
+        List<JsonNode> resources = new ArrayList<>();
+        if (results.isArray()) {
+            results.forEach(resources::add);
+        } else {
+            resources.add(results);
+        }
+        for (JsonNode resource : resources) {
+            ((ObjectNode) resource).retain(keep);
+        }
+        return objectMapper.writeValueAsBytes(root);
+    }
+
+    private static List<ComicVineService.ComicVineIssueDto> treeIssues(JsonNode results) {
+        List<ComicVineService.ComicVineIssueDto> issues = new ArrayList<>();
+        for (JsonNode result : results) {
+            ComicVineService.ComicVineIssueDto dto = new ComicVineService.ComicVineIssueDto();
+            dto.setId(result.path("id").asText());
+            dto.setIssueNumber(result.path("issue_number").asText());
+            dto.setName(result.path("name").asText());
+            dto.setDescription(GenericTextCleaner.makeReadable(result.path("description").asText()));
+            dto.setCoverDate(result.path("cover_date").asText());
+
+            JsonNode image = result.path("image");
+            if (!image.isMissingNode()) {
+                dto.setImageUrl(image.path("medium_url").asText());
+            }
+
+            JsonNode associatedImages = result.path("associated_images");
+            if (associatedImages.isArray()) {
+                List<ComicVineService.ComicVineIssueDto.VariantCover> variants = new ArrayList<>();
+                for (JsonNode imageNode : associatedImages) {
+                    variants.add(new ComicVineService.ComicVineIssueDto.VariantCover(
+                            imageNode.path("id").asText(),
+                            imageNode.path("original_url").asText(),
+                            imageNode.path("caption").asText(),
+                            imageNode.path("image_tags").asText()));
+                }
+                dto.setVariants(variants);
+            }
+            issues.add(dto);
+        }
+        return issues;
+    }
+
+    private static ComicVineService.ComicVineSeriesDto treeSeries(JsonNode result) {
+        ComicVineService.ComicVineSeriesDto dto = new ComicVineService.ComicVineSeriesDto();
+        dto.setId(result.path("id").asText());
+        dto.setName(result.path("name").asText());
+        dto.setDescription(GenericTextCleaner.makeReadable(result.path("description").asText()));
+        dto.setIssueCount(result.path("count_of_issues").asInt());
+
+        JsonNode publisher = result.path("publisher");
+        if (!publisher.isMissingNode()) {
+            dto.setPublisher(publisher.path("name").asText());
+        }
+        dto.setStartYear(result.path("start_year").asInt(0));
+
+        JsonNode image = result.path("image");
+        if (!image.isMissingNode()) {
+            dto.setImageUrl(image.path("medium_url").asText());
+        }
+        return dto;
+    }
+}
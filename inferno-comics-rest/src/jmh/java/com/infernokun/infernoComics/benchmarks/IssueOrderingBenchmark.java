@@ -0,0 +1,135 @@
+package com.infernokun.infernoComics.benchmarks;
+
+import com.infernokun.infernoComics.utils.IssueSortKey;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per-comparison issue ordering that used to run on every read against
+ * ordering by the persisted issue sort key. The legacy comparators are copied here
+ * as they were before the key was introduced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueOrderingBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int issueCount;
+
+    private List<Row> rows;
+
+    private record Row(String issueNumber, String coverDate, String sortKey) { }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            int number = random.nextInt(issueCount) + 1;
+            String issueNumber = switch (i % 10) {
+                case 0 -> number + "A";
+                case 1 -> number + ".5";
+                case 2 -> "Annual " + (number % 20 + 1);
+                default -> String.valueOf(number);
+            };
+            String coverDate = LocalDate.of(1990, 1, 1).plusDays(number * 30L).toString();
+            rows.add(new Row(issueNumber, coverDate, IssueSortKey.of(issueNumber)));
+        }
+        Collections.shuffle(rows, random);
+    }
+
+    @Benchmark
+    public List<Row> legacyIssueServiceSort() {
+        List<Row> copy = new ArrayList<>(rows);
+        copy.sort(LegacyIssueOrdering::compare);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Row> legacyComicVineSort() {
+        List<Row> copy = new ArrayList<>(rows);
+        copy.sort(LegacyComicVineOrdering::compare);
+        return copy;
+    }
+
+    // What a read costs now: the keys were written with the row, the order is a plain string compare
+    @Benchmark
+    public List<Row> persistedKeySort() {
+        List<Row> copy = new ArrayList<>(rows);
+        copy.sort(Comparator.comparing(Row::sortKey));
+        return copy;
+    }
+
+    // The ComicVine path has no stored key, so it derives each key once and sorts on it
+    @Benchmark
+    public List<Row> derivedKeySort() {
+        return rows.stream()
+                .map(row -> Map.entry(IssueSortKey.of(row.issueNumber()), row))
+                .sorted(Map.Entry.<String, Row>comparingByKey()
+                        .thenComparing(entry -> entry.getValue().coverDate(), Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    // The write-side cost paid once per issue instead of on every read
+    @Benchmark
+    public void keyComputation(Blackhole blackhole) {
+        for (Row row : rows) {
+            blackhole.consume(IssueSortKey.of(row.issueNumber()));
+        }
+    }
+
+    private static final class LegacyIssueOrdering {
+        private static final Pattern ISSUE_NUMBER_PATTERN = Pattern.compile("(\\d+(?:\\.\\d+)?)");
+
+        static int compare(Row row1, Row row2) {
+            String num1 = row1.issueNumber();
+            String num2 = row2.issueNumber();
+
+            if (num1 == null || num1.isEmpty()) return 1;
+            if (num2 == null || num2.isEmpty()) return -1;
+
+            int numericComparison = Double.compare(extractNumericPart(num1), extractNumericPart(num2));
+            return numericComparison == 0 ? num1.compareToIgnoreCase(num2) : numericComparison;
+        }
+
+        private static Double extractNumericPart(String issueNumber) {
+            Matcher matcher = ISSUE_NUMBER_PATTERN.matcher(issueNumber.trim());
+            return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.MAX_VALUE;
+        }
+    }
+
+    private static final class LegacyComicVineOrdering {
+
+        static int compare(Row row1, Row row2) {
+            String num1 = row1.issueNumber();
+            String num2 = row2.issueNumber();
+
+            if (num1 == null || num1.isEmpty()) return 1;
+            if (num2 == null || num2.isEmpty()) return -1;
+
+            int numericComparison = Double.compare(extractNumericPart(num1), extractNumericPart(num2));
+            if (numericComparison == 0) {
+                int dateComparison = LocalDate.parse(row1.coverDate()).compareTo(LocalDate.parse(row2.coverDate()));
+                return dateComparison == 0 ? num1.compareToIgnoreCase(num2) : dateComparison;
+            }
+            return numericComparison;
+        }
+
+        private static Double extractNumericPart(String issueNumber) {
+            String cleaned = issueNumber.toLowerCase()
+                    .replaceAll("^(annual|special|one-shot)\\s*", "")
+                    .trim();
+
+            Matcher matcher = Pattern.compile("^(\\d+(?:\\.\\d+)?)").matcher(cleaned);
+            return matcher.find() ? Double.parseDouble(matcher.group(1)) : (double) issueNumber.hashCode();
+        }
+    }
+}
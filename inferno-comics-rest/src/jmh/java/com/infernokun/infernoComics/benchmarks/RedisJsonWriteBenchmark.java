@@ -0,0 +1,117 @@
+package com.infernokun.infernoComics.benchmarks;
+
+import com.infernokun.infernoComics.config.RedisJsonClient;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the old per-operation connection path (JSON.SET then EXPIRE, one key at a
+ * time) against the shared-connection client (scripted SET+EXPIRE, JSON.MGET, pipelined
+ * batches).
+ * <p>
+ * Needs a Redis with the JSON module on {@code -Dbench.redis.host}/{@code -Dbench.redis.port}
+ * (default localhost:6379), e.g. {@code docker run -p 6379:6379 redis/redis-stack-server}.
+ * Keys are written to database 15.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RedisJsonWriteBenchmark {
+
+    private static final byte[] JSON_ROOT_PATH = "$".getBytes(StandardCharsets.UTF_8);
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final int BATCH = 100;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisJsonClient client;
+    private byte[] value;
+    private List<byte[]> keys;
+
+    @Setup
+    public void setUp() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                System.getProperty("bench.redis.host", "localhost"),
+                Integer.getInteger("bench.redis.port", 6379));
+        config.setDatabase(15);
+
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        client = new RedisJsonClient(connectionFactory);
+
+        value = ("{\"@class\":\"com.infernokun.infernoComics.models.Series\",\"id\":42,"
+                + "\"name\":\"The Amazing Spider-Man\",\"publisher\":\"Marvel\",\"startYear\":1963,"
+                + "\"description\":\"" + "x".repeat(1_000) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        keys = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            keys.add(("bench::series::" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        client.setAll(keys.stream().map(key -> new RedisJsonClient.Entry(key, value, TTL)).toList(), null).join();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.keyCommands().del(keys.toArray(new byte[0][]));
+        }
+        client.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void legacyPut() {
+        legacyPut(keys.getFirst());
+    }
+
+    @Benchmark
+    public void scriptedPut() {
+        client.set(keys.getFirst(), value, TTL, null).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void legacyPutBatch() {
+        keys.forEach(this::legacyPut);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void pipelinedPutBatch() {
+        client.setAll(keys.stream().map(key -> new RedisJsonClient.Entry(key, value, TTL)).toList(), null).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object legacyGetBatch() {
+        List<byte[]> values = new ArrayList<>(BATCH);
+        for (byte[] key : keys) {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                values.add((byte[]) connection.execute("JSON.GET", key, JSON_ROOT_PATH));
+            }
+        }
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public Object multiGetBatch() {
+        return client.getAll(keys).join();
+    }
+
+    // What JsonRedisCacheWriter.put did before: a fresh connection, then two round trips
+    private void legacyPut(byte[] key) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.execute("JSON.SET", key, JSON_ROOT_PATH, value);
+            connection.keyCommands().expire(key, TTL.getSeconds());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.infernokun.infernoComics.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.infernokun.infernoComics.config.TwoTierCache;
+import com.infernokun.infernoComics.models.Series;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a cached {@code getSeriesById} lookup with Redis only and with the in-process tier
+ * in front of it. Sample-time mode reports the p50/p99 percentiles for each.
+ * <p>
+ * The Redis stand-in keeps the serialized bytes in memory and decodes them with the same
+ * default-typed serializer {@code RedisConfig} uses, so the "before" numbers include the
+ * deserialization cost but not the network round trip. Real L2 lookups are slower still.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeriesCacheLookupBenchmark {
+
+    private static final long SERIES_ID = 42L;
+
+    private Cache redisOnly;
+    private Cache twoTier;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper redisMapper = new ObjectMapper();
+        redisMapper.registerModule(new JavaTimeModule());
+        redisMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        redisMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        redisMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        redisMapper.activateDefaultTyping(
+                redisMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(redisMapper);
+
+        redisOnly = new SerializingCache("series", serializer);
+        redisOnly.put(SERIES_ID, sampleSeries());
+
+        Cache redisBehindLocal = new SerializingCache("series", serializer);
+        redisBehindLocal.put(SERIES_ID, sampleSeries());
+        twoTier = new TwoTierCache("series", redisBehindLocal,
+                Caffeine.newBuilder().maximumSize(2_000).recordStats().build(),
+                (cacheName, key) -> { });
+        // The first read fills L1; every measured read after it is a local hit
+        twoTier.get(SERIES_ID);
+    }
+
+    @Benchmark
+    public Object redisOnlyLookup() {
+        return redisOnly.get(SERIES_ID).get();
+    }
+
+    @Benchmark
+    public Object twoTierLookup() {
+        return twoTier.get(SERIES_ID).get();
+    }
+
+    private static Series sampleSeries() {
+        Series series = new Series();
+        series.setId(SERIES_ID);
+        series.setName("The Amazing Spider-Man");
+        series.setPublisher("Marvel");
+        series.setStartYear(1963);
+        series.setEndYear(1998);
+        series.setDescription("Peter Parker balances life as a student, photographer and costumed hero. ".repeat(20));
+        series.setImageUrl("https://comicvine.gamespot.com/a/uploads/scale_large/6/67663/5915766-01.jpg");
+        series.setComicVineId("2127");
+        series.setComicVineIds(List.of("2127", "6606", "38425"));
+        series.setGcdIds(List.of("1570", "2437"));
+        series.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        series.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 12, 0));
+        series.setIssuesOwnedCount(120);
+        series.setIssuesAvailableCount(441);
+        return series;
+    }
+
+    private static final class SerializingCache extends AbstractValueAdaptingCache {
+        private final String name;
+        private final GenericJackson2JsonRedisSerializer serializer;
+        private final Map<Object, byte[]> store = new ConcurrentHashMap<>();
+
+        SerializingCache(String name, GenericJackson2JsonRedisSerializer serializer) {
+            super(false);
+            this.name = name;
+            this.serializer = serializer;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            byte[] bytes = store.get(key);
+            return bytes != null ? serializer.deserialize(bytes) : null;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return store;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            Object value = lookup(key);
+            if (value != null) {
+                return (T) value;
+            }
+            try {
+                T loaded = valueLoader.call();
+                put(key, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            store.put(key, serializer.serialize(value));
+        }
+
+        @Override
+        public void evict(Object key) {
+            store.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            store.clear();
+        }
+    }
+}
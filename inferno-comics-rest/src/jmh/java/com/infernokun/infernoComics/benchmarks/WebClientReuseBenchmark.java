@@ -0,0 +1,92 @@
+package com.infernokun.infernoComics.benchmarks;
+
+import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
+import com.infernokun.infernoComics.clients.UpstreamCircuitBreakers;
+import com.infernokun.infernoComics.clients.WebClientMetrics;
+import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and allocation per recognition call: a client built for every call, as
+ * {@code recognitionClient()} used to do, against the shared pooled client. Calls go to a
+ * JDK HTTP server on a loopback port that answers a small JSON body, so the numbers are the
+ * client's own overhead. Allocation per call comes from the {@code gc} profiler
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebClientReuseBenchmark {
+
+    private static final byte[] BODY = "{\"status\":\"ok\",\"matches\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"per-call", "shared"})
+    private String client;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private String baseUrl;
+    private InfernoComicsWebClient webClients;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY);
+            }
+        });
+        serverThreads = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverThreads);
+        server.start();
+
+        InfernoComicsConfig config = new InfernoComicsConfig();
+        config.setRecognitionServerHost("127.0.0.1");
+        config.setRecognitionServerPort(server.getAddress().getPort());
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/inferno-comics-recognition/api/v1";
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        webClients = new InfernoComicsWebClient(config, new WebClientMetrics(registry), new UpstreamCircuitBreakers(registry));
+    }
+
+    @TearDown
+    public void tearDown() {
+        webClients.shutdown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public String health() {
+        WebClient webClient = client.equals("shared") ? webClients.recognitionClient() : perCallClient();
+        return webClient.get()
+                .uri("/health")
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+    }
+
+    private WebClient perCallClient() {
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer
+                                .defaultCodecs()
+                                .maxInMemorySize(500 * 1024 * 1024))
+                        .build())
+                .build();
+    }
+}
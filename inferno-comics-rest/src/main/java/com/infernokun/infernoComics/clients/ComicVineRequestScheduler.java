@@ -0,0 +1,250 @@
+package com.infernokun.infernoComics.clients;
+
+import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.exceptions.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single gate for every Comic Vine request. A token bucket holds up to {@code burst} requests
+ * and refills at the configured hourly rate; a caller takes one token per request and waits
+ * when the bucket is empty.
+ * <p>
+ * Waiting callers queue in two lanes. Requests made while serving a user are
+ * {@link Lane#INTERACTIVE}; scheduled jobs mark their work {@link Lane#BACKGROUND} with
+ * {@link #runInBackground}. A free token always goes to the oldest interactive
+ * caller first, so a user never waits behind a reverification run. The lane follows the
+ * calling thread; work handed to other threads carries it with {@link #withLane}.
+ * <p>
+ * Background callers also leave {@code interactiveReserve} tokens in the bucket, so a job that
+ * runs the bucket down still leaves a user a few requests that go straight through.
+ * <p>
+ * An interactive caller waits at most {@code interactiveMaxWait}, never less than the time one
+ * token takes to refill, and is then turned away with an {@link UpstreamUnavailableException},
+ * so a user isn't left hanging behind a drained bucket; background callers wait as long as it
+ * takes. Callers that would rather not wait at all use {@link #tryExecute}.
+ * <p>
+ * Publishes {@code comicvine.scheduler.queue} (waiting callers) and
+ * {@code comicvine.scheduler.wait} (time to get a token), both tagged by lane, and counts
+ * callers turned away under {@code inferno.client.rejected} like
+ * {@link UpstreamCircuitBreakers}.
+ */
+@Slf4j
+@Component
+public class ComicVineRequestScheduler {
+
+    public enum Lane { INTERACTIVE, BACKGROUND }
+
+    private static final ThreadLocal<Lane> CURRENT_LANE = ThreadLocal.withInitial(() -> Lane.INTERACTIVE);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private final Map<Lane, Double> tokensNeeded = new EnumMap<>(Lane.class);
+    private final Map<Lane, Long> maxWaitNanos = new EnumMap<>(Lane.class);
+    private final Counter rejectedWaiting;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition tokenAvailable = lock.newCondition();
+    private final Map<Lane, Deque<Thread>> waiting = new EnumMap<>(Lane.class);
+    private final Map<Lane, Timer> waitTimers = new EnumMap<>(Lane.class);
+    private double tokens;
+    private long lastRefill;
+
+    @Autowired
+    public ComicVineRequestScheduler(InfernoComicsConfig config, MeterRegistry meterRegistry) {
+        this(config.getComicVineRequestsPerHour(), config.getComicVineBurst(), config.getComicVineInteractiveReserve(),
+                Duration.ofSeconds(config.getComicVineInteractiveMaxWaitSeconds()), meterRegistry, System::nanoTime);
+    }
+
+    ComicVineRequestScheduler(int requestsPerHour, int burst, int interactiveReserve, Duration interactiveMaxWait,
+                              MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        if (requestsPerHour < 1 || burst < 1) {
+            throw new IllegalArgumentException("Comic Vine rate limits must be positive: " + requestsPerHour + "/h, burst " + burst);
+        }
+        if (interactiveReserve < 0 || interactiveReserve >= burst) {
+            throw new IllegalArgumentException("Comic Vine interactive reserve must be below the burst of " + burst + ": " + interactiveReserve);
+        }
+        if (interactiveMaxWait.isNegative()) {
+            throw new IllegalArgumentException("Comic Vine interactive wait must not be negative: " + interactiveMaxWait);
+        }
+        this.capacity = burst;
+        this.tokensPerNano = requestsPerHour / (double) TimeUnit.HOURS.toNanos(1);
+        this.nanoTime = nanoTime;
+        this.tokens = burst;
+        this.lastRefill = nanoTime.getAsLong();
+        this.tokensNeeded.put(Lane.INTERACTIVE, 1.0);
+        this.tokensNeeded.put(Lane.BACKGROUND, 1.0 + interactiveReserve);
+        // Shorter than one refill, a caller behind an empty bucket would be turned away every time
+        long refillNanos = Math.ceilDiv(TimeUnit.HOURS.toNanos(1), requestsPerHour);
+        this.maxWaitNanos.put(Lane.INTERACTIVE, Math.max(interactiveMaxWait.toNanos(), refillNanos));
+        this.maxWaitNanos.put(Lane.BACKGROUND, Long.MAX_VALUE);
+        this.rejectedWaiting = Counter.builder("inferno.client.rejected")
+                .tag("client", InfernoComicsWebClient.COMIC_VINE_UPSTREAM)
+                .tag("reason", "rate_limit_wait")
+                .register(meterRegistry);
+
+        for (Lane lane : Lane.values()) {
+            Deque<Thread> queue = new ArrayDeque<>();
+            waiting.put(lane, queue);
+            Gauge.builder("comicvine.scheduler.queue", queue, this::queueDepth)
+                    .tag("lane", lane.name().toLowerCase())
+                    .register(meterRegistry);
+            waitTimers.put(lane, Timer.builder("comicvine.scheduler.wait")
+                    .tag("lane", lane.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        log.info("Comic Vine requests limited to {}/h with bursts of {}, {} kept back for interactive callers, who wait up to {}s",
+                requestsPerHour, burst, interactiveReserve, maxWait(Lane.INTERACTIVE).toSeconds());
+    }
+
+    /**
+     * Waits for a token in the current thread's lane, then runs the request on this thread.
+     *
+     * @throws UpstreamUnavailableException if no token came within the lane's wait limit
+     */
+    public <T> T execute(Supplier<T> request) {
+        acquire(CURRENT_LANE.get());
+        return request.get();
+    }
+
+    /**
+     * Runs the request only if a token is free right now and nobody ahead of the current lane is
+     * waiting for it.
+     *
+     * @return the request's result, or empty when it would have had to wait
+     */
+    public <T> Optional<T> tryExecute(Supplier<T> request) {
+        if (!tryAcquire(CURRENT_LANE.get())) {
+            return Optional.empty();
+        }
+        return Optional.of(request.get());
+    }
+
+    /**
+     * Runs the work with every Comic Vine request it makes queued in the background lane.
+     */
+    public void runInBackground(Runnable work) {
+        withLane(Lane.BACKGROUND, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T withLane(Lane lane, Supplier<T> work) {
+        Lane previous = CURRENT_LANE.get();
+        CURRENT_LANE.set(lane);
+        try {
+            return work.get();
+        } finally {
+            CURRENT_LANE.set(previous);
+        }
+    }
+
+    public Lane currentLane() {
+        return CURRENT_LANE.get();
+    }
+
+    Duration maxWait(Lane lane) {
+        long nanos = maxWaitNanos.get(lane);
+        return nanos == Long.MAX_VALUE ? ChronoUnit.FOREVER.getDuration() : Duration.ofNanos(nanos);
+    }
+
+    void acquire(Lane lane) {
+        long start = nanoTime.getAsLong();
+        Thread self = Thread.currentThread();
+        lock.lock();
+        try {
+            waiting.get(lane).addLast(self);
+            try {
+                long maxWait = maxWaitNanos.get(lane);
+                double needed = tokensNeeded.get(lane);
+                while (true) {
+                    refill();
+                    if (isNext(lane, self) && tokens >= needed) {
+                        tokens -= 1;
+                        break;
+                    }
+                    long waited = nanoTime.getAsLong() - start;
+                    if (waited >= maxWait) {
+                        rejectedWaiting.increment();
+                        throw new UpstreamUnavailableException(InfernoComicsWebClient.COMIC_VINE_UPSTREAM,
+                                "Comic Vine rate limit: no request slot free within " + TimeUnit.NANOSECONDS.toMillis(maxWait) + "ms");
+                    }
+                    // Only the caller at the front needs to wake for the next token; the rest wait to be signalled
+                    long sleep = isNext(lane, self)
+                            ? Math.max(1, (long) Math.ceil((needed - tokens) / tokensPerNano))
+                            : TimeUnit.SECONDS.toNanos(1);
+                    tokenAvailable.awaitNanos(Math.min(sleep, maxWait - waited));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to call Comic Vine", e);
+            } finally {
+                waiting.get(lane).remove(self);
+                tokenAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        waitTimers.get(lane).record(nanoTime.getAsLong() - start, TimeUnit.NANOSECONDS);
+    }
+
+    boolean tryAcquire(Lane lane) {
+        lock.lock();
+        try {
+            refill();
+            boolean queuedAhead = !waiting.get(Lane.INTERACTIVE).isEmpty()
+                    || (lane == Lane.BACKGROUND && !waiting.get(Lane.BACKGROUND).isEmpty());
+            if (queuedAhead || tokens < tokensNeeded.get(lane)) {
+                return false;
+            }
+            tokens -= 1;
+        } finally {
+            lock.unlock();
+        }
+        waitTimers.get(lane).record(0, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    private boolean isNext(Lane lane, Thread thread) {
+        Deque<Thread> interactive = waiting.get(Lane.INTERACTIVE);
+        if (lane == Lane.INTERACTIVE) {
+            return interactive.peekFirst() == thread;
+        }
+        return interactive.isEmpty() && waiting.get(Lane.BACKGROUND).peekFirst() == thread;
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+
+    private double queueDepth(Deque<Thread> queue) {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,64 +1,108 @@
 package com.infernokun.infernoComics.clients;
 
 import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
+/**
+ * One shared {@link WebClient} per upstream, each with its own Reactor Netty connection pool,
+ * so a slow upstream can only exhaust its own connections. Clients are built once at startup;
+ * HTTPS upstreams negotiate HTTP/2 and fall back to HTTP/1.1. Each client is guarded by
+ * {@link UpstreamCircuitBreakers}, so an upstream that is down or saturated fails fast.
+ */
 @Component
 public class InfernoComicsWebClient {
     private final InfernoComicsConfig infernoComicsConfig;
+    private final WebClientMetrics webClientMetrics;
+    private final UpstreamCircuitBreakers circuitBreakers;
 
-    public InfernoComicsWebClient(InfernoComicsConfig infernoComicsConfig1) {
+    public static final String COMIC_VINE_UPSTREAM = "comic-vine";
+
+    /**
+     * Pool and timeout settings for one upstream. {@code responseTimeout} bounds the wait
+     * for the response once the request has been sent; {@code maxConcurrentCalls} is the
+     * bulkhead, past which calls are turned away instead of queueing for a connection.
+     */
+    record Upstream(String name, int maxConnections, int pendingAcquireMaxCount, int maxConcurrentCalls,
+                    Duration responseTimeout, int maxInMemorySize) { }
+
+    // Matching runs for minutes on large uploads; the other upstreams answer in seconds
+    static final Upstream RECOGNITION = new Upstream("recognition", 10, 50, 20, Duration.ofMinutes(30), 500 * 1024 * 1024);
+    static final Upstream COMIC_VINE = new Upstream(COMIC_VINE_UPSTREAM, 8, 100, 16, Duration.ofSeconds(30), 1024 * 1024);
+    static final Upstream GROQ = new Upstream("groq", 4, 50, 8, Duration.ofSeconds(60), 1024 * 1024);
+    static final Upstream NEXTCLOUD = new Upstream("nextcloud", 8, 50, 16, Duration.ofMinutes(2), 500 * 1024 * 1024);
+    static final Upstream SEARXNG = new Upstream("searxng", 4, 20, 8, Duration.ofSeconds(15), 2 * 1024 * 1024);
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Duration MAX_LIFE_TIME = Duration.ofMinutes(5);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(60);
+
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+    private final WebClient recognitionClient;
+    private final WebClient groqClient;
+    private final WebClient comicVineClient;
+    private final WebClient nextcloudClient;
+    private final WebClient searxngClient;
+
+    public InfernoComicsWebClient(InfernoComicsConfig infernoComicsConfig1, WebClientMetrics webClientMetrics,
+                                  UpstreamCircuitBreakers circuitBreakers) {
         this.infernoComicsConfig = infernoComicsConfig1;
+        this.webClientMetrics = webClientMetrics;
+        this.circuitBreakers = circuitBreakers;
+
+        this.recognitionClient = build(RECOGNITION, "http://" + infernoComicsConfig.getRecognitionServerHost() + ":"
+                + infernoComicsConfig.getRecognitionServerPort() + "/inferno-comics-recognition/api/v1")
+                .build();
+        this.groqClient = build(GROQ, "https://api.groq.com/openai/v1/chat/completions", "/openai/v1")
+                .build();
+        this.comicVineClient = build(COMIC_VINE, "https://comicvine.gamespot.com/api")
+                .build();
+        this.nextcloudClient = build(NEXTCLOUD, infernoComicsConfig.getNextcloudUrl())
+                .defaultHeader(HttpHeaders.AUTHORIZATION, createAuthHeader())
+                .build();
+        this.searxngClient = build(SEARXNG, infernoComicsConfig.getSearxngHost())
+                .build();
     }
 
     public WebClient recognitionClient() {
-        return WebClient.builder()
-                .baseUrl("http://" + infernoComicsConfig.getRecognitionServerHost() + ":" + infernoComicsConfig.getRecognitionServerPort() + "/inferno-comics-recognition/api/v1")
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer
-                                .defaultCodecs()
-                                .maxInMemorySize(500 * 1024 * 1024))
-                        .build())
-                .build();
+        return recognitionClient;
     }
 
     public WebClient groqClient() {
-        return WebClient.builder()
-                .baseUrl("https://api.groq.com/openai/v1/chat/completions")
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer
-                                .defaultCodecs()
-                                .maxInMemorySize(1024 * 1024))
-                        .build())
-                .build();
+        return groqClient;
     }
 
     public WebClient comicVineClient() {
-        return WebClient.builder()
-                .baseUrl("https://comicvine.gamespot.com/api")
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer
-                                .defaultCodecs()
-                                .maxInMemorySize(1024 * 1024))
-                        .build())
-                .build();
+        return comicVineClient;
     }
 
     public WebClient nextcloudClient() {
-        return WebClient.builder()
-                .baseUrl(infernoComicsConfig.getNextcloudUrl())
-                .defaultHeader(HttpHeaders.AUTHORIZATION, createAuthHeader())
-                .exchangeStrategies(ExchangeStrategies.builder()
-                        .codecs(configurer -> configurer
-                                .defaultCodecs()
-                                .maxInMemorySize(500 * 1024 * 1024))
-                        .build())
-                .build();
+        return nextcloudClient;
+    }
+
+    public WebClient searxngClient() {
+        return searxngClient;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
     }
 
     private String createAuthHeader() {
@@ -68,12 +112,44 @@ public class InfernoComicsWebClient {
         return "Basic " + encodedCredentials;
     }
 
-    public WebClient searxngClient() {
-        return WebClient.builder()
-                .baseUrl(infernoComicsConfig.getSearxngHost())
-                .codecs(configurer ->
-                        configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024) // 2MB
-                )
+    private WebClient.Builder build(Upstream upstream, String baseUrl) {
+        return build(upstream, baseUrl, basePath(baseUrl));
+    }
+
+    private WebClient.Builder build(Upstream upstream, String baseUrl, String metricsBasePath) {
+        ConnectionProvider provider = ConnectionProvider.builder(upstream.name())
+                .maxConnections(upstream.maxConnections())
+                .pendingAcquireMaxCount(upstream.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true)
                 .build();
+        connectionProviders.add(provider);
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) CONNECT_TIMEOUT.toMillis())
+                .responseTimeout(upstream.responseTimeout());
+        if (baseUrl != null && baseUrl.startsWith("https://")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // Outermost, so calls turned away never reach the request metrics
+                .filter(circuitBreakers.filter(upstream.name(), upstream.maxConcurrentCalls()))
+                .filter(webClientMetrics.filter(upstream.name(), metricsBasePath))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(configurer -> configurer
+                                .defaultCodecs()
+                                .maxInMemorySize(upstream.maxInMemorySize()))
+                        .build());
+    }
+
+    private static String basePath(String baseUrl) {
+        String path = baseUrl != null ? URI.create(baseUrl).getPath() : null;
+        return path == null || path.equals("/") ? "" : path.replaceAll("/+$", "");
     }
 }
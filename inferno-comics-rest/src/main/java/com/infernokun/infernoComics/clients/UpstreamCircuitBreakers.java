@@ -0,0 +1,254 @@
+package com.infernokun.infernoComics.clients;
+
+import com.infernokun.infernoComics.exceptions.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * A circuit breaker and a bulkhead per upstream, applied as a WebClient filter so a
+ * failing or saturated upstream turns calls away at once with an
+ * {@link UpstreamUnavailableException} instead of letting each one wait out a timeout.
+ * <p>
+ * A circuit opens after {@code failureThreshold} failures in a row, where a failure is a
+ * connection error, a timeout, a 5xx or a 429. Once {@code openDuration} has passed, the next
+ * call goes through as a probe while the others are still turned away: if it succeeds the
+ * circuit closes, otherwise it stays open for another {@code openDuration}. Independently, each
+ * upstream has a fixed number of calls it may have in flight; a call beyond that is turned away
+ * rather than queued. A call holds its slot until the response headers arrive.
+ * <p>
+ * Publishes {@code inferno.client.circuit.state} (0 closed, 1 half-open, 2 open),
+ * {@code inferno.client.bulkhead.available} and {@code inferno.client.rejected}, tagged by
+ * {@code client} like {@link WebClientMetrics}; {@code rejected} also carries the
+ * {@code reason}.
+ */
+@Slf4j
+@Component
+public class UpstreamCircuitBreakers {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UpstreamCircuitBreakers(MeterRegistry meterRegistry) {
+        this(meterRegistry, FAILURE_THRESHOLD, OPEN_DURATION, System::nanoTime);
+    }
+
+    UpstreamCircuitBreakers(MeterRegistry meterRegistry, int failureThreshold, Duration openDuration, LongSupplier nanoTime) {
+        if (failureThreshold < 1 || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("Circuit breaker settings must be positive: " + failureThreshold + " failures, " + openDuration);
+        }
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * The filter guarding one upstream. The breaker is created on first use; later calls for
+     * the same upstream share it and keep the first {@code maxConcurrentCalls}.
+     */
+    public ExchangeFilterFunction filter(String upstream, int maxConcurrentCalls) {
+        Breaker breaker = breaker(upstream, maxConcurrentCalls);
+        return (request, next) -> Mono.defer(() -> {
+            Permit permit;
+            try {
+                permit = breaker.acquire();
+            } catch (UpstreamUnavailableException e) {
+                return Mono.error(e);
+            }
+            return next.exchange(request)
+                    .doOnSuccess(response -> permit.complete(response == null || !isFailure(response.statusCode())))
+                    .doOnError(e -> permit.complete(false))
+                    .doOnCancel(permit::cancel);
+        });
+    }
+
+    /**
+     * Turns the caller away while the upstream's circuit is open, for callers that would
+     * otherwise spend something, like a rate-limit token, before making the call.
+     */
+    public void checkAvailable(String upstream) {
+        Breaker breaker = breakers.get(upstream);
+        if (breaker != null) {
+            breaker.checkAvailable();
+        }
+    }
+
+    public State state(String upstream) {
+        Breaker breaker = breakers.get(upstream);
+        return breaker != null ? breaker.currentState() : State.CLOSED;
+    }
+
+    private static boolean isFailure(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == 429;
+    }
+
+    private Breaker breaker(String upstream, int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Concurrent call limit for " + upstream + " must be positive: " + maxConcurrentCalls);
+        }
+        return breakers.computeIfAbsent(upstream, name -> new Breaker(name, maxConcurrentCalls));
+    }
+
+    private final class Breaker {
+        private final String name;
+        private final Semaphore bulkhead;
+        private final Counter rejectedOpen;
+        private final Counter rejectedFull;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean probeInFlight;
+
+        Breaker(String name, int maxConcurrentCalls) {
+            this.name = name;
+            this.bulkhead = new Semaphore(maxConcurrentCalls);
+            Gauge.builder("inferno.client.circuit.state", this, breaker -> breaker.currentState().ordinal())
+                    .tag("client", name)
+                    .register(meterRegistry);
+            Gauge.builder("inferno.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                    .tag("client", name)
+                    .register(meterRegistry);
+            this.rejectedOpen = rejectedCounter("circuit_open");
+            this.rejectedFull = rejectedCounter("bulkhead_full");
+        }
+
+        synchronized State currentState() {
+            return state;
+        }
+
+        synchronized void checkAvailable() {
+            if (state == State.OPEN && nanoTime.getAsLong() - openedAt < openNanos) {
+                throw rejectOpen();
+            }
+        }
+
+        Permit acquire() {
+            boolean probe = false;
+            synchronized (this) {
+                if (state == State.OPEN) {
+                    if (nanoTime.getAsLong() - openedAt < openNanos) {
+                        throw rejectOpen();
+                    }
+                    state = State.HALF_OPEN;
+                    probeInFlight = false;
+                    log.info("Circuit for {} half-open, probing", name);
+                }
+                if (state == State.HALF_OPEN) {
+                    if (probeInFlight) {
+                        throw rejectOpen();
+                    }
+                    probeInFlight = true;
+                    probe = true;
+                }
+            }
+
+            if (!bulkhead.tryAcquire()) {
+                if (probe) {
+                    synchronized (this) {
+                        probeInFlight = false;
+                    }
+                }
+                rejectedFull.increment();
+                throw new UpstreamUnavailableException(name, name + " already has its maximum of calls in flight");
+            }
+            return new Permit(this, probe);
+        }
+
+        synchronized void record(boolean success, boolean probe) {
+            if (success) {
+                consecutiveFailures = 0;
+                if (probe && state == State.HALF_OPEN) {
+                    state = State.CLOSED;
+                    probeInFlight = false;
+                    log.info("Circuit for {} closed", name);
+                }
+                return;
+            }
+
+            consecutiveFailures++;
+            if (probe && state == State.HALF_OPEN) {
+                open("probe failed");
+            } else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+                open(consecutiveFailures + " failures in a row");
+            }
+        }
+
+        // Let the next caller probe instead
+        synchronized void abandonProbe() {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+            }
+        }
+
+        private void open(String reason) {
+            state = State.OPEN;
+            openedAt = nanoTime.getAsLong();
+            probeInFlight = false;
+            log.warn("Circuit for {} opened after {}; retrying in {}s", name, reason, openNanos / 1_000_000_000);
+        }
+
+        private UpstreamUnavailableException rejectOpen() {
+            rejectedOpen.increment();
+            return new UpstreamUnavailableException(name, name + " is unavailable; its circuit is open");
+        }
+
+        private Counter rejectedCounter(String reason) {
+            return Counter.builder("inferno.client.rejected")
+                    .tag("client", name)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+
+    // One admitted call; its slot is given back exactly once, however the call ends
+    private static final class Permit {
+        private final Breaker breaker;
+        private final boolean probe;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Permit(Breaker breaker, boolean probe) {
+            this.breaker = breaker;
+            this.probe = probe;
+        }
+
+        void complete(boolean success) {
+            if (done.compareAndSet(false, true)) {
+                breaker.bulkhead.release();
+                breaker.record(success, probe);
+            }
+        }
+
+        void cancel() {
+            if (done.compareAndSet(false, true)) {
+                breaker.bulkhead.release();
+                if (probe) {
+                    breaker.abandonProbe();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.infernokun.infernoComics.clients;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every outbound call and counts the failed ones, tagged by client and endpoint:
+ * <ul>
+ *     <li>{@code inferno.client.requests} with {@code client}, {@code endpoint}, {@code method}
+ *     and {@code status}, measured until the response headers arrive</li>
+ *     <li>{@code inferno.client.errors} with the same tags plus {@code error}: the status class
+ *     for 4xx/5xx responses, the exception name for calls that never got one</li>
+ * </ul>
+ * The endpoint is the path below the client's base URL, cut to its first two segments, with
+ * any segment containing a digit replaced by {@code {id}} so IDs and file names don't turn
+ * into tag values.
+ */
+@Component
+public class WebClientMetrics {
+    private static final int ENDPOINT_SEGMENTS = 2;
+
+    private final MeterRegistry meterRegistry;
+
+    public WebClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ExchangeFilterFunction filter(String client, String basePath) {
+        return (request, next) -> Mono.defer(() -> {
+            long start = System.nanoTime();
+            String endpoint = endpoint(basePath, request.url().getPath());
+            String method = request.method().name();
+
+            return next.exchange(request)
+                    .doOnSuccess(response -> {
+                        if (response == null) {
+                            return;
+                        }
+                        int status = response.statusCode().value();
+                        record(client, endpoint, method, String.valueOf(status), start);
+                        if (status >= 400) {
+                            error(client, endpoint, method, String.valueOf(status), (status / 100) + "xx");
+                        }
+                    })
+                    .doOnError(e -> {
+                        record(client, endpoint, method, "IO_ERROR", start);
+                        error(client, endpoint, method, "IO_ERROR", e.getClass().getSimpleName());
+                    })
+                    .doOnCancel(() -> {
+                        record(client, endpoint, method, "CLIENT_ERROR", start);
+                        error(client, endpoint, method, "CLIENT_ERROR", "Cancelled");
+                    });
+        });
+    }
+
+    static String endpoint(String basePath, String path) {
+        String relative = path == null ? "" : path.startsWith(basePath) ? path.substring(basePath.length()) : path;
+
+        List<String> segments = new ArrayList<>();
+        for (String segment : relative.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            segments.add(segment.chars().anyMatch(Character::isDigit) ? "{id}" : segment);
+            if (segments.size() == ENDPOINT_SEGMENTS) {
+                break;
+            }
+        }
+        return "/" + String.join("/", segments);
+    }
+
+    private void record(String client, String endpoint, String method, String status, long start) {
+        Timer.builder("inferno.client.requests")
+                .tag("client", client)
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void error(String client, String endpoint, String method, String status, String error) {
+        Counter.builder("inferno.client.errors")
+                .tag("client", client)
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("status", status)
+                .tag("error", error)
+                .register(meterRegistry)
+                .increment();
+    }
+}
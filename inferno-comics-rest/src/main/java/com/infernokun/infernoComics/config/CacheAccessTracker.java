@@ -0,0 +1,107 @@
+package com.infernokun.infernoComics.config;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts reads per key for a few caches so the hottest entries can be rebuilt after a restart
+ * or clear. Reads are counted in memory and added to a Redis sorted set per cache
+ * ({@code cache-hits:<name>}) on {@link #flush()}, so the counts survive restarts and cover
+ * every instance. Each flush trims the set to the {@code retainedKeys} highest scores.
+ */
+public class CacheAccessTracker {
+
+    private static final String KEY_PREFIX = "cache-hits:";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Set<String> trackedCaches;
+    private final int retainedKeys;
+    private final Map<String, Map<String, LongAdder>> pending = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> suppressed = ThreadLocal.withInitial(() -> false);
+
+    public CacheAccessTracker(RedisConnectionFactory connectionFactory, Set<String> trackedCaches, int retainedKeys) {
+        this.connectionFactory = connectionFactory;
+        this.trackedCaches = Set.copyOf(trackedCaches);
+        this.retainedKeys = retainedKeys;
+    }
+
+    public void recordAccess(String cacheName, String key) {
+        if (!trackedCaches.contains(cacheName) || suppressed.get()) {
+            return;
+        }
+        pending.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * Runs the action without counting the reads it makes, so rebuilding an entry does not
+     * make it look hotter.
+     */
+    public void runUntracked(Runnable action) {
+        suppressed.set(true);
+        try {
+            action.run();
+        } finally {
+            suppressed.remove();
+        }
+    }
+
+    /**
+     * Adds the counts gathered since the last flush to Redis in one pipeline.
+     */
+    public void flush() {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        for (String cacheName : pending.keySet()) {
+            Map<String, LongAdder> cacheCounts = pending.remove(cacheName);
+            if (cacheCounts != null && !cacheCounts.isEmpty()) {
+                Map<String, Long> totals = new HashMap<>();
+                cacheCounts.forEach((key, count) -> totals.put(key, count.sum()));
+                counts.put(cacheName, totals);
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            counts.forEach((cacheName, totals) -> {
+                byte[] hitsKey = hitsKey(cacheName);
+                totals.forEach((key, count) ->
+                        connection.zSetCommands().zIncrBy(hitsKey, count, key.getBytes(StandardCharsets.UTF_8)));
+                connection.zSetCommands().zRemRange(hitsKey, 0, -(retainedKeys + 1));
+            });
+            connection.closePipeline();
+        }
+    }
+
+    /**
+     * The most-read keys of a cache, hottest first.
+     */
+    public List<String> hottestKeys(String cacheName, int limit) {
+        if (limit < 1) {
+            return List.of();
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Set<byte[]> keys = connection.zSetCommands().zRevRange(hitsKey(cacheName), 0, limit - 1);
+            if (keys == null) {
+                return List.of();
+            }
+            return keys.stream().map(key -> new String(key, StandardCharsets.UTF_8)).toList();
+        }
+    }
+
+    public Set<String> getTrackedCaches() {
+        return trackedCaches;
+    }
+
+    private static byte[] hitsKey(String cacheName) {
+        return (KEY_PREFIX + cacheName).getBytes(StandardCharsets.UTF_8);
+    }
+}
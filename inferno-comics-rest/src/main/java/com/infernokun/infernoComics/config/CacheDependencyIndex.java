@@ -0,0 +1,101 @@
+package com.infernokun.infernoComics.config;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Records which cache entries depend on which domain objects, so a write can evict just those
+ * entries instead of clearing whole caches. Each dependency tag (see
+ * {@link com.infernokun.infernoComics.utils.CacheConstants.CacheTags}) is a Redis set of
+ * {@code cacheName␟key} members.
+ * <p>
+ * Tag sets are never pruned entry by entry; every write pushes their expiry out, so a tag
+ * that stops being written to disappears on its own. A member whose entry has already
+ * expired just costs a no-op evict.
+ */
+public class CacheDependencyIndex {
+
+    /**
+     * Derives the dependency tags of one cache entry from its key.
+     */
+    @FunctionalInterface
+    public interface Tagger {
+        Set<String> tags(String key);
+    }
+
+    private static final String TAG_PREFIX = "cache-deps:";
+    private static final byte[] TRACKING_STARTED_KEY = (TAG_PREFIX + "tracking-started").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STARTED = "1".getBytes(StandardCharsets.UTF_8);
+    private static final String SEPARATOR = "\u001F";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Duration tagTtl;
+
+    /**
+     * @param tagTtl how long a tag set outlives its last write; at least the longest TTL of a
+     *               tracked cache
+     */
+    public CacheDependencyIndex(RedisConnectionFactory connectionFactory, Duration tagTtl) {
+        this.connectionFactory = connectionFactory;
+        this.tagTtl = tagTtl;
+    }
+
+    public void record(String cacheName, String key, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        byte[] member = (cacheName + SEPARATOR + key).getBytes(StandardCharsets.UTF_8);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            for (String tag : tags) {
+                byte[] tagKey = tagKey(tag);
+                connection.setCommands().sAdd(tagKey, member);
+                connection.keyCommands().expire(tagKey, tagTtl.toSeconds());
+            }
+        }
+    }
+
+    /**
+     * Removes the given tags' members from the index and returns them grouped by cache name.
+     * Members recorded while this runs stay in the index for the next eviction.
+     */
+    public Map<String, Set<String>> drain(Collection<String> tags) {
+        Map<String, Set<String>> dependents = new HashMap<>();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            for (String tag : tags) {
+                byte[] tagKey = tagKey(tag);
+                Set<byte[]> members = connection.setCommands().sMembers(tagKey);
+                if (members == null || members.isEmpty()) {
+                    continue;
+                }
+                connection.setCommands().sRem(tagKey, members.toArray(new byte[0][]));
+
+                for (byte[] member : members) {
+                    String[] parts = new String(member, StandardCharsets.UTF_8).split(SEPARATOR, 2);
+                    if (parts.length == 2) {
+                        dependents.computeIfAbsent(parts[0], name -> new HashSet<>()).add(parts[1]);
+                    }
+                }
+            }
+        }
+        return dependents;
+    }
+
+    /**
+     * True for exactly one caller the first time tracking is used against this Redis. Entries
+     * cached before that were never recorded, so that caller clears the tracked caches once.
+     */
+    public boolean claimTrackingStart() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return Boolean.TRUE.equals(connection.stringCommands().setNX(TRACKING_STARTED_KEY, STARTED));
+        }
+    }
+
+    static byte[] tagKey(String tag) {
+        return (TAG_PREFIX + tag).getBytes(StandardCharsets.UTF_8);
+    }
+}
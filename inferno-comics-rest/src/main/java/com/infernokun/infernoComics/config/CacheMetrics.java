@@ -0,0 +1,94 @@
+package com.infernokun.infernoComics.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the Redis tier, tagged by cache name:
+ * <ul>
+ *     <li>{@code cache.redis.gets} with {@code result=hit|miss}</li>
+ *     <li>{@code cache.redis.puts} and {@code cache.redis.evictions}</li>
+ *     <li>{@code cache.redis.payload} in bytes, with {@code operation=read|write}</li>
+ *     <li>{@code cache.redis.latency} per writer {@code operation}, failed calls included</li>
+ * </ul>
+ * Meters are looked up once per cache and operation and then reused.
+ */
+public class CacheMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloads = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Meters that are kept but never published, for writers built outside Spring.
+     */
+    public static CacheMetrics unpublished() {
+        return new CacheMetrics(new SimpleMeterRegistry());
+    }
+
+    public void hit(String cacheName, int bytes) {
+        counter("cache.redis.gets", cacheName, "result", "hit").increment();
+        payload(cacheName, "read").record(bytes);
+    }
+
+    public void miss(String cacheName) {
+        counter("cache.redis.gets", cacheName, "result", "miss").increment();
+    }
+
+    public void put(String cacheName, int bytes) {
+        counter("cache.redis.puts", cacheName, null, null).increment();
+        payload(cacheName, "write").record(bytes);
+    }
+
+    public void evicted(String cacheName, long entries) {
+        counter("cache.redis.evictions", cacheName, null, null).increment(entries);
+    }
+
+    /**
+     * Records how long the future took to complete, whether it succeeded or not.
+     */
+    public <T> CompletableFuture<T> timed(String cacheName, String operation, CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        return future.whenComplete((result, error) ->
+                timer(cacheName, operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    public void record(String cacheName, String operation, long nanos) {
+        timer(cacheName, operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter counter(String name, String cacheName, String tag, String value) {
+        return counters.computeIfAbsent(name + ':' + cacheName + ':' + value, k -> {
+            Counter.Builder builder = Counter.builder(name).tag("cache", cacheName);
+            return (tag != null ? builder.tag(tag, value) : builder).register(registry);
+        });
+    }
+
+    private DistributionSummary payload(String cacheName, String operation) {
+        return payloads.computeIfAbsent(cacheName + ':' + operation, k -> DistributionSummary.builder("cache.redis.payload")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .register(registry));
+    }
+
+    private Timer timer(String cacheName, String operation) {
+        return timers.computeIfAbsent(cacheName + ':' + operation, k -> Timer.builder("cache.redis.latency")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .register(registry));
+    }
+}
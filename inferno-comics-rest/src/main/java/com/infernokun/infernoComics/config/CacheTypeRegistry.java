@@ -0,0 +1,104 @@
+package com.infernokun.infernoComics.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Short, stable type ids for the classes that make up most cached values. Default typing
+ * otherwise writes the fully qualified class name into every nested object; with the registry
+ * a list of 500 Comic Vine issues carries {@code cv.issue} instead. Classes that are not
+ * registered still fall back to their class name, so the registry only has to cover the hot
+ * types.
+ * <p>
+ * Aliases are persisted with the cached values: never reuse or rename one. Renaming a
+ * registered class is safe as long as its alias stays the same.
+ */
+public class CacheTypeRegistry {
+
+    private final Map<String, Class<?>> typesByAlias = new HashMap<>();
+    private final Map<Class<?>, String> aliasesByType = new HashMap<>();
+
+    public CacheTypeRegistry register(String alias, Class<?> type) {
+        if (typesByAlias.containsKey(alias) || aliasesByType.containsKey(type)) {
+            throw new IllegalArgumentException("Cache type alias '" + alias + "' or type " + type.getName() + " is already registered");
+        }
+        typesByAlias.put(alias, type);
+        aliasesByType.put(type, alias);
+        return this;
+    }
+
+    /**
+     * Default typing for every non-final type, as {@link ObjectMapper#activateDefaultTyping}
+     * sets up, but resolving ids through this registry first.
+     */
+    public TypeResolverBuilder<?> defaultTyping(PolymorphicTypeValidator validator) {
+        RegistryTypeResolverBuilder builder = new RegistryTypeResolverBuilder(validator, this);
+        builder.init(JsonTypeInfo.Id.CLASS, null);
+        builder.inclusion(JsonTypeInfo.As.PROPERTY);
+        return builder;
+    }
+
+    private static final class RegistryTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+        private final CacheTypeRegistry registry;
+
+        RegistryTypeResolverBuilder(PolymorphicTypeValidator validator, CacheTypeRegistry registry) {
+            super(ObjectMapper.DefaultTyping.NON_FINAL, validator);
+            this.registry = registry;
+        }
+
+        @Override
+        protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, PolymorphicTypeValidator subtypeValidator,
+                                            Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+            return new RegistryTypeIdResolver(baseType, config.getTypeFactory(),
+                    ClassNameIdResolver.construct(baseType, config, subtypeValidator), registry);
+        }
+    }
+
+    private static final class RegistryTypeIdResolver extends TypeIdResolverBase {
+        private final TypeIdResolver classNames;
+        private final CacheTypeRegistry registry;
+
+        RegistryTypeIdResolver(JavaType baseType, TypeFactory typeFactory, TypeIdResolver classNames, CacheTypeRegistry registry) {
+            super(baseType, typeFactory);
+            this.classNames = classNames;
+            this.registry = registry;
+        }
+
+        @Override
+        public String idFromValue(Object value) {
+            return idFromValueAndType(value, value.getClass());
+        }
+
+        @Override
+        public String idFromValueAndType(Object value, Class<?> suggestedType) {
+            String alias = registry.aliasesByType.get(suggestedType);
+            return alias != null ? alias : classNames.idFromValueAndType(value, suggestedType);
+        }
+
+        @Override
+        public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+            Class<?> type = registry.typesByAlias.get(id);
+            return type != null ? context.constructSpecializedType(_baseType, type) : classNames.typeFromId(context, id);
+        }
+
+        @Override
+        public JsonTypeInfo.Id getMechanism() {
+            return JsonTypeInfo.Id.CUSTOM;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.infernokun.infernoComics.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Binary cache value codec: Smile-encoded values, LZ4-compressed once they pass a size
+ * threshold. Caches using it are stored as plain Redis strings rather than JSON documents
+ * (see {@link JsonRedisCacheWriter}).
+ * <p>
+ * Reads are migration-safe. Anything that is neither Smile nor a compressed block is handed
+ * to the legacy JSON serializer, so entries written before a cache switched codecs keep
+ * resolving until they expire or are overwritten.
+ */
+public class CacheValueCodec implements RedisSerializer<Object> {
+
+    // Every Smile document written with the default header starts with ":)\n"
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+    // Never the first byte of JSON or Smile; followed by the uncompressed length
+    private static final byte LZ4_BLOCK = 0x04;
+    private static final int LZ4_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold encoded size in bytes from which values are compressed;
+     *                             zero or less turns compression off
+     */
+    public CacheValueCodec(ObjectMapper smileMapper, RedisSerializer<Object> legacySerializer, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] encoded;
+        try {
+            encoded = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold <= 0 || encoded.length < compressionThreshold) {
+            return encoded;
+        }
+
+        byte[] compressed = new byte[LZ4_HEADER_LENGTH + COMPRESSOR.maxCompressedLength(encoded.length)];
+        ByteBuffer.wrap(compressed).put(LZ4_BLOCK).putInt(encoded.length);
+        int length = COMPRESSOR.compress(encoded, 0, encoded.length, compressed, LZ4_HEADER_LENGTH);
+
+        // Already-compact values can come out larger; keep whichever is smaller
+        if (LZ4_HEADER_LENGTH + length >= encoded.length) {
+            return encoded;
+        }
+        return Arrays.copyOf(compressed, LZ4_HEADER_LENGTH + length);
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            if (bytes[0] == LZ4_BLOCK) {
+                int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                byte[] encoded = new byte[length];
+                DECOMPRESSOR.decompress(bytes, LZ4_HEADER_LENGTH, bytes.length - LZ4_HEADER_LENGTH, encoded, 0);
+                return smileMapper.readValue(encoded, Object.class);
+            }
+            if (isSmile(bytes)) {
+                return smileMapper.readValue(bytes, Object.class);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not read cached value: " + e.getMessage(), e);
+        }
+        return legacySerializer.deserialize(bytes);
+    }
+
+    private static boolean isSmile(byte[] bytes) {
+        if (bytes.length < SMILE_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (bytes[i] != SMILE_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,64 @@
+package com.infernokun.infernoComics.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the PostgreSQL-specific indexes that Hibernate's ddl-auto can't express
+ * (extensions, expression and operator-class indexes). Every statement is idempotent,
+ * and a failure only costs the index, never startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseIndexInitializer {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final List<String> POSTGRES_STATEMENTS = List.of(
+            // Trigram indexes backing the ranked ILIKE searches on issues and series
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_issues_title_trgm ON issues USING gin (lower(title) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_issues_issue_number_trgm ON issues USING gin (lower(issue_number) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_series_name_trgm ON series USING gin (lower(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_series_publisher_trgm ON series USING gin (lower(publisher) gin_trgm_ops)",
+            // Partial indexes for the dashboard's variant and key issue listings, which only touch a small slice of issues
+            "CREATE INDEX IF NOT EXISTS idx_issues_variant ON issues (id) WHERE is_variants = true",
+            "CREATE INDEX IF NOT EXISTS idx_issues_key_issue ON issues (id) WHERE is_key_issue = true"
+    );
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!isPostgres()) {
+            log.info("Skipping PostgreSQL index initialization for non-PostgreSQL datasource");
+            return;
+        }
+
+        for (String statement : POSTGRES_STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Failed to apply '{}': {}", statement, e.getMessage());
+            }
+        }
+        log.info("Applied {} PostgreSQL index statements", POSTGRES_STATEMENTS.size());
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            return product != null && product.toLowerCase().contains("postgresql");
+        } catch (DataAccessException e) {
+            log.warn("Could not determine database product: {}", e.getMessage());
+            return false;
+        }
+    }
+}
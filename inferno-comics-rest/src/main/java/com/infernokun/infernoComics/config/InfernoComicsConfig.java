@@ -18,6 +18,17 @@ public class InfernoComicsConfig {
     private String encryptionKey;
 
     private String comicVineAPIKey;
+    // Comic Vine allows 200 requests per resource per hour; the burst is how many may go back to back.
+    // Every resource shares this one bucket, so it is stricter than Comic Vine needs it to be
+    private int comicVineRequestsPerHour = 200;
+    private int comicVineBurst = 5;
+    // Tokens background jobs leave in the bucket so requests made for a user still go straight through
+    private int comicVineInteractiveReserve = 2;
+    // How long a request made for a user waits for the rate limit before giving up; background jobs always wait.
+    // Never shorter than one refill (18s at 200/h), so 0 means exactly that
+    private int comicVineInteractiveMaxWaitSeconds = 0;
+    // Issue list pages fetched at once for one volume; all of them still wait on the rate limit
+    private int comicVinePageParallelism = 4;
 
     private String groqAPIKey;
     private String groqModel;
@@ -0,0 +1,56 @@
+package com.infernokun.infernoComics.config;
+
+import com.infernokun.infernoComics.utils.IssueSortKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills in {@code issues.issue_sort_key} for rows written before the column existed.
+ * New and updated issues get their key from the entity callbacks, so once the backlog
+ * is drained this finds nothing to do.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssueSortKeyBackfill {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int BATCH_SIZE = 500;
+
+    private record PendingIssue(long id, String issueNumber) { }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int updated = 0;
+        try {
+            List<PendingIssue> batch;
+            do {
+                batch = jdbcTemplate.query(
+                        "SELECT id, issue_number FROM issues WHERE issue_sort_key IS NULL ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new PendingIssue(rs.getLong("id"), rs.getString("issue_number")),
+                        BATCH_SIZE);
+
+                jdbcTemplate.batchUpdate(
+                        "UPDATE issues SET issue_sort_key = ? WHERE id = ?",
+                        batch.stream()
+                                .map(issue -> new Object[]{IssueSortKey.of(issue.issueNumber()), issue.id()})
+                                .toList());
+                updated += batch.size();
+            } while (batch.size() == BATCH_SIZE);
+        } catch (DataAccessException e) {
+            log.warn("Failed to backfill issue sort keys after {} rows: {}", updated, e.getMessage());
+            return;
+        }
+
+        if (updated > 0) {
+            log.info("Backfilled issue sort keys for {} issues", updated);
+        }
+    }
+}
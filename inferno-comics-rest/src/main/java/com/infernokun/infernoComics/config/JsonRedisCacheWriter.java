@@ -4,111 +4,150 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.cache.CacheStatistics;
 import org.springframework.data.redis.cache.CacheStatisticsCollector;
 import org.springframework.data.redis.cache.RedisCacheWriter;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Custom RedisCacheWriter that stores values using Redis JSON datatype
  * (JSON.SET/JSON.GET) instead of the default STRING datatype (SET/GET).
+ * Every key written is recorded in the cache's {@link RedisKeyIndex}, so clearing
+ * a cache never has to run KEYS over the whole keyspace.
+ * <p>
+ * All commands go through the shared {@link RedisJsonClient} connection; the async
+ * methods return its futures directly instead of blocking a pool thread.
+ * <p>
+ * Caches configured with a binary {@link CacheValueCodec} cannot be JSON documents, so
+ * their values are stored as plain strings instead.
+ * <p>
+ * Hits, misses, puts, evictions, payload sizes and command latency are recorded per cache
+ * name in {@link CacheMetrics}.
  */
 @Slf4j
 public class JsonRedisCacheWriter implements RedisCacheWriter {
 
-    private static final byte[] JSON_ROOT_PATH = "$".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] NX = "NX".getBytes(StandardCharsets.UTF_8);
-
-    private final RedisConnectionFactory connectionFactory;
+    private final RedisJsonClient client;
+    private final RedisKeyIndex keyIndex;
+    private final Set<String> binaryCaches;
+    private final CacheMetrics metrics;
     private CacheStatisticsCollector statisticsCollector = CacheStatisticsCollector.none();
 
-    public JsonRedisCacheWriter(RedisConnectionFactory connectionFactory) {
-        this.connectionFactory = connectionFactory;
+    public JsonRedisCacheWriter(RedisJsonClient client, RedisKeyIndex keyIndex) {
+        this(client, keyIndex, Set.of());
+    }
+
+    /**
+     * @param binaryCaches names of the caches whose values are stored as strings
+     */
+    public JsonRedisCacheWriter(RedisJsonClient client, RedisKeyIndex keyIndex, Set<String> binaryCaches) {
+        this(client, keyIndex, binaryCaches, CacheMetrics.unpublished());
+    }
+
+    public JsonRedisCacheWriter(RedisJsonClient client, RedisKeyIndex keyIndex, Set<String> binaryCaches,
+                                CacheMetrics metrics) {
+        this.client = client;
+        this.keyIndex = keyIndex;
+        this.binaryCaches = Set.copyOf(binaryCaches);
+        this.metrics = metrics;
     }
 
     @Override
     public void put(@NonNull String name, @NonNull byte[] key, @NonNull byte[] value, @Nullable Duration ttl) {
-        try (RedisConnection connection = connectionFactory.getConnection()) {
-            connection.execute("JSON.SET", key, JSON_ROOT_PATH, value);
-
-            if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
-                connection.keyCommands().expire(key, ttl.getSeconds());
-            }
+        try {
+            write(name, key, value, ttl).join();
         } catch (Exception e) {
-            log.error("Cache [{}] JSON.SET failed for key {}: {}", name, new String(key, StandardCharsets.UTF_8), e.getMessage());
+            log.error("Cache [{}] SET failed for key {}: {}", name, new String(key, StandardCharsets.UTF_8), e.getMessage());
             throw e;
         }
     }
 
     @Override
     public byte[] get(@NonNull String name, @NonNull byte[] key) {
-        try (RedisConnection connection = connectionFactory.getConnection()) {
-            byte[] result = (byte[]) connection.execute("JSON.GET", key, JSON_ROOT_PATH);
-
-            if (result == null) {
-                return null;
-            }
-
-            return unwrapJsonArray(result);
+        try {
+            return read(name, key).join();
         } catch (Exception e) {
-            log.error("Cache [{}] JSON.GET failed for key {}: {}", name, new String(key, StandardCharsets.UTF_8), e.getMessage());
+            log.error("Cache [{}] GET failed for key {}: {}", name, new String(key, StandardCharsets.UTF_8), e.getMessage());
             return null;
         }
     }
 
     @Override
     public byte[] putIfAbsent(@NonNull String name, @NonNull byte[] key, @NonNull byte[] value, @Nullable Duration ttl) {
-        try (RedisConnection connection = connectionFactory.getConnection()) {
-            Object result = connection.execute("JSON.SET", key, JSON_ROOT_PATH, value, NX);
-
-            if (result != null) {
-                // Key was set successfully (didn't exist before)
-                if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
-                    connection.keyCommands().expire(key, ttl.getSeconds());
-                }
-                return null;
+        try {
+            CompletableFuture<byte[]> existing = isBinary(name)
+                    ? client.setValueIfAbsent(key, value, ttl, name)
+                    : client.setIfAbsent(key, value, ttl, name);
+            byte[] previous = metrics.timed(name, "putIfAbsent", existing).join();
+            if (previous == null) {
+                metrics.put(name, value.length);
             }
-
-            // Key already existed, return the existing value
-            return get(name, key);
+            return previous;
         } catch (Exception e) {
-            log.error("Cache [{}] JSON.SET NX failed for key {}: {}", name, new String(key, StandardCharsets.UTF_8), e.getMessage());
+            log.error("Cache [{}] SET NX failed for key {}: {}", name, new String(key, StandardCharsets.UTF_8), e.getMessage());
             throw e;
         }
     }
 
     @Override
     public void remove(@NonNull String name, @NonNull byte[] key) {
-        try (RedisConnection connection = connectionFactory.getConnection()) {
-            connection.keyCommands().del(key);
-        }
+        Long removed = metrics.timed(name, "remove", client.delete(key, name)).join();
+        metrics.evicted(name, removed != null ? removed : 0);
     }
 
     @Override
     public void clean(@NonNull String name, @NonNull byte[] pattern) {
-        try (RedisConnection connection = connectionFactory.getConnection()) {
-            Set<byte[]> keys = connection.keyCommands().keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                connection.keyCommands().del(keys.toArray(new byte[0][]));
-            }
+        long start = System.nanoTime();
+        long removed = keyIndex.clear(name, new String(pattern, StandardCharsets.UTF_8));
+        metrics.record(name, "clean", System.nanoTime() - start);
+        metrics.evicted(name, removed);
+        log.debug("Cache [{}] cleared {} keys", name, removed);
+    }
+
+    /**
+     * Reads many entries of one cache with a single MGET or JSON.MGET. The result lines up
+     * with {@code keys}; misses and failed reads are {@code null}.
+     */
+    public List<byte[]> getAll(@NonNull String name, @NonNull List<byte[]> keys) {
+        try {
+            List<byte[]> values = metrics.timed(name, "getAll",
+                    isBinary(name) ? client.getValues(keys) : client.getAll(keys)).join();
+            values.forEach(value -> recordRead(name, value));
+            return values;
+        } catch (Exception e) {
+            log.error("Cache [{}] MGET failed for {} keys: {}", name, keys.size(), e.getMessage());
+            return Collections.nCopies(keys.size(), null);
+        }
+    }
+
+    /**
+     * Writes many entries of one cache in one pipeline.
+     */
+    public void putAll(@NonNull String name, @NonNull List<RedisJsonClient.Entry> entries) {
+        try {
+            metrics.timed(name, "putAll", isBinary(name) ? client.setValues(entries, name) : client.setAll(entries, name)).join();
+            entries.forEach(entry -> metrics.put(name, entry.value().length));
+        } catch (Exception e) {
+            log.error("Cache [{}] pipelined SET failed for {} keys: {}", name, entries.size(), e.getMessage());
+            throw e;
         }
     }
 
     @NonNull
     @Override
     public CompletableFuture<byte[]> retrieve(@NonNull String name, @NonNull byte[] key, @Nullable Duration ttl) {
-        return CompletableFuture.supplyAsync(() -> get(name, key));
+        return read(name, key);
     }
 
     @NonNull
     @Override
     public CompletableFuture<Void> store(@NonNull String name, @NonNull byte[] key, @NonNull byte[] value, @Nullable Duration ttl) {
-        return CompletableFuture.runAsync(() -> put(name, key, value, ttl));
+        return write(name, key, value, ttl);
     }
 
     @Override
@@ -129,16 +168,28 @@ public class JsonRedisCacheWriter implements RedisCacheWriter {
         return statisticsCollector.getCacheStatistics(cacheName);
     }
 
-    /**
-     * JSON.GET with $ path returns a JSON array wrapper, e.g. [{"key":"value"}].
-     * Unwrap the outer array to get the actual stored value bytes.
-     */
-    private byte[] unwrapJsonArray(byte[] result) {
-        if (result.length >= 2 && result[0] == '[' && result[result.length - 1] == ']') {
-            byte[] unwrapped = new byte[result.length - 2];
-            System.arraycopy(result, 1, unwrapped, 0, unwrapped.length);
-            return unwrapped;
+    private boolean isBinary(String name) {
+        return binaryCaches.contains(name);
+    }
+
+    private CompletableFuture<byte[]> read(String name, byte[] key) {
+        return metrics.timed(name, "get", isBinary(name) ? client.getValue(key) : client.get(key))
+                .thenApply(value -> {
+                    recordRead(name, value);
+                    return value;
+                });
+    }
+
+    private CompletableFuture<Void> write(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+        return metrics.timed(name, "put", isBinary(name) ? client.setValue(key, value, ttl, name) : client.set(key, value, ttl, name))
+                .thenRun(() -> metrics.put(name, value.length));
+    }
+
+    private void recordRead(String name, @Nullable byte[] value) {
+        if (value != null) {
+            metrics.hit(name, value.length);
+        } else {
+            metrics.miss(name);
         }
-        return result;
     }
 }
@@ -0,0 +1,74 @@
+package com.infernokun.infernoComics.config;
+
+import com.infernokun.infernoComics.utils.CacheConstants.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Short-lived record of lookups an upstream answered with "not found", so a missing record
+ * isn't asked for again on every call. Only definite answers belong here; failed calls are
+ * left to {@link com.infernokun.infernoComics.clients.UpstreamCircuitBreakers}. Entries live
+ * in {@value CacheNames#UPSTREAM_NOT_FOUND} under {@code <lookup>:<key>} and expire on their
+ * own, so nothing needs to clear them when the record turns up.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotFoundCache {
+    private final TwoTierCacheManager cacheManager;
+
+    public boolean isMissing(String lookup, Object key) {
+        try {
+            Cache cache = cacheManager.getCache(CacheNames.UPSTREAM_NOT_FOUND);
+            return cache != null && cache.get(key(lookup, key)) != null;
+        } catch (Exception e) {
+            log.warn("Failed to read not-found entry {}: {}", key(lookup, key), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * The keys among {@code keys} recently recorded as missing, in one batched read.
+     */
+    public Set<Object> missing(String lookup, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        Map<String, Object> byCacheKey = new LinkedHashMap<>();
+        keys.forEach(key -> byCacheKey.put(key(lookup, key), key));
+        try {
+            Set<Object> missing = new HashSet<>();
+            cacheManager.getAll(CacheNames.UPSTREAM_NOT_FOUND, byCacheKey.keySet())
+                    .keySet().forEach(cacheKey -> missing.add(byCacheKey.get((String) cacheKey)));
+            return missing;
+        } catch (Exception e) {
+            log.warn("Failed to read not-found entries for {}: {}", lookup, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    public void recordMissing(String lookup, Object key) {
+        recordMissing(lookup, List.of(key));
+    }
+
+    public void recordMissing(String lookup, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<String, Boolean> entries = new HashMap<>();
+        keys.forEach(key -> entries.put(key(lookup, key), Boolean.TRUE));
+        try {
+            cacheManager.putAll(CacheNames.UPSTREAM_NOT_FOUND, entries);
+        } catch (Exception e) {
+            log.warn("Failed to record not-found entries for {}: {}", lookup, e.getMessage());
+        }
+    }
+
+    private static String key(String lookup, Object key) {
+        return lookup + ":" + key;
+    }
+}
@@ -6,7 +6,17 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.infernokun.infernoComics.models.Issue;
+import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.SeriesSearchResult;
+import com.infernokun.infernoComics.services.ComicVineService;
+import com.infernokun.infernoComics.utils.CacheConstants.CacheNames;
+import com.infernokun.infernoComics.utils.CacheConstants.CacheTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -18,20 +28,31 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import lombok.extern.slf4j.Slf4j;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    // Smile values at least this large are LZ4-compressed
+    private static final int COMPRESSION_THRESHOLD_BYTES = 8 * 1024;
+
     @Value("${spring.redis.host}")
     private String redisHost;
 
@@ -70,20 +91,37 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        ObjectMapper redisMapper = new ObjectMapper();
-        redisMapper.registerModule(new JavaTimeModule());
-        redisMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        redisMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        redisMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        redisMapper.activateDefaultTyping(
-                redisMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
+    public RedisKeyIndex redisKeyIndex(RedisConnectionFactory redisConnectionFactory) {
+        return new RedisKeyIndex(redisConnectionFactory);
+    }
+
+    @Bean
+    public CacheDependencyIndex cacheDependencyIndex(RedisConnectionFactory redisConnectionFactory) {
+        // Outlives every tracked cache's entry TTL, so a live entry never loses its record
+        return new CacheDependencyIndex(redisConnectionFactory, Duration.ofDays(1));
+    }
+
+    @Bean
+    public CacheAccessTracker cacheAccessTracker(RedisConnectionFactory redisConnectionFactory) {
+        // Only series-by-id has enough distinct keys to need ranking; the rest are single entries
+        return new CacheAccessTracker(redisConnectionFactory, Set.of(CacheNames.SERIES), 1_000);
+    }
+
+    @Bean
+    public RedisJsonClient redisJsonClient(LettuceConnectionFactory redisConnectionFactory) {
+        return new RedisJsonClient(redisConnectionFactory);
+    }
 
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisJsonClient redisJsonClient,
+                                           StringRedisTemplate stringRedisTemplate,
+                                           RedisKeyIndex redisKeyIndex,
+                                           CacheDependencyIndex cacheDependencyIndex,
+                                           CacheAccessTracker cacheAccessTracker,
+                                           MeterRegistry meterRegistry,
+                                           @Qualifier("taskExecutor") Executor taskExecutor) {
         GenericJackson2JsonRedisSerializer jsonRedisSerializer =
-                new GenericJackson2JsonRedisSerializer(redisMapper);
+                new GenericJackson2JsonRedisSerializer(cacheJsonMapper());
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1))
@@ -114,11 +152,136 @@ public class RedisConfig {
                 .entryTtl(Duration.ofMinutes(30))
                 .prefixCacheNameWith("users:collections:"));
 
-        return RedisCacheManager.builder(new JsonRedisCacheWriter(redisConnectionFactory))
+        // Comic Vine search results are served for a day, but refreshed in the background after an hour
+        cacheConfigurations.put("comic-vine-series", defaultConfig
+                .entryTtl(Duration.ofDays(1)));
+
+        // Lookups an upstream answered with "not found"; short, so new records show up soon
+        cacheConfigurations.put(CacheNames.UPSTREAM_NOT_FOUND, defaultConfig
+                .entryTtl(Duration.ofMinutes(15)));
+
+        // Large list values are stored in a binary codec instead of typed JSON. Both codecs
+        // still read entries written in JSON, so switching a cache here needs no flush.
+        ObjectMapper smileMapper = cacheSmileMapper();
+        CacheValueCodec compactCodec = new CacheValueCodec(smileMapper, jsonRedisSerializer, 0);
+        CacheValueCodec compressedCodec = new CacheValueCodec(smileMapper, jsonRedisSerializer, COMPRESSION_THRESHOLD_BYTES);
+
+        Map<String, CacheValueCodec> binaryCodecs = new HashMap<>();
+        binaryCodecs.put(CacheNames.SERIES_LIST, compactCodec);
+        binaryCodecs.put("comic-vine-series", compactCodec);
+        binaryCodecs.put(CacheNames.ISSUES_BY_SERIES, compressedCodec);
+        binaryCodecs.put("comic-vine-issues", compressedCodec);
+        binaryCodecs.put("comic-vine-issues-by-series", compressedCodec);
+        binaryCodecs.put("comic-vine-volume-issues", compressedCodec);
+        binaryCodecs.forEach((name, codec) -> cacheConfigurations.put(name, cacheConfigurations.getOrDefault(name, defaultConfig)
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(codec))));
+
+        JsonRedisCacheWriter cacheWriter = new JsonRedisCacheWriter(redisJsonClient, redisKeyIndex, binaryCodecs.keySet(),
+                new CacheMetrics(meterRegistry));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
                 .build();
+        redisCacheManager.initializeCaches();
+
+        // In-process L1 for hot, read-mostly caches. Values are shared between callers, so only
+        // caches whose results are never modified in place belong here.
+        Map<String, TwoTierCacheManager.LocalTier> localTiers = new HashMap<>();
+        localTiers.put(CacheNames.SERIES, new TwoTierCacheManager.LocalTier(2_000, Duration.ofMinutes(5)));
+        localTiers.put(CacheNames.SERIES_LIST, new TwoTierCacheManager.LocalTier(20_000, Duration.ofMinutes(1)));
+        localTiers.put("collection-stats", new TwoTierCacheManager.LocalTier(100, Duration.ofMinutes(1)));
+        localTiers.put("issue-stats", new TwoTierCacheManager.LocalTier(100, Duration.ofMinutes(1)));
+        localTiers.put("series-stats", new TwoTierCacheManager.LocalTier(100, Duration.ofMinutes(1)));
+
+        // Comic Vine responses only change when refreshed, so they can stay local longer
+        localTiers.put("comic-vine-series", new TwoTierCacheManager.LocalTier(20_000, Duration.ofMinutes(10)));
+        localTiers.put("comic-vine-issues", new TwoTierCacheManager.LocalTier(50_000, Duration.ofMinutes(10)));
+
+        // Expensive loads behind @Cacheable(sync = true). Concurrent misses share one load; past the
+        // soft TTL the old value is served while one background load replaces it.
+        Map<String, TwoTierCacheManager.LoadPolicy> loadPolicies = new HashMap<>();
+        loadPolicies.put(CacheNames.SERIES_LIST, TwoTierCacheManager.LoadPolicy.staleWhileRevalidate(Duration.ofMinutes(10)));
+        loadPolicies.put("collection-stats", TwoTierCacheManager.LoadPolicy.staleWhileRevalidate(Duration.ofMinutes(5)));
+        loadPolicies.put("comic-vine-series", TwoTierCacheManager.LoadPolicy.staleWhileRevalidate(Duration.ofHours(1)));
+
+        // Transactions are handled around both tiers, so L1 never sees a write that rolls back
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager, localTiers, loadPolicies,
+                stringRedisTemplate, taskExecutor);
+        cacheManager.setTransactionAware(true);
+        cacheManager.setDependencyTracking(cacheDependencyIndex, cacheDependencyTaggers());
+        cacheManager.setAccessTracker(cacheAccessTracker);
+        return cacheManager;
+    }
+
+    /**
+     * Per-series caches whose entries are evicted by tag when issues change, instead of being
+     * cleared outright. Keys are the string form of the cache key.
+     */
+    public static Map<String, CacheDependencyIndex.Tagger> cacheDependencyTaggers() {
+        Map<String, CacheDependencyIndex.Tagger> taggers = new HashMap<>();
+        taggers.put(CacheNames.ISSUES_BY_SERIES, key -> Set.of(CacheTags.series(key)));
+        taggers.put(CacheNames.SERIES, key -> Set.of(CacheTags.series(key)));
+        return taggers;
+    }
+
+    /**
+     * Mapper behind the typed JSON cache values. Every non-final type carries its class name.
+     */
+    public static ObjectMapper cacheJsonMapper() {
+        ObjectMapper redisMapper = configureCacheMapper(new ObjectMapper());
+        redisMapper.activateDefaultTyping(
+                redisMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return redisMapper;
+    }
+
+    /**
+     * Mapper behind {@link CacheValueCodec}: the same settings over Smile, with the registered
+     * types written as short aliases and repeated short strings written once per value.
+     */
+    public static ObjectMapper cacheSmileMapper() {
+        ObjectMapper smileMapper = configureCacheMapper(new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build()));
+        smileMapper.setDefaultTyping(cacheTypeRegistry().defaultTyping(smileMapper.getPolymorphicTypeValidator()));
+        return smileMapper;
+    }
+
+    // Aliases are stored with the values; add new ones, never change existing ones
+    private static CacheTypeRegistry cacheTypeRegistry() {
+        return new CacheTypeRegistry()
+                .register("list", ArrayList.class)
+                .register("map", HashMap.class)
+                .register("linked-map", LinkedHashMap.class)
+                .register("set", HashSet.class)
+                .register("stamped", TimestampedValue.class)
+                .register("series", Series.class)
+                .register("series.folder", Series.FolderMapping.class)
+                .register("series.search", SeriesSearchResult.class)
+                .register("issue", Issue.class)
+                .register("issue.variant", Issue.VariantCover.class)
+                .register("cv.series", ComicVineService.ComicVineSeriesDto.class)
+                .register("cv.issue", ComicVineService.ComicVineIssueDto.class)
+                .register("cv.issue.variant", ComicVineService.ComicVineIssueDto.VariantCover.class);
+    }
+
+    private static ObjectMapper configureCacheMapper(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        return mapper;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 
     @Bean
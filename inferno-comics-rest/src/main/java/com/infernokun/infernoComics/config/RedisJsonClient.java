@@ -0,0 +1,314 @@
+package com.infernokun.infernoComics.config;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.output.ValueOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis JSON commands on one long-lived Lettuce connection shared by every caller. Lettuce
+ * multiplexes concurrent commands over it, and because nothing waits on a reply before the
+ * next command is written, a batch of calls goes out back to back as a single pipeline.
+ * <p>
+ * Writes run as a small server-side script so the value, its expiry and its
+ * {@link RedisKeyIndex} entry land together or not at all.
+ * <p>
+ * The {@code *Value} methods do the same for plain string values, used by caches with a
+ * binary {@link CacheValueCodec}. Their single-key reads also return an entry still stored
+ * as a JSON document, so a cache can switch codecs without being cleared first.
+ */
+@Slf4j
+public class RedisJsonClient implements DisposableBean {
+
+    private static final byte[] JSON_ROOT_PATH = "$".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NO_INDEX = new byte[0];
+
+    // KEYS: entry, index set, index registry; ARGV: value, ttl seconds, index name
+    private static final String SET_SCRIPT = """
+            redis.call('JSON.SET', KEYS[1], '$', ARGV[1])
+            if tonumber(ARGV[2]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end
+            if #KEYS > 1 then
+                redis.call('SADD', KEYS[2], KEYS[1])
+                redis.call('SADD', KEYS[3], ARGV[3])
+            end
+            return 1
+            """;
+
+    // Same layout; returns the existing document when the key is already set
+    private static final String SET_IF_ABSENT_SCRIPT = """
+            if not redis.call('JSON.SET', KEYS[1], '$', ARGV[1], 'NX') then
+                return redis.call('JSON.GET', KEYS[1], '$')
+            end
+            if tonumber(ARGV[2]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end
+            if #KEYS > 1 then
+                redis.call('SADD', KEYS[2], KEYS[1])
+                redis.call('SADD', KEYS[3], ARGV[3])
+            end
+            return false
+            """;
+
+    // Same layouts for string values. Reads return {type, value} so a JSON document left over
+    // from before the cache switched codecs can still be returned (and unwrapped) as-is.
+    private static final String SET_VALUE_SCRIPT = """
+            redis.call('SET', KEYS[1], ARGV[1])
+            if tonumber(ARGV[2]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end
+            if #KEYS > 1 then
+                redis.call('SADD', KEYS[2], KEYS[1])
+                redis.call('SADD', KEYS[3], ARGV[3])
+            end
+            return 1
+            """;
+
+    private static final String GET_VALUE_SCRIPT = """
+            local kind = redis.call('TYPE', KEYS[1]).ok
+            if kind == 'string' then return {kind, redis.call('GET', KEYS[1])} end
+            if kind == 'ReJSON-RL' then return {kind, redis.call('JSON.GET', KEYS[1], '$')} end
+            return false
+            """;
+
+    private static final String SET_VALUE_IF_ABSENT_SCRIPT = """
+            if not redis.call('SET', KEYS[1], ARGV[1], 'NX') then
+                local kind = redis.call('TYPE', KEYS[1]).ok
+                if kind == 'string' then return {kind, redis.call('GET', KEYS[1])} end
+                if kind == 'ReJSON-RL' then return {kind, redis.call('JSON.GET', KEYS[1], '$')} end
+                return false
+            end
+            if tonumber(ARGV[2]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end
+            if #KEYS > 1 then
+                redis.call('SADD', KEYS[2], KEYS[1])
+                redis.call('SADD', KEYS[3], ARGV[3])
+            end
+            return false
+            """;
+
+    private static final byte[] JSON_TYPE = "ReJSON-RL".getBytes(StandardCharsets.US_ASCII);
+
+    private enum JsonCommand implements ProtocolKeyword {
+        GET("JSON.GET"), MGET("JSON.MGET");
+
+        private final byte[] bytes;
+
+        JsonCommand(String command) {
+            this.bytes = command.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return bytes;
+        }
+    }
+
+    public record Entry(byte[] key, byte[] value, @Nullable Duration ttl) { }
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final Map<String, String> scriptDigests = new ConcurrentHashMap<>();
+    private volatile StatefulRedisConnection<byte[], byte[]> connection;
+
+    public RedisJsonClient(LettuceConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    public CompletableFuture<byte[]> get(byte[] key) {
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey(key).add(JSON_ROOT_PATH);
+        return commands().dispatch(JsonCommand.GET, new ValueOutput<>(ByteArrayCodec.INSTANCE), args)
+                .toCompletableFuture()
+                .thenApply(RedisJsonClient::unwrapJsonArray);
+    }
+
+    /**
+     * Reads many documents with one {@code JSON.MGET}. The result lines up with {@code keys};
+     * missing entries are {@code null}.
+     */
+    public CompletableFuture<List<byte[]>> getAll(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE);
+        keys.forEach(args::addKey);
+        args.add(JSON_ROOT_PATH);
+
+        return commands().dispatch(JsonCommand.MGET, new ValueListOutput<>(ByteArrayCodec.INSTANCE), args)
+                .toCompletableFuture()
+                .thenApply(values -> {
+                    List<byte[]> unwrapped = new ArrayList<>(values.size());
+                    values.forEach(value -> unwrapped.add(unwrapJsonArray(value)));
+                    return unwrapped;
+                });
+    }
+
+    public CompletableFuture<Void> set(byte[] key, byte[] value, @Nullable Duration ttl, @Nullable String index) {
+        return runScript(SET_SCRIPT, ScriptOutputType.INTEGER, scriptKeys(key, index), scriptArgs(value, ttl, index))
+                .thenApply(result -> null);
+    }
+
+    /**
+     * Writes every entry in one pipeline and completes when all of them have been applied.
+     */
+    public CompletableFuture<Void> setAll(List<Entry> entries, @Nullable String index) {
+        CompletableFuture<?>[] writes = entries.stream()
+                .map(entry -> set(entry.key(), entry.value(), entry.ttl(), index))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(writes);
+    }
+
+    /**
+     * Stores the value only if the key is absent. Completes with the existing value when
+     * there was one, otherwise with {@code null}.
+     */
+    public CompletableFuture<byte[]> setIfAbsent(byte[] key, byte[] value, @Nullable Duration ttl, @Nullable String index) {
+        return runScript(SET_IF_ABSENT_SCRIPT, ScriptOutputType.VALUE, scriptKeys(key, index), scriptArgs(value, ttl, index))
+                .thenApply(existing -> unwrapJsonArray((byte[]) existing));
+    }
+
+    /**
+     * Reads a string value, or a JSON document written before the cache switched codecs.
+     */
+    public CompletableFuture<byte[]> getValue(byte[] key) {
+        return runScript(GET_VALUE_SCRIPT, ScriptOutputType.MULTI, new byte[][]{key}, new byte[0][])
+                .thenApply(RedisJsonClient::typedValue);
+    }
+
+    /**
+     * Reads many string values with one {@code MGET}. The result lines up with {@code keys};
+     * missing entries, and entries still stored as JSON documents, are {@code null}.
+     */
+    public CompletableFuture<List<byte[]>> getValues(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return commands().mget(keys.toArray(new byte[0][]))
+                .toCompletableFuture()
+                .thenApply(values -> {
+                    List<byte[]> result = new ArrayList<>(values.size());
+                    values.forEach(value -> result.add(value.getValueOrElse(null)));
+                    return result;
+                });
+    }
+
+    public CompletableFuture<Void> setValue(byte[] key, byte[] value, @Nullable Duration ttl, @Nullable String index) {
+        return runScript(SET_VALUE_SCRIPT, ScriptOutputType.INTEGER, scriptKeys(key, index), scriptArgs(value, ttl, index))
+                .thenApply(result -> null);
+    }
+
+    public CompletableFuture<Void> setValues(List<Entry> entries, @Nullable String index) {
+        CompletableFuture<?>[] writes = entries.stream()
+                .map(entry -> setValue(entry.key(), entry.value(), entry.ttl(), index))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(writes);
+    }
+
+    public CompletableFuture<byte[]> setValueIfAbsent(byte[] key, byte[] value, @Nullable Duration ttl, @Nullable String index) {
+        return runScript(SET_VALUE_IF_ABSENT_SCRIPT, ScriptOutputType.MULTI, scriptKeys(key, index), scriptArgs(value, ttl, index))
+                .thenApply(RedisJsonClient::typedValue);
+    }
+
+    public CompletableFuture<Long> delete(byte[] key, @Nullable String index) {
+        RedisAsyncCommands<byte[], byte[]> commands = commands();
+        CompletableFuture<Long> deleted = commands.del(key).toCompletableFuture();
+        if (index == null) {
+            return deleted;
+        }
+        return deleted.thenCombine(commands.srem(RedisKeyIndex.indexKey(index), key).toCompletableFuture(), (count, removed) -> count);
+    }
+
+    @Override
+    public void destroy() {
+        StatefulRedisConnection<byte[], byte[]> current = connection;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private CompletableFuture<Object> runScript(String script, ScriptOutputType type, byte[][] keys, byte[][] args) {
+        RedisAsyncCommands<byte[], byte[]> commands = commands();
+        String digest = scriptDigests.computeIfAbsent(script, commands::digest);
+
+        // EVAL loads the script into the server cache, so later calls go back to EVALSHA
+        return commands.<Object>evalsha(digest, type, keys, args)
+                .toCompletableFuture()
+                .exceptionallyCompose(e -> isNoScript(e)
+                        ? commands.<Object>eval(script.getBytes(StandardCharsets.UTF_8), type, keys, args).toCompletableFuture()
+                        : CompletableFuture.failedFuture(e));
+    }
+
+    private RedisAsyncCommands<byte[], byte[]> commands() {
+        StatefulRedisConnection<byte[], byte[]> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                if (connection == null) {
+                    RedisClient client = (RedisClient) connectionFactory.getRequiredNativeClient();
+                    StatefulRedisConnection<byte[], byte[]> created = client.connect(ByteArrayCodec.INSTANCE);
+                    if (connectionFactory.getDatabase() != 0) {
+                        created.sync().select(connectionFactory.getDatabase());
+                    }
+                    connection = created;
+                    log.info("Opened shared Redis JSON connection");
+                }
+                current = connection;
+            }
+        }
+        return current.async();
+    }
+
+    private static byte[][] scriptKeys(byte[] key, @Nullable String index) {
+        if (index == null) {
+            return new byte[][]{key};
+        }
+        return new byte[][]{key, RedisKeyIndex.indexKey(index), RedisKeyIndex.INDEX_NAMES_KEY};
+    }
+
+    private static byte[][] scriptArgs(byte[] value, @Nullable Duration ttl, @Nullable String index) {
+        long seconds = ttl != null && !ttl.isNegative() ? ttl.toSeconds() : 0;
+        byte[] indexName = index != null ? index.getBytes(StandardCharsets.UTF_8) : NO_INDEX;
+        return new byte[][]{value, Long.toString(seconds).getBytes(StandardCharsets.US_ASCII), indexName};
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage() != null && cause.getMessage().startsWith("NOSCRIPT");
+    }
+
+    // Unpacks the {type, value} reply of the string-value scripts
+    @Nullable
+    private static byte[] typedValue(@Nullable Object reply) {
+        if (!(reply instanceof List<?> parts) || parts.size() != 2 || !(parts.get(1) instanceof byte[] value)) {
+            return null;
+        }
+        return parts.get(0) instanceof byte[] type && Arrays.equals(type, JSON_TYPE) ? unwrapJsonArray(value) : value;
+    }
+
+    /**
+     * JSON.GET with $ path returns a JSON array wrapper, e.g. [{"key":"value"}].
+     * Unwrap the outer array to get the actual stored value bytes.
+     */
+    @Nullable
+    static byte[] unwrapJsonArray(@Nullable byte[] result) {
+        if (result != null && result.length >= 2 && result[0] == '[' && result[result.length - 1] == ']') {
+            byte[] unwrapped = new byte[result.length - 2];
+            System.arraycopy(result, 1, unwrapped, 0, unwrapped.length);
+            return unwrapped;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package com.infernokun.infernoComics.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a Redis set of the keys written under each cache name so a cache can be cleared or
+ * counted without {@code KEYS}. Clearing walks the set with {@code SSCAN} and removes entries
+ * with {@code UNLINK} in fixed-size batches; counting is a single {@code SCARD}.
+ * <p>
+ * Keys written before an index existed are picked up once by a cursor-based {@code SCAN} the
+ * first time the cache is cleared, after which the index is marked complete. Entries that
+ * expire through their TTL stay in the set until {@link #prune(String)} drops them, so
+ * {@link #size(String)} can run slightly high between prunes.
+ */
+@Slf4j
+public class RedisKeyIndex {
+
+    private static final String INDEX_PREFIX = "cache-index:";
+    static final byte[] INDEX_NAMES_KEY = (INDEX_PREFIX + "names").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMPLETE = "1".getBytes(StandardCharsets.UTF_8);
+
+    static final int BATCH_SIZE = 500;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Set<String> registeredIndexes = ConcurrentHashMap.newKeySet();
+
+    public RedisKeyIndex(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    public void track(String index, String key) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            track(connection, index, key.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public void untrack(String index, String key) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            untrack(connection, index, key.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void track(RedisConnection connection, String index, byte[] key) {
+        if (registeredIndexes.add(index)) {
+            connection.setCommands().sAdd(INDEX_NAMES_KEY, index.getBytes(StandardCharsets.UTF_8));
+        }
+        connection.setCommands().sAdd(indexKey(index), key);
+    }
+
+    private void untrack(RedisConnection connection, String index, byte[] key) {
+        connection.setCommands().sRem(indexKey(index), key);
+    }
+
+    /**
+     * Removes every key in the index that matches the glob pattern and returns how many were
+     * removed. The first clear of an index that has never been marked complete also scans
+     * the keyspace for the pattern to catch keys written before indexing started.
+     */
+    public long clear(String index, String pattern) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return clear(connection, index, pattern.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private long clear(RedisConnection connection, String index, byte[] pattern) {
+        byte[] indexKey = indexKey(index);
+        ScanOptions options = ScanOptions.scanOptions().match(new String(pattern, StandardCharsets.UTF_8)).count(BATCH_SIZE).build();
+        long removed = 0;
+
+        List<byte[]> batch = new ArrayList<>(BATCH_SIZE);
+        try (Cursor<byte[]> members = connection.setCommands().sScan(indexKey, options)) {
+            while (members.hasNext()) {
+                batch.add(members.next());
+                if (batch.size() == BATCH_SIZE) {
+                    removed += unlinkMembers(connection, indexKey, batch);
+                }
+            }
+        }
+        removed += unlinkMembers(connection, indexKey, batch);
+
+        byte[] completeKey = completeKey(index);
+        if (!Boolean.TRUE.equals(connection.keyCommands().exists(completeKey))) {
+            try (Cursor<byte[]> keys = connection.keyCommands().scan(options)) {
+                while (keys.hasNext()) {
+                    batch.add(keys.next());
+                    if (batch.size() == BATCH_SIZE) {
+                        removed += unlink(connection, batch);
+                    }
+                }
+            }
+            removed += unlink(connection, batch);
+            connection.stringCommands().set(completeKey, COMPLETE);
+            log.info("Cache index {} backfilled by keyspace scan", index);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Number of keys recorded for the index. Constant time, but counts expired entries that
+     * have not been pruned yet.
+     */
+    public long size(String index) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Long size = connection.setCommands().sCard(indexKey(index));
+            return size != null ? size : 0;
+        }
+    }
+
+    /**
+     * Drops index entries whose keys no longer exist, typically because their TTL ran out.
+     * Returns how many entries were dropped.
+     */
+    public long prune(String index) {
+        byte[] indexKey = indexKey(index);
+        long pruned = 0;
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            List<byte[]> batch = new ArrayList<>(BATCH_SIZE);
+            try (Cursor<byte[]> members = connection.setCommands().sScan(indexKey, ScanOptions.scanOptions().count(BATCH_SIZE).build())) {
+                while (members.hasNext()) {
+                    batch.add(members.next());
+                    if (batch.size() == BATCH_SIZE) {
+                        pruned += pruneBatch(connection, indexKey, batch);
+                    }
+                }
+            }
+            pruned += pruneBatch(connection, indexKey, batch);
+        }
+        return pruned;
+    }
+
+    public Set<String> indexNames() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Set<byte[]> names = connection.setCommands().sMembers(INDEX_NAMES_KEY);
+            Set<String> result = new TreeSet<>();
+            if (names != null) {
+                names.forEach(name -> result.add(new String(name, StandardCharsets.UTF_8)));
+            }
+            return result;
+        }
+    }
+
+    private long unlinkMembers(RedisConnection connection, byte[] indexKey, List<byte[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        byte[][] keys = batch.toArray(new byte[0][]);
+        connection.setCommands().sRem(indexKey, keys);
+        return unlink(connection, batch);
+    }
+
+    private long unlink(RedisConnection connection, List<byte[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = connection.keyCommands().unlink(batch.toArray(new byte[0][]));
+        batch.clear();
+        return unlinked != null ? unlinked : 0;
+    }
+
+    private long pruneBatch(RedisConnection connection, byte[] indexKey, List<byte[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        connection.openPipeline();
+        batch.forEach(key -> connection.keyCommands().exists(key));
+        List<Object> exists = connection.closePipeline();
+
+        List<byte[]> gone = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (!keyExists(exists.get(i))) {
+                gone.add(batch.get(i));
+            }
+        }
+        if (!gone.isEmpty()) {
+            connection.setCommands().sRem(indexKey, gone.toArray(new byte[0][]));
+        }
+        batch.clear();
+        return gone.size();
+    }
+
+    // Pipelined EXISTS replies come back as a count or a flag depending on the driver path
+    private static boolean keyExists(Object reply) {
+        if (reply instanceof Number count) {
+            return count.longValue() > 0;
+        }
+        return Boolean.TRUE.equals(reply);
+    }
+
+    static byte[] indexKey(String index) {
+        return (INDEX_PREFIX + index).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] completeKey(String index) {
+        return (INDEX_PREFIX + index + ":complete").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package com.infernokun.infernoComics.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a cache with a soft TTL stores instead of the bare value, so every instance can tell
+ * how old an entry is. Only {@link TwoTierCache} wraps and unwraps these; callers never see
+ * them. Not a record: default typing skips final classes, and the wrapper is a root value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimestampedValue {
+    private Object value;
+    private long loadedAt;
+}
@@ -0,0 +1,503 @@
+package com.infernokun.infernoComics.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A cache that answers from an in-process Caffeine map (L1) before falling back to the shared
+ * Redis cache (L2). Writes always go to Redis first; the local copy is refreshed and every other
+ * instance is told to drop its copy of the key.
+ * <p>
+ * L1 hands out the same instance to every caller, so only caches whose values are treated as
+ * read-only should be given an L1. Caches without one pass straight through to Redis and only
+ * contribute their L2 hit counts.
+ * <p>
+ * With a {@link TwoTierCacheManager.LoadPolicy}, concurrent misses for one key in
+ * {@link #get(Object, Callable)} share a single load, and with a soft TTL an older entry is
+ * still returned while one background load replaces it. Coalescing is per instance.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    /**
+     * Callbacks to the owning manager, keyed by the string form of the cache key.
+     */
+    public interface Listener {
+        /**
+         * A key changed or was removed, or the whole cache was cleared when {@code localKey}
+         * is null. Only reported for caches with an L1.
+         */
+        void invalidated(String cacheName, @Nullable String localKey);
+
+        /**
+         * A value was stored under the key.
+         */
+        default void written(String cacheName, String localKey) {
+        }
+
+        /**
+         * The key was looked up, whether or not it was cached.
+         */
+        default void read(String cacheName, String localKey) {
+        }
+    }
+
+    private final String name;
+    private final Cache redisCache;
+    @Nullable
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Listener listener;
+    @Nullable
+    private final TwoTierCacheManager.LoadPolicy loadPolicy;
+    private final Executor refreshExecutor;
+    private final Map<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    public TwoTierCache(String name, Cache redisCache,
+                        @Nullable com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        Listener listener) {
+        this(name, redisCache, localCache, listener, null, Runnable::run);
+    }
+
+    public TwoTierCache(String name, Cache redisCache,
+                        @Nullable com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        Listener listener,
+                        @Nullable TwoTierCacheManager.LoadPolicy loadPolicy, Executor refreshExecutor) {
+        this.name = name;
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.listener = listener;
+        this.loadPolicy = loadPolicy;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        listener.read(name, localKey(key));
+        if (localCache != null) {
+            Object local = localCache.getIfPresent(localKey(key));
+            if (local != null) {
+                return new SimpleValueWrapper(unwrap(local));
+            }
+        }
+
+        ValueWrapper wrapper = redisCache.get(key);
+        recordRedisLookup(wrapper != null);
+        if (wrapper == null || wrapper.get() == null) {
+            return wrapper;
+        }
+        if (localCache != null) {
+            localCache.put(localKey(key), wrapper.get());
+        }
+        return new SimpleValueWrapper(unwrap(wrapper.get()));
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value for key '" + key + "' in cache '" + name
+                    + "' is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        listener.read(name, localKey(key));
+        if (loadPolicy != null) {
+            return getWithPolicy(key, valueLoader);
+        }
+
+        if (localCache != null) {
+            Object local = localCache.getIfPresent(localKey(key));
+            if (local != null) {
+                return (T) local;
+            }
+        }
+
+        boolean[] loaded = new boolean[1];
+        T value = redisCache.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        recordRedisLookup(!loaded[0]);
+
+        if (value != null && localCache != null) {
+            localCache.put(localKey(key), value);
+        }
+        if (value != null && loaded[0]) {
+            listener.written(name, localKey(key));
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getWithPolicy(Object key, Callable<T> valueLoader) {
+        Object stored = null;
+        if (localCache != null) {
+            stored = localCache.getIfPresent(localKey(key));
+        }
+        if (stored == null) {
+            ValueWrapper wrapper = redisCache.get(key);
+            stored = wrapper != null ? wrapper.get() : null;
+            recordRedisLookup(stored != null);
+            if (stored != null && localCache != null) {
+                localCache.put(localKey(key), stored);
+            }
+        }
+
+        if (stored != null) {
+            if (isStale(stored)) {
+                staleServed.increment();
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) unwrap(stored);
+        }
+        return (T) loadOnce(key, valueLoader);
+    }
+
+    // The first caller loads; anyone else missing the same key meanwhile waits for its result
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> running = loads.putIfAbsent(localKey(key), load);
+        if (running != null) {
+            coalescedLoads.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            Object value = valueLoader.call();
+            if (value != null) {
+                put(key, value);
+            }
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loads.remove(localKey(key), load);
+        }
+    }
+
+    // A refresh that fails or is rejected leaves the stale entry in place until its hard TTL
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (loads.putIfAbsent(localKey(key), refresh) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    if (value != null) {
+                        put(key, value);
+                    }
+                    refresh.complete(value);
+                } catch (Exception e) {
+                    log.warn("Background refresh of key '{}' in cache '{}' failed: {}", key, name, e.getMessage());
+                    refresh.completeExceptionally(e);
+                } finally {
+                    loads.remove(localKey(key), refresh);
+                }
+            });
+            refreshes.increment();
+        } catch (RejectedExecutionException e) {
+            loads.remove(localKey(key), refresh);
+            refresh.completeExceptionally(e);
+            log.debug("Background refresh of key '{}' in cache '{}' rejected", key, name);
+        }
+    }
+
+    /**
+     * Looks up many keys at once. Local hits are answered in process and the rest are read
+     * from Redis with a single multi-get. Keys with no cached value are left out of the result.
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        List<Object> remaining = new ArrayList<>();
+        for (Object key : keys) {
+            Object local = localCache != null ? localCache.getIfPresent(localKey(key)) : null;
+            if (local != null) {
+                found.put(key, unwrap(local));
+            } else {
+                remaining.add(key);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        if (!(redisCache instanceof RedisCache rc) || !(rc.getNativeCache() instanceof JsonRedisCacheWriter writer)) {
+            remaining.forEach(key -> {
+                ValueWrapper wrapper = get(key);
+                if (wrapper != null && wrapper.get() != null) {
+                    found.put(key, wrapper.get());
+                }
+            });
+            return found;
+        }
+
+        RedisCacheConfiguration config = rc.getCacheConfiguration();
+        List<byte[]> values = writer.getAll(name, remaining.stream().map(key -> redisKey(config, key)).toList());
+        for (int i = 0; i < remaining.size(); i++) {
+            Object key = remaining.get(i);
+            byte[] bytes = values.get(i);
+            recordRedisLookup(bytes != null);
+            if (bytes == null) {
+                continue;
+            }
+            Object value = config.getValueSerializationPair().read(ByteBuffer.wrap(bytes));
+            if (value != null) {
+                found.put(key, unwrap(value));
+                if (localCache != null) {
+                    localCache.put(localKey(key), value);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Stores many entries at once, sent to Redis as one pipeline. Null values are skipped.
+     */
+    public void putAll(Map<?, ?> entries) {
+        if (!(redisCache instanceof RedisCache rc) || !(rc.getNativeCache() instanceof JsonRedisCacheWriter writer)) {
+            entries.forEach(this::put);
+            return;
+        }
+
+        RedisCacheConfiguration config = rc.getCacheConfiguration();
+        List<RedisJsonClient.Entry> serialized = new ArrayList<>(entries.size());
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                Object stored = wrap(value);
+                serialized.add(new RedisJsonClient.Entry(
+                        redisKey(config, key),
+                        ByteUtils.getBytes(config.getValueSerializationPair().write(stored)),
+                        config.getTtlFunction().getTimeToLive(key, stored)));
+            }
+        });
+        writer.putAll(name, serialized);
+
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                if (localCache != null) {
+                    localCache.put(localKey(key), wrap(value));
+                    listener.invalidated(name, localKey(key));
+                }
+                listener.written(name, localKey(key));
+            }
+        });
+    }
+
+    // Async lookups are rare here and go straight to Redis. Values they load are stored without
+    // a timestamp, so a soft-TTL cache treats them as stale on the next synchronous read.
+    @Override
+    @Nullable
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> result = redisCache.retrieve(key);
+        return result == null ? null : result.thenApply(value -> value instanceof ValueWrapper wrapper
+                ? new SimpleValueWrapper(unwrap(wrapper.get()))
+                : unwrap(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return redisCache.retrieve(key, valueLoader).thenApply(value -> (T) unwrap(value));
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        Object stored = value != null ? wrap(value) : null;
+        redisCache.put(key, stored);
+        if (localCache != null) {
+            if (stored != null) {
+                localCache.put(localKey(key), stored);
+            } else {
+                localCache.invalidate(localKey(key));
+            }
+            listener.invalidated(name, localKey(key));
+        }
+        if (stored != null) {
+            listener.written(name, localKey(key));
+        }
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value != null ? wrap(value) : null);
+        evictLocal(key);
+        if (existing == null && value != null) {
+            listener.written(name, localKey(key));
+        }
+        return existing != null ? new SimpleValueWrapper(unwrap(existing.get())) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        evictLocal(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        evictLocal(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = redisCache.invalidate();
+        clearLocal();
+        return invalidated;
+    }
+
+    /**
+     * Drops a key from L1 only. Called when another instance reports that it changed the key.
+     */
+    void invalidateLocal(String localKey) {
+        if (localCache != null) {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    /**
+     * Empties L1 only. Called when another instance reports that it cleared the cache.
+     */
+    void invalidateAllLocal() {
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+    }
+
+    boolean hasLocalTier() {
+        return localCache != null;
+    }
+
+    Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (localCache != null) {
+            var local = localCache.stats();
+            stats.put("l1Hits", local.hitCount());
+            stats.put("l1Misses", local.missCount());
+            stats.put("l1HitRatio", local.hitRate());
+            stats.put("l1Evictions", local.evictionCount());
+            stats.put("l1Size", localCache.estimatedSize());
+        }
+        long hits = redisHits.sum();
+        long misses = redisMisses.sum();
+        stats.put("l2Hits", hits);
+        stats.put("l2Misses", misses);
+        stats.put("l2HitRatio", hits + misses == 0 ? 1.0 : (double) hits / (hits + misses));
+        if (loadPolicy != null) {
+            stats.put("coalescedLoads", coalescedLoads.sum());
+            stats.put("staleServed", staleServed.sum());
+            stats.put("backgroundRefreshes", refreshes.sum());
+        }
+        return stats;
+    }
+
+    private void evictLocal(Object key) {
+        if (localCache != null) {
+            localCache.invalidate(localKey(key));
+            listener.invalidated(name, localKey(key));
+        }
+    }
+
+    private void clearLocal() {
+        if (localCache != null) {
+            localCache.invalidateAll();
+            listener.invalidated(name, null);
+        }
+    }
+
+    private Object wrap(Object value) {
+        return loadPolicy != null && loadPolicy.softTtl() != null
+                ? new TimestampedValue(value, System.currentTimeMillis())
+                : value;
+    }
+
+    @Nullable
+    private static Object unwrap(@Nullable Object stored) {
+        return stored instanceof TimestampedValue timestamped ? timestamped.getValue() : stored;
+    }
+
+    // Entries written before the soft TTL was configured carry no timestamp and count as stale
+    private boolean isStale(Object stored) {
+        Duration softTtl = loadPolicy != null ? loadPolicy.softTtl() : null;
+        if (softTtl == null) {
+            return false;
+        }
+        return !(stored instanceof TimestampedValue timestamped)
+                || System.currentTimeMillis() - timestamped.getLoadedAt() >= softTtl.toMillis();
+    }
+
+    private void recordRedisLookup(boolean hit) {
+        (hit ? redisHits : redisMisses).increment();
+    }
+
+    // Mirrors the key RedisCache builds, so batch reads and writes hit the same entries as single ones
+    private byte[] redisKey(RedisCacheConfiguration config, Object key) {
+        String cacheKey = config.usePrefix() ? config.getKeyPrefixFor(name) + localKey(key) : localKey(key);
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(cacheKey));
+    }
+
+    // Redis stores keys by their string form, so 1L and "1" are one entry there and must be one here
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,268 @@
+package com.infernokun.infernoComics.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Puts a bounded in-process cache in front of the Redis cache manager for the cache names
+ * configured with an {@link LocalTier}. Every change made through a cache is published on
+ * {@link #INVALIDATION_CHANNEL} so the other instances drop their local copies; the local
+ * TTL bounds how stale a copy can get if a message is lost.
+ * <p>
+ * Caches with a {@link CacheDependencyIndex.Tagger} have every write recorded under the
+ * entry's dependency tags, so {@link #evictDependents} can drop exactly the entries a change
+ * affects.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:l1-invalidation";
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String CLEAR_ALL = "*";
+    private static final String KEY_PREFIX = "K";
+
+    /**
+     * Sizing for one cache's local tier. Collections and maps weigh one unit per element, so
+     * the bound holds whether a cache stores single entities or whole listings.
+     */
+    public record LocalTier(long maximumWeight, Duration ttl) { }
+
+    /**
+     * How {@code @Cacheable(sync = true)} loads are run for one cache. Concurrent misses for a
+     * key always share one load. With a soft TTL, an entry older than that is still served
+     * while a single background load replaces it; the Redis TTL stays the hard limit.
+     */
+    public record LoadPolicy(@Nullable Duration softTtl) {
+        public static LoadPolicy singleFlight() {
+            return new LoadPolicy(null);
+        }
+
+        public static LoadPolicy staleWhileRevalidate(Duration softTtl) {
+            return new LoadPolicy(softTtl);
+        }
+    }
+
+    private final CacheManager redisCacheManager;
+    private final Map<String, LocalTier> localTiers;
+    private final Map<String, LoadPolicy> loadPolicies;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Executor refreshExecutor;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    @Nullable
+    private CacheDependencyIndex dependencyIndex;
+    private Map<String, CacheDependencyIndex.Tagger> taggers = Map.of();
+    @Nullable
+    private CacheAccessTracker accessTracker;
+
+    public TwoTierCacheManager(CacheManager redisCacheManager, Map<String, LocalTier> localTiers,
+                               Map<String, LoadPolicy> loadPolicies, StringRedisTemplate stringRedisTemplate,
+                               Executor refreshExecutor) {
+        this.redisCacheManager = redisCacheManager;
+        this.localTiers = Map.copyOf(localTiers);
+        this.loadPolicies = Map.copyOf(loadPolicies);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public void setDependencyTracking(CacheDependencyIndex dependencyIndex,
+                                      Map<String, CacheDependencyIndex.Tagger> taggers) {
+        this.dependencyIndex = dependencyIndex;
+        this.taggers = Map.copyOf(taggers);
+    }
+
+    public void setAccessTracker(CacheAccessTracker accessTracker) {
+        this.accessTracker = accessTracker;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+
+        LocalTier tier = localTiers.get(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = tier == null ? null
+                : Caffeine.newBuilder()
+                        .maximumWeight(tier.maximumWeight())
+                        .weigher((String key, Object value) -> weigh(value))
+                        .expireAfterWrite(tier.ttl())
+                        .recordStats()
+                        .build();
+
+        TwoTierCache.Listener listener = new TwoTierCache.Listener() {
+            @Override
+            public void invalidated(String cacheName, @Nullable String localKey) {
+                publishInvalidation(cacheName, localKey);
+            }
+
+            @Override
+            public void written(String cacheName, String localKey) {
+                recordDependencies(cacheName, localKey);
+            }
+
+            @Override
+            public void read(String cacheName, String localKey) {
+                if (accessTracker != null) {
+                    accessTracker.recordAccess(cacheName, localKey);
+                }
+            }
+        };
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(n, redisCache, localCache, listener,
+                loadPolicies.get(n), refreshExecutor));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR_ALL.equals(parts[2])) {
+            cache.invalidateAllLocal();
+        } else if (parts[2].startsWith(KEY_PREFIX)) {
+            cache.invalidateLocal(parts[2].substring(KEY_PREFIX.length()));
+        }
+    }
+
+    /**
+     * Batch lookup against one cache. Keys with no cached value are left out of the result.
+     */
+    public Map<Object, Object> getAll(String cacheName, Collection<?> keys) {
+        TwoTierCache cache = twoTierCache(cacheName);
+        return cache != null ? cache.getAll(keys) : Map.of();
+    }
+
+    /**
+     * Batch write to one cache. Unlike single puts this is not deferred to transaction commit.
+     */
+    public void putAll(String cacheName, Map<?, ?> entries) {
+        TwoTierCache cache = twoTierCache(cacheName);
+        if (cache != null && !entries.isEmpty()) {
+            cache.putAll(entries);
+        }
+    }
+
+    /**
+     * Evicts every tracked entry recorded under any of the tags. Inside a transaction this
+     * waits for commit, so a rollback leaves the caches alone and a concurrent reader cannot
+     * re-cache the pre-commit state after the eviction.
+     */
+    public void evictDependents(Collection<String> tags) {
+        if (dependencyIndex == null || tags.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictDependentsNow(tags);
+                }
+            });
+        } else {
+            evictDependentsNow(tags);
+        }
+    }
+
+    /**
+     * Per-tier hit counts and ratios for every cache that has been used since startup.
+     */
+    public Map<String, Map<String, Object>> getTierStatistics() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getStatistics()));
+        return stats;
+    }
+
+    public Set<String> getLocalTierCacheNames() {
+        return localTiers.keySet();
+    }
+
+    private TwoTierCache twoTierCache(String cacheName) {
+        // getCache creates the tier on first use; the undecorated instance is kept in the map
+        return getCache(cacheName) != null ? caches.get(cacheName) : null;
+    }
+
+    // A lost message only leaves a copy stale until its TTL, so a publish failure never fails the write
+    private void publishInvalidation(String cacheName, String localKey) {
+        String target = localKey == null ? CLEAR_ALL : KEY_PREFIX + localKey;
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + SEPARATOR + cacheName + SEPARATOR + target);
+        } catch (Exception e) {
+            log.warn("Failed to publish L1 invalidation for cache {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private void evictDependentsNow(Collection<String> tags) {
+        if (dependencyIndex.claimTrackingStart()) {
+            log.info("Dependency tracking started; clearing tracked caches {} once", taggers.keySet());
+            taggers.keySet().forEach(cacheName -> {
+                Cache cache = twoTierCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                }
+            });
+            return;
+        }
+
+        dependencyIndex.drain(tags).forEach((cacheName, keys) -> {
+            Cache cache = twoTierCache(cacheName);
+            if (cache != null) {
+                keys.forEach(cache::evict);
+            }
+        });
+    }
+
+    // An unrecorded entry is only evicted by its TTL, so a failure here never fails the write
+    private void recordDependencies(String cacheName, String localKey) {
+        CacheDependencyIndex.Tagger tagger = taggers.get(cacheName);
+        if (dependencyIndex == null || tagger == null) {
+            return;
+        }
+        try {
+            dependencyIndex.record(cacheName, localKey, tagger.tags(localKey));
+        } catch (Exception e) {
+            log.warn("Failed to record cache dependencies for {}::{}: {}", cacheName, localKey, e.getMessage());
+        }
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof TimestampedValue timestamped) {
+            return weigh(timestamped.getValue());
+        }
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        return 1;
+    }
+}
@@ -32,6 +32,11 @@ public abstract class BaseController {
         return ResponseEntity.ok(ApiResponse.success(data, message, totalCount, currentPage, pageSize));
     }
 
+    protected <T> ResponseEntity<ApiResponse<T>> createSuccessResponse(
+            T data, String message, Integer totalCount, Integer currentPage, Integer pageSize, String nextCursor) {
+        return ResponseEntity.ok(ApiResponse.success(data, message, totalCount, currentPage, pageSize, nextCursor));
+    }
+
     protected <T> ResponseEntity<ApiResponse<T>> createErrorResponse(T data) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiResponse.error(data));
     }
@@ -1,5 +1,8 @@
 package com.infernokun.infernoComics.controllers;
 
+import com.infernokun.infernoComics.config.RedisKeyIndex;
+import com.infernokun.infernoComics.config.TwoTierCacheManager;
+import com.infernokun.infernoComics.services.CacheWarmupService;
 import com.infernokun.infernoComics.services.IssueService;
 import com.infernokun.infernoComics.services.SeriesService;
 import com.infernokun.infernoComics.services.ComicVineService;
@@ -11,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @RestController
@@ -21,6 +25,9 @@ public class CacheManagementController {
     private final SeriesService seriesService;
     private final ComicVineService comicVineService;
     private final DescriptionGeneratorService descriptionGeneratorService;
+    private final TwoTierCacheManager cacheManager;
+    private final RedisKeyIndex redisKeyIndex;
+    private final CacheWarmupService cacheWarmupService;
 
     // Get comprehensive cache statistics
     @GetMapping("/stats")
@@ -36,6 +43,17 @@ public class CacheManagementController {
             Map<String, Object> descriptionStats = descriptionGeneratorService.getCacheStats();
             allStats.put("descriptions", descriptionStats);
 
+            // Hit ratios for the in-process tier and for Redis, per cache
+            allStats.put("tiers", cacheManager.getTierStatistics());
+            allStats.put("localTierCaches", cacheManager.getLocalTierCacheNames());
+
+            // Entry counts come from the per-cache key index, one SCARD each
+            Map<String, Long> entries = new TreeMap<>();
+            redisKeyIndex.indexNames().forEach(index -> entries.put(index, redisKeyIndex.size(index)));
+            allStats.put("entries", entries);
+
+            allStats.put("warmup", cacheWarmupService.getProgress());
+
             // Add cache type information
             allStats.put("cacheTypes", Map.of(
                     "comicBooks", new String[]{"comic-book", "all-comic-books", "comic-books-by-series", "key-issues", "comic-book-stats", "recent-comic-books", "comic-book-search"},
@@ -51,6 +69,22 @@ public class CacheManagementController {
         }
     }
 
+    // Progress and per-load timings of the current or last cache warm-up
+    @GetMapping("/warmup")
+    public ResponseEntity<Map<String, Object>> getWarmupProgress() {
+        return ResponseEntity.ok(cacheWarmupService.getProgress());
+    }
+
+    // Rebuild the hot caches in the background
+    @PostMapping("/warmup")
+    public ResponseEntity<Map<String, String>> startWarmup() {
+        boolean queued = cacheWarmupService.requestWarmup("manual");
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "message", queued ? "Cache warm-up queued" : "A cache warm-up is already queued"
+        ));
+    }
+
     // Refresh specific cache by invalidating and pre-warming
     @PostMapping("/refresh/comic-vine-series")
     public ResponseEntity<Map<String, String>> refreshComicVineSeriesCache(@RequestParam String query) {
@@ -105,6 +139,8 @@ public class CacheManagementController {
             comicVineService.clearAllComicVineCache();
             descriptionGeneratorService.clearAllDescriptionCache();
 
+            cacheWarmupService.requestWarmup("clear");
+
             return ResponseEntity.ok(Map.of(
                     "status", "success",
                     "message", "All caches cleared successfully"
@@ -125,6 +161,8 @@ public class CacheManagementController {
             log.info("Clearing comic book caches");
             issueService.clearAllIssueCaches();
 
+            cacheWarmupService.requestWarmup("clear");
+
             return ResponseEntity.ok(Map.of(
                     "status", "success",
                     "message", "Comic book caches cleared successfully"
@@ -145,6 +183,8 @@ public class CacheManagementController {
             log.info("Clearing series caches");
             seriesService.clearAllSeriesCaches();
 
+            cacheWarmupService.requestWarmup("clear");
+
             return ResponseEntity.ok(Map.of(
                     "status", "success",
                     "message", "Series caches cleared successfully"
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.infernokun.infernoComics.models.ApiResponse;
 import com.infernokun.infernoComics.models.Issue;
 import com.infernokun.infernoComics.models.dto.IssueRequest;
+import com.infernokun.infernoComics.models.dto.IssueSummary;
 import com.infernokun.infernoComics.services.IssueService;
 import com.infernokun.infernoComics.services.ComicVineService.ComicVineIssueDto;
 
@@ -29,7 +30,7 @@ public class IssueController extends BaseController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Issue>>> getAllIssues() {
+    public ResponseEntity<ApiResponse<List<IssueSummary>>> getAllIssues() {
         return createSuccessResponse(issueService.getAllIssues());
     }
 
@@ -43,13 +44,18 @@ public class IssueController extends BaseController {
         return createSuccessResponse(issueService.getIssuesBySeriesId(seriesId));
     }
 
+    @GetMapping("/series/{seriesId}/summary")
+    public ResponseEntity<ApiResponse<List<IssueSummary>>> getIssueSummariesBySeriesId(@PathVariable Long seriesId) {
+        return createSuccessResponse(issueService.getIssueSummariesBySeriesId(seriesId));
+    }
+
     @GetMapping("/{seriesId}/search-comic-vine")
     public ResponseEntity<ApiResponse<List<ComicVineIssueDto>>> searchComicVineIssues(@PathVariable Long seriesId) {
         return createSuccessResponse(issueService.searchComicVineIssues(seriesId));
     }
 
     @GetMapping("/key-issues")
-    public ResponseEntity<ApiResponse<List<Issue>>> getKeyIssues() {
+    public ResponseEntity<ApiResponse<List<IssueSummary>>> getKeyIssues() {
         return createSuccessResponse(issueService.getKeyIssues());
     }
 
@@ -71,15 +77,9 @@ public class IssueController extends BaseController {
     @GetMapping("/total-value")
     public ResponseEntity<ApiResponse<BigDecimal>> getIssueTotalValue(@RequestParam String type) {
         if ("current".equals(type)) {
-            BigDecimal total = issueService.getAllIssues().stream()
-                .map(Issue::getCurrentValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            return createSuccessResponse(total);
+            return createSuccessResponse(issueService.getTotalCurrentValue());
         } else if ("purchase".equals(type)) {
-            BigDecimal total = issueService.getAllIssues().stream()
-                .map(Issue::getPurchasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            return createSuccessResponse(total);
+            return createSuccessResponse(issueService.getTotalPurchasePrice());
         } else {
             return createErrorResponse("What?");
         }
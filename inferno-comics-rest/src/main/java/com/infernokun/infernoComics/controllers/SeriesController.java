@@ -3,6 +3,11 @@ package com.infernokun.infernoComics.controllers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.infernokun.infernoComics.models.*;
 import com.infernokun.infernoComics.models.dto.SeriesRequest;
+import com.infernokun.infernoComics.models.dto.CursorPage;
+import com.infernokun.infernoComics.models.dto.SeriesSearchCriteria;
+import com.infernokun.infernoComics.models.dto.SeriesSearchResult;
+import com.infernokun.infernoComics.models.dto.SeriesSummary;
+import com.infernokun.infernoComics.models.enums.SeriesSort;
 import com.infernokun.infernoComics.models.enums.StartedBy;
 import com.infernokun.infernoComics.models.enums.State;
 import com.infernokun.infernoComics.models.sync.ProcessedFile;
@@ -20,12 +25,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import static com.infernokun.infernoComics.utils.InfernoComicsUtils.createEtag;
 
@@ -39,6 +44,7 @@ import com.infernokun.infernoComics.services.ComicVineService.ComicVineSeriesDto
 public class SeriesController extends BaseController {
     private final WeirdService weirdService;
     private final SeriesService seriesService;
+    private final SeriesWithIssuesService seriesWithIssuesService;
     private final IssueService issueService;
     private final ProgressDataService progressDataService;
     private final NextcloudSyncService syncService;
@@ -46,27 +52,35 @@ public class SeriesController extends BaseController {
     private final ProcessedFileRepository processedFileRepository;
     private final SchedulingService schedulingService;
 
-    @GetMapping
-    public ResponseEntity<ApiResponse<List<Series>>> getAllSeries() {
-        return createSuccessResponse(seriesService.getAllSeries());
-    }
-
-    @GetMapping("/with-issues")
-    public ResponseEntity<ApiResponse<List<Series.SeriesWithIssues>>> getSeriesWithIssues() {
-        List<Series> series = seriesService.getAllSeries();
+    private static final int DEFAULT_PAGE_SIZE = 50;
 
-        List<Series.SeriesWithIssues> seriesWithIssuesList = new ArrayList<>();
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SeriesSummary>>> getAllSeries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "ID") String sort) {
+        // Without paging parameters the full (cached) list is returned, as before
+        if (cursor == null && size == null) {
+            return createSuccessResponse(seriesService.getAllSeries());
+        }
 
-        series.forEach(s -> {
-            Series.SeriesWithIssues seriesWithIssues = new Series.SeriesWithIssues(s);
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        CursorPage<SeriesSummary> page = seriesService.getSeriesPage(cursor, pageSize, SeriesSort.fromValue(sort));
 
-            List<Issue> issues = issueService.getIssuesBySeriesId(s.getId());
-            seriesWithIssues.setIssues(issues);
+        return createSuccessResponse(page.items(), "Success", page.totalCount(), null, pageSize, page.nextCursor());
+    }
 
-            seriesWithIssuesList.add(seriesWithIssues);
-        });
+    @GetMapping("/with-issues")
+    public ResponseEntity<StreamingResponseBody> getSeriesWithIssues(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        // Opened here so a bad cursor or size is answered with a 400 before the stream starts
+        SeriesWithIssuesService.Listing listing = seriesWithIssuesService.openListing(cursor, size);
+        StreamingResponseBody body = out -> seriesWithIssuesService.writeSeriesWithIssues(listing, out);
 
-        return createSuccessResponse(seriesWithIssuesList);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -88,35 +102,40 @@ public class SeriesController extends BaseController {
 
     @GetMapping("/folder")
     public ResponseEntity<ApiResponse<List<Series.FolderMapping>>> getSeriesFolderStructure(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "8") Integer size) {
 
-        List<Series> allSeries = seriesService.getAllSeries();
-        allSeries.sort(Comparator.comparing(Series::getName));
-
-        int totalCount = allSeries.size();
-
-        // Calculate pagination
-        int startIndex = page * size;
-        int endIndex = Math.min(startIndex + size, totalCount);
+        CursorPage<Series.FolderMapping> folderPage = seriesService.getSeriesFolderPage(cursor, page, size);
 
-        // Get the paginated subset
-        List<Series.FolderMapping> folderMappings = allSeries.stream()
-                .skip(startIndex)
-                .limit(size)
-                .map(Series::getFolderMapping)
-                .collect(Collectors.toList());
-
-        return createSuccessResponse(folderMappings, "Success", totalCount, page, size);
+        return createSuccessResponse(folderPage.items(), "Success", folderPage.totalCount(), page, size,
+                folderPage.nextCursor());
     }
 
     @GetMapping("/search/advanced")
     public ResponseEntity<ApiResponse<List<Series>>> searchSeriesAdvanced(
             @RequestParam(required = false) String publisher,
             @RequestParam(required = false) Integer startYear,
-            @RequestParam(required = false) Integer endYear) {
+            @RequestParam(required = false) Integer endYear,
+            @RequestParam(required = false) Integer minCompletion,
+            @RequestParam(required = false) Integer maxCompletion,
+            @RequestParam(required = false) Boolean hasComicVine,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+
+        SeriesSearchCriteria criteria = new SeriesSearchCriteria(
+                publisher, startYear, endYear, minCompletion, maxCompletion, hasComicVine);
+
+        // Without paging parameters every match is returned, as before
+        if (page == null && size == null) {
+            return createSuccessResponse(seriesService.searchSeriesAdvanced(criteria).getItems());
+        }
+
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        SeriesSearchResult result = seriesService.searchSeriesAdvanced(criteria, pageNumber, pageSize);
 
-            return createSuccessResponse(seriesService.searchSeriesByPublisherAndYear(publisher, startYear, endYear));
+        return createSuccessResponse(result.getItems(), "Success", (int) result.getTotalCount(), pageNumber, pageSize);
     }
 
     @GetMapping("/recent")
@@ -157,8 +176,9 @@ public class SeriesController extends BaseController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Series>>> searchSeries(@RequestParam String query) {
-        return createSuccessResponse(seriesService.searchSeries(query));
+    public ResponseEntity<ApiResponse<List<Series>>> searchSeries(@RequestParam String query,
+                                                                 @RequestParam(defaultValue = "50") int limit) {
+        return createSuccessResponse(seriesService.searchSeries(query, limit));
     }
 
     @GetMapping("/missing-issues")
@@ -214,7 +234,7 @@ public class SeriesController extends BaseController {
     @PostMapping("/startSync")
     public ResponseEntity<ApiResponse<List<ProcessingResult>>> startAllSeriesSync() {
         List<ProcessingResult> results = new ArrayList<>();
-        seriesService.getAllSeries().forEach(series -> results.add(syncService.manualSync(series.getId())));
+        seriesService.getAllSeries().forEach(series -> results.add(syncService.manualSync(series.id())));
 
         return createSuccessResponse(results);
     }
@@ -42,7 +42,15 @@ public class GlobalExceptionHandler extends BaseController {
                     .body("data: {\"type\":\"error\",\"error\":\"" + escapeJson(ex.getMessage()) + "\"}\n\n");
         }
 
-        return createErrorResponse(ex.getClass().getName() + ": " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getClass().getName() + ": " + ex.getMessage(), HttpStatus.BAD_REQUEST.value()));
+    }
+
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<ApiResponse<String>> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        log.warn("Upstream {} unavailable: {}", ex.getUpstream(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(ex.getClass().getName() + ": " + ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value()));
     }
 
     @ExceptionHandler(RuntimeException.class)
@@ -0,0 +1,18 @@
+package com.infernokun.infernoComics.exceptions;
+
+/**
+ * A call to an upstream service was turned away without being sent, because its circuit is
+ * open or it already has as many calls in flight as it is allowed.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+    private final String upstream;
+
+    public UpstreamUnavailableException(String upstream, String message) {
+        super(message);
+        this.upstream = upstream;
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+}
@@ -30,6 +30,7 @@ public class ApiResponse<T> {
     private Integer totalCount;
     private Integer currentPage;
     private Integer pageSize;
+    private String nextCursor;
     
     public enum TYPE {INFO, WARNING, ERROR, SUCCESS, NONE}
 
@@ -80,6 +81,21 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> success(T data, String message, Integer totalCount, Integer currentPage,
+                                            Integer pageSize, String nextCursor) {
+        return ApiResponse.<T>builder()
+                .code(HttpStatus.SC_OK)
+                .message(message)
+                .data(data)
+                .type(ApiResponse.TYPE.SUCCESS)
+                .timestamp(LocalDateTime.now())
+                .totalCount(totalCount)
+                .currentPage(currentPage)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(T data, String message) {
         return ApiResponse.<T>builder()
                 .code(HttpStatus.SC_INTERNAL_SERVER_ERROR)
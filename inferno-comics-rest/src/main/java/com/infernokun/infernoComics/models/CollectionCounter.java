@@ -0,0 +1,40 @@
+package com.infernokun.infernoComics.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One rolled-up collection total (e.g. {@code issues.total}, {@code publisher.issues:Marvel},
+ * {@code condition:MINT}). Rows are adjusted with deltas as series and issues are written,
+ * so stats can read totals without scanning the collection.
+ */
+@Entity
+@Table(name = "collection_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionCounter {
+    @Id
+    @Column(name = "counter_key", length = 512)
+    private String counterKey;
+
+    @Builder.Default
+    @Column(name = "count_value", nullable = false)
+    private long countValue = 0;
+
+    @Builder.Default
+    @Column(name = "amount_value", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amountValue = BigDecimal.ZERO;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
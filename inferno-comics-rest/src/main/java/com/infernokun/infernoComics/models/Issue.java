@@ -1,5 +1,6 @@
 package com.infernokun.infernoComics.models;
 
+import com.infernokun.infernoComics.utils.IssueSortKey;
 import com.infernokun.infernoComics.utils.VariantCoverListConverter;
 import com.infernokun.infernoComics.models.enums.Condition;
 import jakarta.persistence.*;
@@ -19,7 +20,10 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
-@Table(name = "issues")
+@Table(name = "issues", indexes = {
+        @Index(name = "idx_issues_series_sort_key", columnList = "series_id, issue_sort_key"),
+        @Index(name = "idx_issues_created_at", columnList = "created_at, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 public class Issue {
@@ -32,6 +36,11 @@ public class Issue {
     @Column(name = "issue_number", nullable = false)
     private String issueNumber;
 
+    // Derived from issueNumber on every write, see IssueSortKey
+    @JsonIgnore
+    @Column(name = "issue_sort_key", length = IssueSortKey.MAX_LENGTH)
+    private String issueSortKey;
+
     @Size(max = 255, message = "Title must not exceed 255 characters")
     @Column(name = "title")
     private String title;
@@ -113,11 +122,13 @@ public class Issue {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        issueSortKey = IssueSortKey.of(issueNumber);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        issueSortKey = IssueSortKey.of(issueNumber);
     }
 
     @Data
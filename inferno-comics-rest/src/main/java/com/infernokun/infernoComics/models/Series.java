@@ -20,7 +20,10 @@ import java.util.List;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "series")
+@Table(name = "series", indexes = {
+        @Index(name = "idx_series_name_id", columnList = "name, id"),
+        @Index(name = "idx_series_start_year", columnList = "start_year")
+})
 public class Series {
 
     @Id
@@ -0,0 +1,78 @@
+package com.infernokun.infernoComics.models.comicvine;
+
+import com.infernokun.infernoComics.services.ComicVineService;
+import com.infernokun.infernoComics.utils.ComicVineVariantListConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local copy of a Comic Vine issue. Rows written from {@code /issues/} listings carry
+ * everything but the variant covers, which only the {@code /issue/} detail call returns; the
+ * variants are filled, and {@code detailSyncedAt} set, once the detail has been fetched.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "comic_vine_issues", indexes = @Index(name = "idx_comic_vine_issues_volume", columnList = "volume_id"))
+public class ComicVineIssue implements Persistable<Long> {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "volume_id")
+    private Long volumeId;
+
+    @Column(name = "issue_number")
+    private String issueNumber;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "cover_date")
+    private String coverDate;
+
+    @Column(name = "image_url", length = 1024)
+    private String imageUrl;
+
+    @Column(name = "variants", columnDefinition = "TEXT")
+    @Convert(converter = ComicVineVariantListConverter.class)
+    private List<ComicVineService.ComicVineIssueDto.VariantCover> variants = new ArrayList<>();
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    // When the variants were last written from the detail call; null until they have been
+    @Column(name = "detail_synced_at")
+    private LocalDateTime detailSyncedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public ComicVineIssue(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Ids come from Comic Vine, so without this every save would first select to find out
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
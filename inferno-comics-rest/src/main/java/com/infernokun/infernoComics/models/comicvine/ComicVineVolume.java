@@ -0,0 +1,78 @@
+package com.infernokun.infernoComics.models.comicvine;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of a Comic Vine volume we have looked up. The detail columns are filled once the
+ * volume itself has been fetched; a row can exist before that just to record that its issue
+ * list is mirrored.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "comic_vine_volumes")
+public class ComicVineVolume implements Persistable<Long> {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "issue_count")
+    private Integer issueCount;
+
+    @Column(name = "publisher")
+    private String publisher;
+
+    @Column(name = "start_year")
+    private Integer startYear;
+
+    @Column(name = "end_year")
+    private Integer endYear;
+
+    @Column(name = "image_url", length = 1024)
+    private String imageUrl;
+
+    // When the detail columns were last written from Comic Vine; null until they have been
+    @Column(name = "detail_synced_at")
+    private LocalDateTime detailSyncedAt;
+
+    // When the full issue list was last stored; null until it has been
+    @Column(name = "issues_synced_at")
+    private LocalDateTime issuesSyncedAt;
+
+    // Changes on Comic Vine up to this time have been applied
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public ComicVineVolume(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Ids come from Comic Vine, so without this every save would first select to find out
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
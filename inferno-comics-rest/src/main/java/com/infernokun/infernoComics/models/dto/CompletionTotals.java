@@ -0,0 +1,14 @@
+package com.infernokun.infernoComics.models.dto;
+
+/**
+ * Completion figures over the series whose available issue count is known, from a single
+ * aggregate row. SUM and AVG over no rows are null, so missing values are normalized to zero.
+ */
+public record CompletionTotals(Long trackedSeries, Long completedSeries, Double averageCompletion) {
+
+    public CompletionTotals {
+        trackedSeries = trackedSeries != null ? trackedSeries : 0L;
+        completedSeries = completedSeries != null ? completedSeries : 0L;
+        averageCompletion = averageCompletion != null ? averageCompletion : 0.0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.infernokun.infernoComics.models.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of results. {@code nextCursor} is null once the last page has been read.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, Integer totalCount) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.infernokun.infernoComics.models.dto;
+
+/**
+ * One row of a {@code GROUP BY ... COUNT} aggregate, built by a constructor expression.
+ */
+public record GroupCount<K>(K key, Long count) {
+}
@@ -0,0 +1,22 @@
+package com.infernokun.infernoComics.models.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for issue listings. Selected column by column, so list queries skip the
+ * description and variant cover TEXT columns and never load the owning series. Detail views
+ * still get the full {@link com.infernokun.infernoComics.models.Issue}.
+ */
+public record IssueSummary(
+        Long id,
+        String issueNumber,
+        String title,
+        LocalDate coverDate,
+        String imageUrl,
+        String uploadedImageUrl,
+        Boolean keyIssue,
+        Boolean variant,
+        boolean read,
+        Long seriesId
+) {
+}
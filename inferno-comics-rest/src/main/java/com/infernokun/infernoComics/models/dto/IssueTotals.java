@@ -0,0 +1,17 @@
+package com.infernokun.infernoComics.models.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Collection-wide issue counts and value from a single aggregate row. SUM over an
+ * empty table is null, so missing values are normalized to zero.
+ */
+public record IssueTotals(Long totalIssues, Long keyIssues, Long variantIssues, BigDecimal totalValue) {
+
+    public IssueTotals {
+        totalIssues = totalIssues != null ? totalIssues : 0L;
+        keyIssues = keyIssues != null ? keyIssues : 0L;
+        variantIssues = variantIssues != null ? variantIssues : 0L;
+        totalValue = totalValue != null ? totalValue : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,7 @@
+package com.infernokun.infernoComics.models.dto;
+
+/**
+ * One row of a count grouped by calendar month, built by a constructor expression.
+ */
+public record MonthCount(Integer year, Integer month, Long count) {
+}
@@ -0,0 +1,47 @@
+package com.infernokun.infernoComics.models.dto;
+
+import com.infernokun.infernoComics.models.enums.SeriesSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a series listing. Clients only ever see the encoded form,
+ * which carries the sort it was issued for so a page can't be resumed under a
+ * different ordering.
+ */
+public record SeriesCursor(SeriesSort sort, long lastId, String lastName) {
+
+    private static final char SEPARATOR = ':';
+
+    public static SeriesCursor start(SeriesSort sort) {
+        return new SeriesCursor(sort, 0L, "");
+    }
+
+    public static SeriesCursor after(SeriesSort sort, SeriesSummary last) {
+        return new SeriesCursor(sort, last.id(), sort == SeriesSort.NAME ? last.name() : "");
+    }
+
+    public String encode() {
+        String raw = sort.getValue() + SEPARATOR + lastId + SEPARATOR + (lastName != null ? lastName : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SeriesCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                throw new IllegalArgumentException("Malformed series cursor");
+            }
+            return new SeriesCursor(
+                    SeriesSort.fromValue(raw.substring(0, first)),
+                    Long.parseLong(raw.substring(first + 1, second)),
+                    raw.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and Base64 decoding failures both land here
+            throw new IllegalArgumentException("Invalid series cursor: " + encoded, e);
+        }
+    }
+}
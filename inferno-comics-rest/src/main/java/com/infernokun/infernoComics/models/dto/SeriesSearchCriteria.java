@@ -0,0 +1,57 @@
+package com.infernokun.infernoComics.models.dto;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Optional filters for the advanced series search. Every field may be null, in which
+ * case that filter is not applied.
+ *
+ * @param publisher     case-insensitive substring of the publisher
+ * @param startYear     earliest start year, inclusive
+ * @param endYear       latest start year, inclusive
+ * @param minCompletion lowest owned/available percentage, inclusive
+ * @param maxCompletion highest owned/available percentage, inclusive
+ * @param hasComicVine  whether the series must (or must not) be linked to Comic Vine
+ */
+public record SeriesSearchCriteria(
+        String publisher,
+        Integer startYear,
+        Integer endYear,
+        Integer minCompletion,
+        Integer maxCompletion,
+        Boolean hasComicVine
+) {
+
+    public SeriesSearchCriteria {
+        publisher = publisher == null || publisher.isBlank() ? null : publisher.trim();
+        checkPercentage("minCompletion", minCompletion);
+        checkPercentage("maxCompletion", maxCompletion);
+        if (minCompletion != null && maxCompletion != null && minCompletion > maxCompletion) {
+            throw new IllegalArgumentException("minCompletion must not exceed maxCompletion");
+        }
+    }
+
+    /**
+     * A key with one named slot per filter. The publisher is URL-encoded, so no value
+     * can spill into a neighbouring slot and two different criteria never share a key.
+     */
+    public String cacheKey() {
+        return "publisher=" + (publisher == null ? "" : URLEncoder.encode(publisher.toLowerCase(), StandardCharsets.UTF_8))
+                + "&startYear=" + slot(startYear)
+                + "&endYear=" + slot(endYear)
+                + "&minCompletion=" + slot(minCompletion)
+                + "&maxCompletion=" + slot(maxCompletion)
+                + "&hasComicVine=" + slot(hasComicVine);
+    }
+
+    private static String slot(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static void checkPercentage(String name, Integer value) {
+        if (value != null && (value < 0 || value > 100)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 100");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.infernokun.infernoComics.models.dto;
+
+import com.infernokun.infernoComics.models.Series;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A plain class rather than a record so the Redis serializer writes its type and can read it back
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesSearchResult {
+    private List<Series> items = new ArrayList<>();
+    private long totalCount;
+    private int page;
+    private int size;
+}
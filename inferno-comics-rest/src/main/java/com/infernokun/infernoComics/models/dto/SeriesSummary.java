@@ -0,0 +1,31 @@
+package com.infernokun.infernoComics.models.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lightweight read model for series listings. Built straight from an aggregate
+ * query so the owned issue count comes back with the row instead of loading
+ * every series' issues.
+ */
+public record SeriesSummary(
+        Long id,
+        String name,
+        String description,
+        String publisher,
+        Integer startYear,
+        Integer endYear,
+        String imageUrl,
+        String comicVineId,
+        List<String> comicVineIds,
+        List<String> gcdIds,
+        Boolean generatedDescription,
+        Integer issuesAvailableCount,
+        Long issuesOwnedCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime lastCachedCovers,
+        LocalDateTime lastReverification,
+        String barcode
+) {
+}
@@ -0,0 +1,7 @@
+package com.infernokun.infernoComics.models.dto;
+
+/**
+ * Collection-wide series counts from a single aggregate row.
+ */
+public record SeriesTotals(Long totalSeries, Long seriesWithComicVineId) {
+}
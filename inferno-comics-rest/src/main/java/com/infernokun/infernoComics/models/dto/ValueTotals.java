@@ -0,0 +1,15 @@
+package com.infernokun.infernoComics.models.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * How many issues carry a value and what they add up to, from a single aggregate row.
+ * SUM over no rows is null, so a missing total is normalized to zero.
+ */
+public record ValueTotals(Long issuesWithValue, BigDecimal totalValue) {
+
+    public ValueTotals {
+        issuesWithValue = issuesWithValue != null ? issuesWithValue : 0L;
+        totalValue = totalValue != null ? totalValue : BigDecimal.ZERO;
+    }
+}
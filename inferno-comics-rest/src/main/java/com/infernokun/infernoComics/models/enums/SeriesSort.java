@@ -0,0 +1,24 @@
+package com.infernokun.infernoComics.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public enum SeriesSort {
+    ID("ID"),
+    NAME("NAME");
+
+    private final String value;
+
+    public static SeriesSort fromValue(String value) {
+        for (SeriesSort sort : values()) {
+            if (sort.value.equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown series sort: " + value);
+    }
+}
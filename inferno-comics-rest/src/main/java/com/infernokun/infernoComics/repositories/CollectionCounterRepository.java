@@ -0,0 +1,34 @@
+package com.infernokun.infernoComics.repositories;
+
+import com.infernokun.infernoComics.models.CollectionCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface CollectionCounterRepository extends JpaRepository<CollectionCounter, String> {
+
+    // Single-statement upsert so concurrent writers never lose an increment
+    @Modifying
+    @Query(value = "INSERT INTO collection_counters (counter_key, count_value, amount_value, updated_at) " +
+            "VALUES (:key, :count, :amount, now()) " +
+            "ON CONFLICT (counter_key) DO UPDATE SET " +
+            "count_value = collection_counters.count_value + EXCLUDED.count_value, " +
+            "amount_value = collection_counters.amount_value + EXCLUDED.amount_value, " +
+            "updated_at = now()", nativeQuery = true)
+    void applyDelta(@Param("key") String key, @Param("count") long count, @Param("amount") BigDecimal amount);
+
+    List<CollectionCounter> findByCounterKeyStartingWith(String prefix);
+
+    // SELECT ... FOR UPDATE; holds off every write to the existing counters until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CollectionCounter c ORDER BY c.counterKey")
+    List<CollectionCounter> findAllForUpdate();
+}
@@ -1,22 +1,54 @@
 package com.infernokun.infernoComics.repositories;
 
 import com.infernokun.infernoComics.models.Issue;
+import com.infernokun.infernoComics.models.dto.IssueSummary;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.IssueTotals;
+import com.infernokun.infernoComics.models.dto.MonthCount;
+import com.infernokun.infernoComics.models.dto.ValueTotals;
+import com.infernokun.infernoComics.models.enums.Condition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
 
-    List<Issue> findBySeriesIdOrderByIssueNumberAsc(Long seriesId);
+    String SUMMARY_SELECT = "SELECT new com.infernokun.infernoComics.models.dto.IssueSummary(" +
+            "i.id, i.issueNumber, i.title, i.coverDate, i.imageUrl, i.uploadedImageUrl, " +
+            "i.keyIssue, i.variant, i.read, i.series.id) FROM Issue i ";
 
-    @Query("SELECT c FROM Issue c WHERE c.keyIssue = true")
-    List<Issue> findKeyIssues();
+    @Query(SUMMARY_SELECT + "ORDER BY i.id")
+    List<IssueSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE i.series.id = :seriesId ORDER BY i.issueSortKey, i.id")
+    List<IssueSummary> findSummariesBySeriesId(@Param("seriesId") Long seriesId);
+
+    @Query(SUMMARY_SELECT + "WHERE i.keyIssue = true ORDER BY i.id")
+    List<IssueSummary> findKeyIssueSummaries();
+
+    // Served in reading order by the (series_id, issue_sort_key) index
+    List<Issue> findBySeriesIdOrderByIssueSortKeyAscIdAsc(Long seriesId);
+
+    // Rows arrive grouped by series so callers can stream them out in a single pass
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT i FROM Issue i JOIN FETCH i.series s WHERE s.id IN :seriesIds ORDER BY s.id, i.issueSortKey, i.id")
+    Stream<Issue> streamBySeriesIdIn(@Param("seriesIds") Collection<Long> seriesIds);
+
+    // Served by the partial idx_issues_variant index
+    @Query("SELECT i FROM Issue i JOIN FETCH i.series WHERE i.variant = true ORDER BY i.id")
+    List<Issue> findVariantIssues();
 
     @Query("SELECT COUNT(i) FROM Issue i WHERE i.series.id = :seriesId")
     int countBySeriesId(@Param("seriesId") Long seriesId);
@@ -25,11 +57,57 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
 
     List<Issue> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description);
 
-    @Query("SELECT c FROM Issue c ORDER BY c.id DESC")
-    List<Issue> findTopByOrderByCreatedDateDesc(@Param("limit") int limit);
-
-    @Query(value = "SELECT * FROM issues ORDER BY id DESC LIMIT :limit", nativeQuery = true)
-    List<Issue> findRecentIssues(@Param("limit") int limit);
+    // Matches use the lower(...) trigram indexes; ranking is by trigram similarity to the raw term.
+    // The series name is matched in a subquery: an OR across the join would keep the planner off the indexes
+    @Query("SELECT i FROM Issue i JOIN FETCH i.series s " +
+            "WHERE lower(i.title) LIKE :pattern ESCAPE '!' " +
+            "OR lower(i.issueNumber) LIKE :pattern ESCAPE '!' " +
+            "OR i.series.id IN (SELECT s2.id FROM Series s2 WHERE lower(s2.name) LIKE :pattern ESCAPE '!') " +
+            "ORDER BY function('greatest', " +
+            "function('similarity', lower(coalesce(i.title, '')), :term), " +
+            "function('similarity', lower(s.name), :term), " +
+            "function('similarity', lower(i.issueNumber), :term)) DESC, i.id DESC")
+    List<Issue> searchRanked(@Param("pattern") String pattern, @Param("term") String term, Pageable pageable);
+
+    // Top-N walk of idx_issues_created_at; the page size becomes the LIMIT
+    @Query("SELECT i FROM Issue i JOIN FETCH i.series ORDER BY i.createdAt DESC, i.id DESC")
+    List<Issue> findRecentIssues(Pageable pageable);
+
+    // One row per (publisher, key, variant, condition) bucket, used to rebuild the collection counters
+    @Query("SELECT s.publisher, i.keyIssue, i.variant, i.condition, COUNT(i), SUM(i.currentValue), SUM(i.purchasePrice) " +
+            "FROM Issue i JOIN i.series s " +
+            "GROUP BY s.publisher, i.keyIssue, i.variant, i.condition")
+    List<Object[]> aggregateCounterContributions();
+
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.IssueTotals(COUNT(i), " +
+            "SUM(CASE WHEN i.keyIssue = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN i.variant = true THEN 1 ELSE 0 END), " +
+            "SUM(i.currentValue)) FROM Issue i")
+    IssueTotals aggregateTotals();
+
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.GroupCount(i.condition, COUNT(i)) " +
+            "FROM Issue i WHERE i.condition IS NOT NULL GROUP BY i.condition")
+    List<GroupCount<Condition>> countByCondition();
+
+    // Grouped by name rather than id so same-named series share a bucket, as the stats map is keyed by name
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.GroupCount(s.name, COUNT(i)) " +
+            "FROM Issue i JOIN i.series s GROUP BY s.name")
+    List<GroupCount<String>> countBySeriesName();
+
+    // Oldest month first; months with nothing added have no row
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.MonthCount(year(i.createdAt), month(i.createdAt), COUNT(i)) " +
+            "FROM Issue i WHERE i.createdAt IS NOT NULL " +
+            "GROUP BY year(i.createdAt), month(i.createdAt) ORDER BY year(i.createdAt), month(i.createdAt)")
+    List<MonthCount> countByCreatedMonth();
+
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.ValueTotals(COUNT(i), SUM(i.currentValue)) " +
+            "FROM Issue i WHERE i.currentValue > 0")
+    ValueTotals aggregateHeldValue();
+
+    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.series WHERE i.currentValue > 0 ORDER BY i.currentValue DESC, i.id")
+    List<Issue> findMostValuable(Pageable pageable);
+
+    long countByReadTrue();
 
     @Query("SELECT SUM(c.purchasePrice) FROM Issue c")
     BigDecimal sumPurchasePrice();
@@ -20,6 +20,9 @@ public interface MissingIssueRepository extends JpaRepository<MissingIssue, Long
     @Query("SELECT m FROM MissingIssue m WHERE m.resolved = false")
     List<MissingIssue> findUnresolvedMissingIssues();
 
+    @Query("SELECT COUNT(m) FROM MissingIssue m WHERE m.resolved = false")
+    long countUnresolvedMissingIssues();
+
     @Query("SELECT m FROM MissingIssue m WHERE m.series.id = :seriesId AND m.comicVineId = :comicVineId")
     Optional<MissingIssue> findMissingIssueBySeriesIdAndComicVineId(Long seriesId, String comicVineId);
 
@@ -1,7 +1,13 @@
 package com.infernokun.infernoComics.repositories;
 
 import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.CompletionTotals;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.SeriesSummary;
+import com.infernokun.infernoComics.models.dto.SeriesTotals;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,10 +17,18 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SeriesRepository extends JpaRepository<Series, Long> {
+public interface SeriesRepository extends JpaRepository<Series, Long>, JpaSpecificationExecutor<Series> {
 
     List<Series> findByNameContainingIgnoreCaseOrPublisherContainingIgnoreCase(String name, String publisher);
 
+    @Query("SELECT s FROM Series s " +
+            "WHERE lower(s.name) LIKE :pattern ESCAPE '!' " +
+            "OR lower(s.publisher) LIKE :pattern ESCAPE '!' " +
+            "ORDER BY function('greatest', " +
+            "function('similarity', lower(s.name), :term), " +
+            "function('similarity', lower(coalesce(s.publisher, '')), :term)) DESC, s.name, s.id")
+    List<Series> searchRanked(@Param("pattern") String pattern, @Param("term") String term, Pageable pageable);
+
     List<Series> findByPublisher(String publisher);
 
     List<Series> findByStartYear(Integer startYear);
@@ -27,9 +41,66 @@ public interface SeriesRepository extends JpaRepository<Series, Long> {
 
     Series findByComicVineId(String comicVineId);
 
+    String SUMMARY_SELECT = "SELECT new com.infernokun.infernoComics.models.dto.SeriesSummary(" +
+            "s.id, s.name, s.description, s.publisher, s.startYear, s.endYear, s.imageUrl, " +
+            "s.comicVineId, s.comicVineIds, s.gcdIds, s.generatedDescription, s.issuesAvailableCount, " +
+            "COUNT(i.id), s.createdAt, s.updatedAt, s.lastCachedCovers, s.lastReverification, s.barcode) " +
+            "FROM Series s LEFT JOIN s.issues i ";
+
+    String SUMMARY_GROUP_BY = "GROUP BY s.id, s.name, s.description, s.publisher, s.startYear, s.endYear, s.imageUrl, " +
+            "s.comicVineId, s.comicVineIds, s.gcdIds, s.generatedDescription, s.issuesAvailableCount, " +
+            "s.createdAt, s.updatedAt, s.lastCachedCovers, s.lastReverification, s.barcode ";
+
+    @Query(SUMMARY_SELECT + SUMMARY_GROUP_BY + "ORDER BY s.id")
+    List<SeriesSummary> findAllSummaries();
+
+    // Keyset pages: callers pass an unsorted Pageable purely to bound the row count
+    @Query(SUMMARY_SELECT + "WHERE s.id > :afterId " + SUMMARY_GROUP_BY + "ORDER BY s.id")
+    List<SeriesSummary> findSummariesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE s.name > :afterName OR (s.name = :afterName AND s.id > :afterId) " +
+            SUMMARY_GROUP_BY + "ORDER BY s.name, s.id")
+    List<SeriesSummary> findSummariesAfterName(@Param("afterName") String afterName,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
     @Query(value = "SELECT * FROM series ORDER BY id DESC LIMIT :limit", nativeQuery = true)
     List<Series> findRecentSeries(@Param("limit") int limit);
 
+    // Ids only, so the aggregate stays on the issues(series_id, ...) index; series with no issues sort last
+    @Query("SELECT s.id FROM Series s LEFT JOIN s.issues i GROUP BY s.id ORDER BY COUNT(i.id) DESC, s.id")
+    List<Long> findMostOwnedSeriesIds(Pageable pageable);
+
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.SeriesTotals(COUNT(s), COUNT(s.comicVineId)) FROM Series s")
+    SeriesTotals aggregateTotals();
+
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.GroupCount(s.publisher, COUNT(s)) " +
+            "FROM Series s WHERE s.publisher IS NOT NULL GROUP BY s.publisher")
+    List<GroupCount<String>> countByPublisher();
+
+    // One row per distinct start year; callers fold these into decades
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.GroupCount(s.startYear, COUNT(s)) " +
+            "FROM Series s WHERE s.startYear IS NOT NULL GROUP BY s.startYear")
+    List<GroupCount<Integer>> countByStartYear();
+
+    @Query("SELECT new com.infernokun.infernoComics.models.dto.CompletionTotals(COUNT(s), " +
+            "SUM(CASE WHEN s.issuesOwnedCount >= s.issuesAvailableCount THEN 1 ELSE 0 END), " +
+            "AVG(least(100.0, s.issuesOwnedCount * 100.0 / s.issuesAvailableCount))) " +
+            "FROM Series s WHERE s.issuesAvailableCount > 0")
+    CompletionTotals aggregateCompletion();
+
+    // Completion is owned over available; ties fall back to id so pages are stable
+    @Query("SELECT s FROM Series s WHERE s.issuesAvailableCount > 0 " +
+            "ORDER BY s.issuesOwnedCount * 1.0 / s.issuesAvailableCount DESC, s.id")
+    List<Series> findMostComplete(Pageable pageable);
+
+    @Query("SELECT s FROM Series s WHERE s.issuesAvailableCount > 0 AND s.issuesOwnedCount < s.issuesAvailableCount " +
+            "ORDER BY s.issuesOwnedCount * 1.0 / s.issuesAvailableCount, s.id")
+    List<Series> findLeastComplete(Pageable pageable);
+
+    List<Series> findTop5ByCreatedAtNotNullOrderByCreatedAtDesc();
+
     @Query("SELECT s.publisher, COUNT(s) FROM Series s GROUP BY s.publisher ORDER BY COUNT(s) DESC")
     List<Object[]> findPopularPublishers();
 
@@ -0,0 +1,84 @@
+package com.infernokun.infernoComics.repositories;
+
+import com.infernokun.infernoComics.models.Issue;
+import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.SeriesSearchCriteria;
+import com.infernokun.infernoComics.utils.InfernoComicsUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Composable predicates for {@link SeriesRepository}. Each one renders to SQL, so
+ * filtering, counting and paging all happen in the database.
+ */
+public final class SeriesSpecifications {
+
+    private SeriesSpecifications() {
+    }
+
+    public static Specification<Series> matching(SeriesSearchCriteria criteria) {
+        List<Specification<Series>> specs = new ArrayList<>();
+        if (criteria.publisher() != null) specs.add(publisherContains(criteria.publisher()));
+        if (criteria.startYear() != null) specs.add(startYearFrom(criteria.startYear()));
+        if (criteria.endYear() != null) specs.add(startYearTo(criteria.endYear()));
+        if (criteria.minCompletion() != null) specs.add(completionAtLeast(criteria.minCompletion()));
+        if (criteria.maxCompletion() != null) specs.add(completionAtMost(criteria.maxCompletion()));
+        if (criteria.hasComicVine() != null) specs.add(hasComicVine(criteria.hasComicVine()));
+        return Specification.allOf(specs);
+    }
+
+    // Same lower(...) LIKE shape as the ranked search, so the publisher trigram index applies
+    public static Specification<Series> publisherContains(String publisher) {
+        String pattern = InfernoComicsUtils.toContainsPattern(publisher);
+        return (root, query, cb) -> cb.like(cb.lower(root.get("publisher")), pattern, '!');
+    }
+
+    public static Specification<Series> startYearFrom(int year) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startYear"), year);
+    }
+
+    public static Specification<Series> startYearTo(int year) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("startYear"), year);
+    }
+
+    public static Specification<Series> completionAtLeast(int percentage) {
+        return (root, query, cb) -> {
+            Expression<Integer> available = root.get("issuesAvailableCount");
+            return cb.and(
+                    cb.gt(available, 0),
+                    cb.ge(cb.prod(ownedCount(root, query, cb), 100L), cb.prod(available, percentage)));
+        };
+    }
+
+    public static Specification<Series> completionAtMost(int percentage) {
+        return (root, query, cb) -> {
+            Expression<Integer> available = root.get("issuesAvailableCount");
+            return cb.and(
+                    cb.gt(available, 0),
+                    cb.le(cb.prod(ownedCount(root, query, cb), 100L), cb.prod(available, percentage)));
+        };
+    }
+
+    public static Specification<Series> hasComicVine(boolean linked) {
+        return (root, query, cb) -> {
+            Expression<String> comicVineId = root.get("comicVineId");
+            return linked
+                    ? cb.and(cb.isNotNull(comicVineId), cb.notEqual(comicVineId, ""))
+                    : cb.or(cb.isNull(comicVineId), cb.equal(comicVineId, ""));
+        };
+    }
+
+    // Percentages are compared as owned * 100 against percentage * available, so there's no division
+    private static Subquery<Long> ownedCount(Root<Series> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Subquery<Long> owned = query.subquery(Long.class);
+        Root<Issue> issue = owned.from(Issue.class);
+        return owned.select(cb.count(issue)).where(cb.equal(issue.get("series"), root));
+    }
+}
@@ -0,0 +1,21 @@
+package com.infernokun.infernoComics.repositories.comicvine;
+
+import com.infernokun.infernoComics.models.comicvine.ComicVineIssue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ComicVineIssueRepository extends JpaRepository<ComicVineIssue, Long> {
+    List<ComicVineIssue> findByVolumeIdOrderByIdAsc(Long volumeId);
+
+    // Issues Comic Vine no longer lists under the volume
+    @Modifying
+    @Query("DELETE FROM ComicVineIssue i WHERE i.volumeId = :volumeId AND i.id NOT IN :keep")
+    int deleteByVolumeIdAndIdNotIn(@Param("volumeId") Long volumeId, @Param("keep") Collection<Long> keep);
+}
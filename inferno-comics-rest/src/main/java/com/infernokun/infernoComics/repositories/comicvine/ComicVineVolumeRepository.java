@@ -0,0 +1,12 @@
+package com.infernokun.infernoComics.repositories.comicvine;
+
+import com.infernokun.infernoComics.models.comicvine.ComicVineVolume;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ComicVineVolumeRepository extends JpaRepository<ComicVineVolume, Long> {
+    List<ComicVineVolume> findAllByOrderByIdAsc();
+}
@@ -0,0 +1,246 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.config.CacheAccessTracker;
+import com.infernokun.infernoComics.utils.CacheConstants;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rebuilds the caches that are slowest to fill cold: the series list, the collection stats and
+ * the most-read series, ranked by {@link CacheAccessTracker}. Runs after startup and after the
+ * admin cache clears, one load at a time on its own thread.
+ * <p>
+ * Loads go through the regular cached service methods, so a warm entry is just a cache hit.
+ * Before each load the warm-up waits for the connection pool to go quiet, and after it, it
+ * pauses as long as the load took, so it never holds more than half of one connection's time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupService {
+    private final SeriesService seriesService;
+    private final StatsService statsService;
+    private final CacheAccessTracker accessTracker;
+    private final DataSource dataSource;
+
+    static final int TOP_SERIES = 50;
+    private static final long MIN_PAUSE_MS = 50;
+    private static final long BUSY_POLL_MS = 250;
+    private static final long MAX_BUSY_WAIT_MS = 120_000;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("cache-warmup").daemon().factory());
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile Progress progress = Progress.idle();
+
+    private record Step(String name, Runnable load) { }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpAfterStartup() {
+        requestWarmup("startup");
+    }
+
+    /**
+     * Queues a warm-up. Requests made while one is waiting to start share it; a request made
+     * while one is running queues one more run, since the caches may have been cleared again.
+     *
+     * @return false if a warm-up was already waiting to start
+     */
+    public boolean requestWarmup(String trigger) {
+        if (!scheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            scheduled.set(false);
+            warmUp(trigger);
+        });
+        return true;
+    }
+
+    // Counts are flushed often enough that a restart loses at most a minute of them
+    @Scheduled(fixedDelay = 60_000)
+    public void flushAccessCounts() {
+        try {
+            accessTracker.flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush cache access counts: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getProgress() {
+        return progress.toMap();
+    }
+
+    void warmUp(String trigger) {
+        List<Step> steps = plan();
+        Progress run = Progress.started(trigger, steps.size());
+        progress = run;
+        log.info("Cache warm-up ({}) started with {} loads", trigger, steps.size());
+
+        for (Step step : steps) {
+            if (!awaitQuietPool()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                run.skipped++;
+                continue;
+            }
+
+            run.current = step.name();
+            long start = System.nanoTime();
+            try {
+                accessTracker.runUntracked(step.load());
+                run.completed++;
+            } catch (Exception e) {
+                run.failed++;
+                log.warn("Cache warm-up load {} failed: {}", step.name(), e.getMessage());
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            run.timings.put(step.name(), elapsedMs);
+
+            if (!pause(Math.max(MIN_PAUSE_MS, elapsedMs))) {
+                break;
+            }
+        }
+
+        run.finish();
+        log.info("Cache warm-up ({}) finished in {}ms: {} loaded, {} failed, {} skipped",
+                trigger, run.durationMs(), run.completed, run.failed, run.skipped);
+    }
+
+    private List<Step> plan() {
+        List<Step> steps = new ArrayList<>();
+        steps.add(new Step(CacheConstants.CacheNames.SERIES_LIST, seriesService::getAllSeries));
+        steps.add(new Step("collection-stats", statsService::getCollectionStats));
+
+        // Include this instance's reads since the last flush, e.g. right before a clear
+        flushAccessCounts();
+        List<String> hottest;
+        try {
+            hottest = accessTracker.hottestKeys(CacheConstants.CacheNames.SERIES, TOP_SERIES);
+        } catch (Exception e) {
+            log.warn("Failed to read the most-read series, warming lists only: {}", e.getMessage());
+            hottest = List.of();
+        }
+        for (String key : hottest) {
+            try {
+                long seriesId = Long.parseLong(key);
+                steps.add(new Step(CacheConstants.CacheNames.SERIES + ":" + seriesId, () -> seriesService.getSeriesById(seriesId)));
+            } catch (NumberFormatException e) {
+                log.debug("Skipping non-numeric series cache key {}", key);
+            }
+        }
+        return steps;
+    }
+
+    // Live requests waiting on (or holding most of) the pool take precedence over warm-up
+    private boolean awaitQuietPool() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return true;
+        }
+        long deadline = System.currentTimeMillis() + MAX_BUSY_WAIT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null || (pool.getThreadsAwaitingConnection() == 0
+                    && pool.getActiveConnections() < Math.max(1, hikari.getMaximumPoolSize() / 2))) {
+                return true;
+            }
+            if (!pause(BUSY_POLL_MS)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class Progress {
+        private final String state;
+        private final String trigger;
+        private final int planned;
+        private final LocalDateTime startedAt;
+        private final long startNanos;
+        private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+        private volatile String current;
+        private volatile int completed;
+        private volatile int failed;
+        private volatile int skipped;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private Progress(String state, String trigger, int planned) {
+            this.state = state;
+            this.trigger = trigger;
+            this.planned = planned;
+            this.startedAt = LocalDateTime.now();
+            this.startNanos = System.nanoTime();
+        }
+
+        static Progress idle() {
+            return new Progress("IDLE", null, 0);
+        }
+
+        static Progress started(String trigger, int planned) {
+            return new Progress("RUNNING", trigger, planned);
+        }
+
+        void finish() {
+            current = null;
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+        }
+
+        long durationMs() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            return (end - startNanos) / 1_000_000;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("state", finishedAt != null ? "FINISHED" : state);
+            if (trigger == null) {
+                return map;
+            }
+            map.put("trigger", trigger);
+            map.put("startedAt", startedAt);
+            map.put("finishedAt", finishedAt);
+            map.put("currentLoad", current);
+            map.put("planned", planned);
+            map.put("completed", completed);
+            map.put("failed", failed);
+            map.put("skipped", skipped);
+            map.put("durationMs", durationMs());
+            synchronized (timings) {
+                map.put("timingsMs", new LinkedHashMap<>(timings));
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.models.CollectionCounter;
+import com.infernokun.infernoComics.models.Issue;
+import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.enums.Condition;
+import com.infernokun.infernoComics.repositories.CollectionCounterRepository;
+import com.infernokun.infernoComics.repositories.IssueRepository;
+import com.infernokun.infernoComics.repositories.SeriesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@code collection_counters} rollup. Write paths in {@link IssueService} and
+ * {@link SeriesService} report what they changed and the deltas are applied inside the caller's
+ * transaction, so the counters commit or roll back with the data they describe.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CollectionCounterService {
+    private final CollectionCounterRepository collectionCounterRepository;
+    private final SeriesRepository seriesRepository;
+    private final IssueRepository issueRepository;
+
+    public static final String SERIES_TOTAL = "series.total";
+    public static final String ISSUES_TOTAL = "issues.total";
+    public static final String ISSUES_KEY = "issues.key";
+    public static final String ISSUES_VARIANT = "issues.variant";
+    public static final String ISSUES_CURRENT_VALUE = "issues.currentValue";
+    public static final String ISSUES_PURCHASE_VALUE = "issues.purchaseValue";
+    public static final String PUBLISHER_SERIES_PREFIX = "publisher.series:";
+    public static final String PUBLISHER_ISSUES_PREFIX = "publisher.issues:";
+    public static final String CONDITION_PREFIX = "condition:";
+
+    /**
+     * The parts of an issue that feed the counters. Taken before an in-place update so the
+     * old contribution can be backed out.
+     */
+    public record IssueContribution(String publisher, boolean keyIssue, boolean variant, Condition condition,
+                                    BigDecimal currentValue, BigDecimal purchasePrice) {
+
+        public static IssueContribution of(Issue issue) {
+            return new IssueContribution(
+                    issue.getSeries() != null ? issue.getSeries().getPublisher() : null,
+                    Boolean.TRUE.equals(issue.getKeyIssue()),
+                    Boolean.TRUE.equals(issue.getVariant()),
+                    issue.getCondition(),
+                    issue.getCurrentValue(),
+                    issue.getPurchasePrice());
+        }
+    }
+
+    public record ReconciliationReport(int countersChecked, Map<String, String> drift) {
+        public boolean hasDrift() {
+            return !drift.isEmpty();
+        }
+    }
+
+    @Transactional
+    public void issueAdded(Issue issue) {
+        apply(contributionDeltas(IssueContribution.of(issue), 1));
+    }
+
+    @Transactional
+    public void issueRemoved(Issue issue) {
+        apply(contributionDeltas(IssueContribution.of(issue), -1));
+    }
+
+    @Transactional
+    public void issueChanged(IssueContribution before, Issue after) {
+        Map<String, Delta> deltas = contributionDeltas(before, -1);
+        contributionDeltas(IssueContribution.of(after), 1).forEach((key, delta) -> deltas.merge(key, delta, Delta::plus));
+        apply(deltas);
+    }
+
+    @Transactional
+    public void seriesAdded(Series series) {
+        Map<String, Delta> deltas = new HashMap<>();
+        add(deltas, SERIES_TOTAL, 1, null);
+        addPublisher(deltas, PUBLISHER_SERIES_PREFIX, series.getPublisher(), 1);
+        apply(deltas);
+    }
+
+    /**
+     * Removes a series along with the contribution of every issue that is deleted with it.
+     */
+    @Transactional
+    public void seriesRemoved(Series series, Collection<Issue> issues) {
+        Map<String, Delta> deltas = new HashMap<>();
+        add(deltas, SERIES_TOTAL, -1, null);
+        addPublisher(deltas, PUBLISHER_SERIES_PREFIX, series.getPublisher(), -1);
+        issues.forEach(issue -> contributionDeltas(IssueContribution.of(issue), -1)
+                .forEach((key, delta) -> deltas.merge(key, delta, Delta::plus)));
+        apply(deltas);
+    }
+
+    /**
+     * A publisher rename moves the series and all of its issues to the new publisher bucket.
+     */
+    @Transactional
+    public void seriesPublisherChanged(String oldPublisher, String newPublisher, long issueCount) {
+        if (Objects.equals(normalizePublisher(oldPublisher), normalizePublisher(newPublisher))) {
+            return;
+        }
+        Map<String, Delta> deltas = new HashMap<>();
+        addPublisher(deltas, PUBLISHER_SERIES_PREFIX, oldPublisher, -1);
+        addPublisher(deltas, PUBLISHER_SERIES_PREFIX, newPublisher, 1);
+        addPublisher(deltas, PUBLISHER_ISSUES_PREFIX, oldPublisher, -issueCount);
+        addPublisher(deltas, PUBLISHER_ISSUES_PREFIX, newPublisher, issueCount);
+        apply(deltas);
+    }
+
+    // Seeds the rollup on first start so stats are right before the first nightly reconciliation
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (collectionCounterRepository.count() == 0) {
+            log.info("Collection counters are empty, seeding from the base tables");
+            reconcile();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, CollectionCounter> getCounters() {
+        return collectionCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(CollectionCounter::getCounterKey, counter -> counter));
+    }
+
+    /**
+     * Recomputes every counter from the base tables, logs any drift from the maintained values
+     * and corrects the rollup to the recomputed totals.
+     * <p>
+     * The counter rows are locked before anything is read. Issue and series writes move the
+     * totals locked here, so each one either committed before the lock was granted or waits for
+     * reconciliation to commit instead of landing between the recount and the correction.
+     */
+    @Transactional
+    public ReconciliationReport reconcile() {
+        Map<String, CollectionCounter> actual = collectionCounterRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(CollectionCounter::getCounterKey, counter -> counter));
+        Map<String, Delta> expected = recompute();
+
+        Map<String, String> drift = new TreeMap<>();
+        Map<String, Delta> corrections = new HashMap<>();
+        Set<String> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        for (String key : keys) {
+            Delta want = expected.getOrDefault(key, Delta.ZERO);
+            CollectionCounter have = actual.get(key);
+            long haveCount = have != null ? have.getCountValue() : 0;
+            BigDecimal haveAmount = have != null ? have.getAmountValue() : BigDecimal.ZERO;
+
+            if (want.count() != haveCount || want.amount().compareTo(haveAmount) != 0) {
+                drift.put(key, String.format("expected count=%d amount=%s, found count=%d amount=%s",
+                        want.count(), want.amount(), haveCount, haveAmount));
+                corrections.put(key, new Delta(want.count() - haveCount, want.amount().subtract(haveAmount)));
+            }
+        }
+
+        drift.forEach((key, detail) -> log.warn("Collection counter drift on {}: {}", key, detail));
+        apply(corrections);
+
+        log.info("Collection counter reconciliation checked {} counters, {} drifted", keys.size(), drift.size());
+        return new ReconciliationReport(keys.size(), drift);
+    }
+
+    private Map<String, Delta> recompute() {
+        Map<String, Delta> expected = new HashMap<>();
+        add(expected, SERIES_TOTAL, seriesRepository.count(), null);
+
+        for (Object[] row : seriesRepository.findPopularPublishers()) {
+            addPublisher(expected, PUBLISHER_SERIES_PREFIX, (String) row[0], ((Number) row[1]).longValue());
+        }
+
+        for (Object[] row : issueRepository.aggregateCounterContributions()) {
+            long count = ((Number) row[4]).longValue();
+            IssueContribution contribution = new IssueContribution(
+                    (String) row[0],
+                    Boolean.TRUE.equals(row[1]),
+                    Boolean.TRUE.equals(row[2]),
+                    (Condition) row[3],
+                    (BigDecimal) row[5],
+                    (BigDecimal) row[6]);
+            // Sums are already totals for the group, so only the counts are scaled
+            contributionDeltas(contribution, count).forEach((key, delta) -> expected.merge(key, delta, Delta::plus));
+        }
+
+        return expected;
+    }
+
+    private Map<String, Delta> contributionDeltas(IssueContribution contribution, long sign) {
+        Map<String, Delta> deltas = new HashMap<>();
+        long direction = Long.signum(sign);
+        add(deltas, ISSUES_TOTAL, sign, null);
+        if (contribution.keyIssue()) add(deltas, ISSUES_KEY, sign, null);
+        if (contribution.variant()) add(deltas, ISSUES_VARIANT, sign, null);
+        if (contribution.currentValue() != null) {
+            add(deltas, ISSUES_CURRENT_VALUE, 0, contribution.currentValue().multiply(BigDecimal.valueOf(direction)));
+        }
+        if (contribution.purchasePrice() != null) {
+            add(deltas, ISSUES_PURCHASE_VALUE, 0, contribution.purchasePrice().multiply(BigDecimal.valueOf(direction)));
+        }
+        if (contribution.condition() != null) {
+            add(deltas, CONDITION_PREFIX + contribution.condition(), sign, null);
+        }
+        addPublisher(deltas, PUBLISHER_ISSUES_PREFIX, contribution.publisher(), sign);
+        return deltas;
+    }
+
+    private void addPublisher(Map<String, Delta> deltas, String prefix, String publisher, long count) {
+        String normalized = normalizePublisher(publisher);
+        if (normalized != null) {
+            add(deltas, prefix + normalized, count, null);
+        }
+    }
+
+    private void add(Map<String, Delta> deltas, String key, long count, BigDecimal amount) {
+        deltas.merge(key, new Delta(count, amount != null ? amount : BigDecimal.ZERO), Delta::plus);
+    }
+
+    private String normalizePublisher(String publisher) {
+        return publisher == null || publisher.isBlank() ? null : publisher;
+    }
+
+    // In key order, so writers take the counter rows in one consistent order and don't deadlock each other
+    private void apply(Map<String, Delta> deltas) {
+        new TreeMap<>(deltas).forEach((key, delta) -> {
+            if (delta.count() != 0 || delta.amount().signum() != 0) {
+                collectionCounterRepository.applyDelta(key, delta.count(), delta.amount());
+            }
+        });
+    }
+
+    private record Delta(long count, BigDecimal amount) {
+        static final Delta ZERO = new Delta(0, BigDecimal.ZERO);
+
+        Delta plus(Delta other) {
+            return new Delta(count + other.count, amount.add(other.amount));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.models.comicvine.ComicVineIssue;
+import com.infernokun.infernoComics.models.comicvine.ComicVineVolume;
+import com.infernokun.infernoComics.repositories.comicvine.ComicVineIssueRepository;
+import com.infernokun.infernoComics.repositories.comicvine.ComicVineVolumeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL copy of the Comic Vine volumes and issues the collection references. Lookups read
+ * it before going to the API, and it doesn't expire; {@link ComicVineService#refreshMirror()}
+ * keeps it current by pulling only what changed on Comic Vine since the last run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ComicVineMirrorService {
+    private final ComicVineVolumeRepository volumeRepository;
+    private final ComicVineIssueRepository issueRepository;
+
+    /**
+     * A changed issue as reported by a filtered issue listing, with the volume it belongs to.
+     */
+    public record VolumeIssue(Long volumeId, ComicVineService.ComicVineIssueDto issue) { }
+
+    @Transactional(readOnly = true)
+    public Optional<ComicVineService.ComicVineSeriesDto> findVolume(Long volumeId) {
+        return volumeRepository.findById(volumeId)
+                .filter(volume -> volume.getDetailSyncedAt() != null)
+                .map(ComicVineMirrorService::toDto);
+    }
+
+    /**
+     * The issue as the detail call would return it, if its detail has been mirrored.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ComicVineService.ComicVineIssueDto> findIssue(Long issueId) {
+        return issueRepository.findById(issueId)
+                .filter(issue -> issue.getDetailSyncedAt() != null)
+                .map(ComicVineMirrorService::toDto);
+    }
+
+    /**
+     * Batch form of {@link #findIssue(Long)}: only issues whose detail has been mirrored.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ComicVineService.ComicVineIssueDto> findIssues(Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return Map.of();
+        }
+        return issueRepository.findAllById(issueIds).stream()
+                .filter(issue -> issue.getDetailSyncedAt() != null)
+                .collect(Collectors.toMap(ComicVineIssue::getId, ComicVineMirrorService::toDto));
+    }
+
+    /**
+     * The volume's issues, if its full issue list has been mirrored.
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<ComicVineService.ComicVineIssueDto>> findVolumeIssues(Long volumeId) {
+        return volumeRepository.findById(volumeId)
+                .filter(volume -> volume.getIssuesSyncedAt() != null)
+                .map(volume -> issueRepository.findByVolumeIdOrderByIdAsc(volumeId).stream()
+                        .map(ComicVineMirrorService::toDto)
+                        .collect(Collectors.toList()));
+    }
+
+    @Transactional
+    public void storeVolumes(Collection<ComicVineService.ComicVineSeriesDto> dtos) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ComicVineService.ComicVineSeriesDto> byId = indexById(dtos, ComicVineService.ComicVineSeriesDto::getId);
+        Map<Long, ComicVineVolume> existing = volumesById(byId.keySet());
+
+        List<ComicVineVolume> volumes = new ArrayList<>(byId.size());
+        byId.forEach((id, dto) -> {
+            ComicVineVolume volume = existing.computeIfAbsent(id, ComicVineVolume::new);
+            volume.setName(dto.getName());
+            volume.setDescription(dto.getDescription());
+            volume.setIssueCount(dto.getIssueCount());
+            volume.setPublisher(dto.getPublisher());
+            volume.setStartYear(dto.getStartYear());
+            volume.setEndYear(dto.getEndYear());
+            volume.setImageUrl(dto.getImageUrl());
+            volume.setDetailSyncedAt(now);
+            if (volume.getRefreshedAt() == null) {
+                volume.setRefreshedAt(now);
+            }
+            volumes.add(volume);
+        });
+        volumeRepository.saveAll(volumes);
+    }
+
+    /**
+     * Stores issues from an {@code /issues/} listing. Listings carry no variant covers, so
+     * whatever a row already has from the detail call is kept.
+     */
+    @Transactional
+    public void storeIssues(Collection<VolumeIssue> listed) {
+        store(listed, Source.LISTING);
+    }
+
+    /**
+     * Stores issues from a listing of records Comic Vine reports as changed. Their mirrored
+     * details may be out of date too, so the next lookup by id goes back to the detail call.
+     */
+    @Transactional
+    public void storeChangedIssues(Collection<VolumeIssue> changed) {
+        store(changed, Source.CHANGED_LISTING);
+    }
+
+    /**
+     * Stores issues from the {@code /issue/} detail call, variant covers included.
+     */
+    @Transactional
+    public void storeIssueDetails(Collection<VolumeIssue> details) {
+        store(details, Source.DETAIL);
+    }
+
+    /**
+     * Replaces the volume's mirrored issue list with a complete one fetched from Comic Vine.
+     */
+    @Transactional
+    public void storeVolumeIssues(Long volumeId, List<ComicVineService.ComicVineIssueDto> dtos) {
+        LocalDateTime now = LocalDateTime.now();
+        storeIssues(dtos.stream().map(dto -> new VolumeIssue(volumeId, dto)).toList());
+
+        Set<Long> keep = indexById(dtos, ComicVineService.ComicVineIssueDto::getId).keySet();
+        if (!keep.isEmpty()) {
+            issueRepository.deleteByVolumeIdAndIdNotIn(volumeId, keep);
+        }
+
+        ComicVineVolume volume = volumeRepository.findById(volumeId).orElseGet(() -> new ComicVineVolume(volumeId));
+        volume.setIssuesSyncedAt(now);
+        if (volume.getRefreshedAt() == null) {
+            volume.setRefreshedAt(now);
+        }
+        volumeRepository.save(volume);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ComicVineVolume> getVolumes() {
+        return volumeRepository.findAllByOrderByIdAsc();
+    }
+
+    @Transactional
+    public void markRefreshed(Collection<Long> volumeIds, LocalDateTime through) {
+        List<ComicVineVolume> volumes = volumeRepository.findAllById(volumeIds);
+        volumes.forEach(volume -> volume.setRefreshedAt(through));
+        volumeRepository.saveAll(volumes);
+    }
+
+    private enum Source { LISTING, CHANGED_LISTING, DETAIL }
+
+    private void store(Collection<VolumeIssue> changes, Source source) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, VolumeIssue> byId = indexById(changes, change -> change.issue().getId());
+        Map<Long, ComicVineIssue> existing = issueRepository.findAllById(byId.keySet()).stream()
+                .collect(Collectors.toMap(ComicVineIssue::getId, Function.identity()));
+
+        List<ComicVineIssue> issues = new ArrayList<>(byId.size());
+        byId.forEach((id, change) -> {
+            ComicVineIssue issue = existing.computeIfAbsent(id, ComicVineIssue::new);
+            apply(issue, change.issue(), now);
+            switch (source) {
+                case DETAIL -> {
+                    List<ComicVineService.ComicVineIssueDto.VariantCover> variants = change.issue().getVariants();
+                    issue.setVariants(variants != null ? new ArrayList<>(variants) : new ArrayList<>());
+                    issue.setDetailSyncedAt(now);
+                }
+                case CHANGED_LISTING -> issue.setDetailSyncedAt(null);
+                case LISTING -> { }
+            }
+            if (change.volumeId() != null) {
+                issue.setVolumeId(change.volumeId());
+            }
+            issues.add(issue);
+        });
+        issueRepository.saveAll(issues);
+    }
+
+    private Map<Long, ComicVineVolume> volumesById(Collection<Long> ids) {
+        return volumeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ComicVineVolume::getId, Function.identity()));
+    }
+
+    // Comic Vine ids arrive as text; anything that isn't a number can't be keyed and is dropped
+    private static <T> Map<Long, T> indexById(Collection<T> values, Function<T, String> id) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        for (T value : values) {
+            try {
+                byId.put(Long.parseLong(id.apply(value)), value);
+            } catch (NumberFormatException e) {
+                log.warn("Not mirroring Comic Vine record with id '{}'", id.apply(value));
+            }
+        }
+        return byId;
+    }
+
+    private static void apply(ComicVineIssue issue, ComicVineService.ComicVineIssueDto dto, LocalDateTime now) {
+        issue.setIssueNumber(dto.getIssueNumber());
+        issue.setName(dto.getName());
+        issue.setDescription(dto.getDescription());
+        issue.setCoverDate(dto.getCoverDate());
+        issue.setImageUrl(dto.getImageUrl());
+        issue.setSyncedAt(now);
+    }
+
+    private static ComicVineService.ComicVineSeriesDto toDto(ComicVineVolume volume) {
+        ComicVineService.ComicVineSeriesDto dto = new ComicVineService.ComicVineSeriesDto();
+        dto.setId(String.valueOf(volume.getId()));
+        dto.setName(volume.getName());
+        dto.setDescription(volume.getDescription());
+        dto.setIssueCount(volume.getIssueCount());
+        dto.setPublisher(volume.getPublisher());
+        dto.setStartYear(volume.getStartYear());
+        dto.setEndYear(volume.getEndYear());
+        dto.setImageUrl(volume.getImageUrl());
+        return dto;
+    }
+
+    private static ComicVineService.ComicVineIssueDto toDto(ComicVineIssue issue) {
+        ComicVineService.ComicVineIssueDto dto = new ComicVineService.ComicVineIssueDto();
+        dto.setId(String.valueOf(issue.getId()));
+        dto.setIssueNumber(issue.getIssueNumber());
+        dto.setName(issue.getName());
+        dto.setDescription(issue.getDescription());
+        dto.setCoverDate(issue.getCoverDate());
+        dto.setImageUrl(issue.getImageUrl());
+        dto.setVariants(issue.getVariants() == null || issue.getVariants().isEmpty() ? null : new ArrayList<>(issue.getVariants()));
+        return dto;
+    }
+}
@@ -0,0 +1,287 @@
+package com.infernokun.infernoComics.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.infernokun.infernoComics.utils.GenericTextCleaner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads Comic Vine response bodies token by token straight into the DTOs, without building a
+ * tree of the whole body first. Fields the DTOs don't use are skipped as they stream past.
+ * <p>
+ * Values come out as the tree-based parsing used to give them: text fields a response leaves
+ * out are empty, an explicit {@code null} reads as {@code "null"}, and numbers given as strings
+ * (Comic Vine sends {@code start_year} that way) are parsed.
+ */
+public final class ComicVineResponseReader {
+
+    // Only what the DTOs read; sent as field_list so Comic Vine leaves the rest out
+    public static final String ISSUE_FIELDS = "id,issue_number,name,description,cover_date,image,associated_images";
+    public static final String SERIES_FIELDS = "id,name,description,count_of_issues,publisher,start_year,image";
+    public static final String SEARCH_FIELDS = "resource_type," + SERIES_FIELDS;
+    public static final String VOLUME_ISSUE_FIELDS = ISSUE_FIELDS + ",volume";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * One response: the results in the order they were sent, and Comic Vine's count of all
+     * matches, or -1 when the response doesn't carry one.
+     */
+    public record Page<T>(List<T> results, int totalResults) { }
+
+    @FunctionalInterface
+    private interface ResultReader<T> {
+        /** Reads one result object, leaving the parser on its END_OBJECT; null drops it. */
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private ComicVineResponseReader() {
+    }
+
+    public static Page<ComicVineService.ComicVineIssueDto> readIssues(InputStream body) throws IOException {
+        return read(body, parser -> readIssue(parser, (field, token) -> parser.skipChildren()));
+    }
+
+    /**
+     * Issues along with the id of the volume each belongs to, for responses requested with
+     * {@link #VOLUME_ISSUE_FIELDS}.
+     */
+    public static Page<ComicVineMirrorService.VolumeIssue> readVolumeIssues(InputStream body) throws IOException {
+        return read(body, parser -> {
+            Long[] volumeId = {null};
+            ComicVineService.ComicVineIssueDto issue = readIssue(parser, (field, token) -> {
+                if (field.equals("volume")) {
+                    volumeId[0] = parseId(nestedText(parser, token, "id"));
+                } else {
+                    parser.skipChildren();
+                }
+            });
+            return new ComicVineMirrorService.VolumeIssue(volumeId[0], issue);
+        });
+    }
+
+    public static Page<ComicVineService.ComicVineSeriesDto> readSeries(InputStream body) throws IOException {
+        return read(body, ComicVineResponseReader::readSeries);
+    }
+
+    /**
+     * Search results mix resource types; only volumes are kept.
+     */
+    public static Page<ComicVineService.ComicVineSeriesDto> readVolumeSearch(InputStream body) throws IOException {
+        return read(body, parser -> {
+            SeriesFields fields = new SeriesFields(parser);
+            readObject(parser, fields);
+            return "volume".equals(fields.resourceType) ? fields.dto : null;
+        });
+    }
+
+    private static <T> Page<T> read(InputStream body, ResultReader<T> resultReader) throws IOException {
+        List<T> results = new ArrayList<>();
+        int totalResults = -1;
+
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Comic Vine response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "number_of_total_results" -> totalResults = parser.getValueAsInt(-1);
+                    // Lists come back as an array, single resources as one object
+                    case "results" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            JsonToken element;
+                            while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                                if (element == JsonToken.START_OBJECT) {
+                                    addIfPresent(results, resultReader.read(parser));
+                                } else {
+                                    parser.skipChildren();
+                                }
+                            }
+                        } else if (value == JsonToken.START_OBJECT) {
+                            addIfPresent(results, resultReader.read(parser));
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new Page<>(results, totalResults);
+    }
+
+    private static ComicVineService.ComicVineIssueDto readIssue(JsonParser parser, FieldReader otherFields) throws IOException {
+        ComicVineService.ComicVineIssueDto dto = new ComicVineService.ComicVineIssueDto();
+        dto.setId("");
+        dto.setIssueNumber("");
+        dto.setName("");
+        dto.setDescription("");
+        dto.setCoverDate("");
+
+        readObject(parser, (field, token) -> {
+            switch (field) {
+                case "id" -> dto.setId(text(parser));
+                case "issue_number" -> dto.setIssueNumber(text(parser));
+                case "name" -> dto.setName(text(parser));
+                case "description" -> dto.setDescription(GenericTextCleaner.makeReadable(text(parser)));
+                case "cover_date" -> dto.setCoverDate(text(parser));
+                case "image" -> dto.setImageUrl(mediumUrl(parser));
+                case "associated_images" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        dto.setVariants(readVariants(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> otherFields.field(field, token);
+            }
+        });
+        return dto;
+    }
+
+    private static List<ComicVineService.ComicVineIssueDto.VariantCover> readVariants(JsonParser parser) throws IOException {
+        List<ComicVineService.ComicVineIssueDto.VariantCover> variants = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            ComicVineService.ComicVineIssueDto.VariantCover variant =
+                    new ComicVineService.ComicVineIssueDto.VariantCover("", "", "", "");
+            if (token == JsonToken.START_OBJECT) {
+                readObject(parser, (field, value) -> {
+                    switch (field) {
+                        case "id" -> variant.setId(text(parser));
+                        case "original_url" -> variant.setOriginalUrl(text(parser));
+                        case "caption" -> variant.setCaption(text(parser));
+                        case "image_tags" -> variant.setImageTags(text(parser));
+                        default -> parser.skipChildren();
+                    }
+                });
+            } else {
+                parser.skipChildren();
+            }
+            variants.add(variant);
+        }
+        return variants;
+    }
+
+    private static ComicVineService.ComicVineSeriesDto readSeries(JsonParser parser) throws IOException {
+        SeriesFields fields = new SeriesFields(parser);
+        readObject(parser, fields);
+        return fields.dto;
+    }
+
+    /**
+     * Collects a volume's fields. Kept as a class so search results can also note the
+     * resource type they were sent with.
+     */
+    private static final class SeriesFields implements FieldReader {
+        private final ComicVineService.ComicVineSeriesDto dto = new ComicVineService.ComicVineSeriesDto();
+        private final JsonParser parser;
+        private String resourceType = "";
+
+        SeriesFields(JsonParser parser) {
+            this.parser = parser;
+            dto.setId("");
+            dto.setName("");
+            dto.setDescription("");
+            dto.setIssueCount(0);
+            dto.setStartYear(0);
+        }
+
+        @Override
+        public void field(String field, JsonToken token) throws IOException {
+            switch (field) {
+                case "resource_type" -> resourceType = text(parser);
+                case "id" -> dto.setId(text(parser));
+                case "name" -> dto.setName(text(parser));
+                case "description" -> dto.setDescription(GenericTextCleaner.makeReadable(text(parser)));
+                case "count_of_issues" -> dto.setIssueCount(intValue(parser, token));
+                case "publisher" -> dto.setPublisher(nestedText(parser, token, "name"));
+                case "start_year" -> dto.setStartYear(intValue(parser, token));
+                case "end_year" -> {
+                    int endYear = intValue(parser, token);
+                    if (endYear > 0) {
+                        dto.setEndYear(endYear);
+                    }
+                }
+                case "image" -> dto.setImageUrl(mediumUrl(parser));
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        /** Called with the parser on the field's first value token. */
+        void field(String field, JsonToken token) throws IOException;
+    }
+
+    /**
+     * Walks the object the parser is on, handing each field to the reader, and leaves the
+     * parser on the object's END_OBJECT.
+     */
+    private static void readObject(JsonParser parser, FieldReader reader) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            reader.field(field, parser.nextToken());
+        }
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return id.isEmpty() ? null : Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static <T> void addIfPresent(List<T> results, T result) {
+        if (result != null) {
+            results.add(result);
+        }
+    }
+
+    // Same as JsonNode.asText(): text for scalars, "null" for null, empty for objects and arrays
+    private static String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getText();
+    }
+
+    // Same as JsonNode.asInt(0): numbers, numeric strings and booleans; anything else is 0
+    private static int intValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt(0);
+    }
+
+    private static String mediumUrl(JsonParser parser) throws IOException {
+        return nestedText(parser, parser.currentToken(), "medium_url");
+    }
+
+    // One text field of a nested object; empty when the value is null or the field is absent
+    private static String nestedText(JsonParser parser, JsonToken token, String name) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return "";
+        }
+        String[] value = {""};
+        readObject(parser, (field, fieldToken) -> {
+            if (field.equals(name)) {
+                value[0] = text(parser);
+            } else {
+                parser.skipChildren();
+            }
+        });
+        return value[0];
+    }
+}
@@ -1,41 +1,88 @@
 package com.infernokun.infernoComics.services;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infernokun.infernoComics.clients.ComicVineRequestScheduler;
 import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
+import com.infernokun.infernoComics.clients.UpstreamCircuitBreakers;
 import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.config.NotFoundCache;
+import com.infernokun.infernoComics.config.RedisKeyIndex;
+import com.infernokun.infernoComics.config.TwoTierCacheManager;
 import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.comicvine.ComicVineVolume;
 import com.infernokun.infernoComics.utils.GenericTextCleaner;
+import com.infernokun.infernoComics.utils.IssueSortKey;
+import jakarta.annotation.PreDestroy;
 import lombok.*;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import lombok.extern.slf4j.Slf4j;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ComicVineService {
-    private final ObjectMapper objectMapper;
     private final InfernoComicsConfig infernoComicsConfig;
-    private final StringRedisTemplate stringRedisTemplate;
     private final RedisJsonService redisJsonService;
     private final InfernoComicsWebClient webClient;
+    private final RedisKeyIndex redisKeyIndex;
+    private final TwoTierCacheManager cacheManager;
+    private final ComicVineRequestScheduler requestScheduler;
+    private final ComicVineMirrorService comicVineMirror;
+    private final NotFoundCache notFoundCache;
+    private final UpstreamCircuitBreakers circuitBreakers;
+
+    // Volumes whose remaining pages are being fetched in the background, with the pages already in hand
+    private final Map<String, List<ComicVineIssueDto>> continuingVolumes = new ConcurrentHashMap<>();
+    private final ExecutorService continuations = Executors.newVirtualThreadPerTaskExecutor();
 
     private static final String SERIES_CACHE_PREFIX = "comic_vine_series:";
     private static final String ISSUES_CACHE_PREFIX = "comic_vine_issues:";
+    private static final String SERIES_CACHE_INDEX = "manual:comic_vine_series";
+    private static final String ISSUES_CACHE_INDEX = "manual:comic_vine_issues";
     private static final long CACHE_TTL_HOURS = 24; // Cache Comic Vine data for 24 hours
+    private static final String SERIES_ISSUES_CACHE = "comic-vine-issues";
+    private static final String VOLUME_ISSUES_CACHE = "comic-vine-volume-issues";
+    private static final String ISSUE_BY_ID_CACHE = "comic_vine_issues";
+    private static final String ISSUE_LOOKUP = "comic-vine-issue";
+    private static final String VOLUME_LOOKUP = "comic-vine-volume";
+    // Comic Vine's largest page for list resources
+    private static final int PAGE_SIZE = 100;
+    private static final int MIRROR_BATCH_SIZE = 100;
+    // Comic Vine stamps date_last_updated in its own timezone; a day of overlap on both ends
+    // covers any offset, and applying an unchanged record again is harmless
+    private static final Duration MIRROR_REFRESH_OVERLAP = Duration.ofDays(1);
+    private static final DateTimeFormatter COMIC_VINE_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Issue sort key first, then ISO cover date; keys are computed once per issue, not per comparison
+    private static final Comparator<Map.Entry<String, ComicVineIssueDto>> ISSUE_ORDER =
+            Map.Entry.<String, ComicVineIssueDto>comparingByKey()
+                    .thenComparing(entry -> entry.getValue().getCoverDate(), Comparator.nullsLast(Comparator.naturalOrder()));
 
     private boolean apiKeyNotValid() {
         String apiKey = infernoComicsConfig.getComicVineAPIKey();
@@ -47,7 +94,7 @@ public class ComicVineService {
     }
 
     // Cache series search results with annotation-based caching
-    @Cacheable(value = "comic-vine-series", key = "#query")
+    @Cacheable(value = "comic-vine-series", key = "#query", sync = true)
     public List<ComicVineSeriesDto> searchSeries(String query) {
         return searchSeriesFromAPI(query);
     }
@@ -65,8 +112,11 @@ public class ComicVineService {
                 .collect(Collectors.toList());
     }
 
-    // Cache issues for a series
-    @Cacheable(value = "comic-vine-issues", key = "#series.comicVineIds")
+    /**
+     * Issues for a series across all of its volumes, cached under the volume ids. The merged list
+     * is only cached when every volume came back whole, so a listing cut short by a failed page
+     * isn't served for the rest of the TTL.
+     */
     public List<ComicVineIssueDto> searchIssues(Series series) {
         List<String> comicVineIds = series.getComicVineIds();
 
@@ -75,36 +125,103 @@ public class ComicVineService {
             return Collections.emptyList();
         }
 
-        List<ComicVineIssueDto> allIssues = comicVineIds.parallelStream()
-                .map(this::searchIssuesFromAPI)
+        Cache seriesIssuesCache = cacheManager.getCache(SERIES_ISSUES_CACHE);
+        List<ComicVineIssueDto> cached = cachedIssues(seriesIssuesCache, comicVineIds);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, VolumeListing> volumes = getVolumeIssues(comicVineIds);
+
+        List<ComicVineIssueDto> allIssues = comicVineIds.stream()
+                .map(id -> volumes.getOrDefault(id, new VolumeListing(List.of(), false)).issues())
                 .flatMap(List::stream)
                 .peek(r -> {
                     if (r.getDescription() != null) {
                         r.setDescription(GenericTextCleaner.makeReadable(r.getDescription()));
                     }
                 })
-                .sorted(this::compareIssueNumbers)
+                .map(issue -> Map.entry(IssueSortKey.of(issue.getIssueNumber()), issue))
+                .sorted(ISSUE_ORDER)
+                .map(Map.Entry::getValue)
                 .collect(Collectors.toList());
 
         log.info("Retrieved {} total issues for series {}", allIssues.size(), series.getId());
+        if (seriesIssuesCache != null && volumes.values().stream().allMatch(VolumeListing::complete)) {
+            seriesIssuesCache.put(comicVineIds, allIssues);
+        }
         return allIssues;
     }
 
-    // Force refresh issues cache
-    @CachePut(value = "comic-vine-issues", key = "#seriesId")
+    @SuppressWarnings("unchecked")
+    private static List<ComicVineIssueDto> cachedIssues(Cache cache, Object key) {
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Cache.ValueWrapper cached = cache.get(key);
+            return cached != null ? (List<ComicVineIssueDto>) cached.get() : null;
+        } catch (Exception e) {
+            log.warn("Failed to read cached issues for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Issue lists per Comic Vine volume. Volumes already cached come back from one batched
+     * read; the rest come from the mirror or, failing that, the API, and the complete ones are
+     * written back together.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, VolumeListing> getVolumeIssues(List<String> volumeIds) {
+        Map<String, VolumeListing> volumes = new HashMap<>();
+        cacheManager.getAll(VOLUME_ISSUES_CACHE, volumeIds).forEach((id, issues) ->
+                volumes.put((String) id, new VolumeListing((List<ComicVineIssueDto>) issues, true)));
+
+        List<String> missing = volumeIds.stream().distinct().filter(id -> !volumes.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return volumes;
+        }
+
+        // Pool threads don't inherit the caller's lane, so each fetch is queued where the caller would be
+        ComicVineRequestScheduler.Lane lane = requestScheduler.currentLane();
+        Map<String, VolumeListing> fetched = missing.parallelStream()
+                .collect(Collectors.toConcurrentMap(id -> id, id -> mirroredVolumeIssues(id)
+                        .map(issues -> new VolumeListing(issues, true))
+                        .orElseGet(() -> requestScheduler.withLane(lane, () -> searchIssuesFromAPI(id)))));
+        volumes.putAll(fetched);
+
+        // A listing cut short by a failed page would hide the rest of the volume until it expired
+        Map<String, List<ComicVineIssueDto>> cacheable = fetched.entrySet().stream()
+                .filter(entry -> entry.getValue().complete())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().issues()));
+        cacheManager.putAll(VOLUME_ISSUES_CACHE, cacheable);
+
+        return volumes;
+    }
+
+    // Force refresh issues cache; a listing cut short replaces nothing
     public List<ComicVineIssueDto> refreshIssuesSearch(String seriesId) {
         log.info("Force refreshing issues cache for series ID: {}", seriesId);
-        return searchIssuesFromAPI(seriesId);
+        VolumeListing listing = searchIssuesFromAPI(seriesId);
+        if (listing.complete()) {
+            cacheManager.putAll(VOLUME_ISSUES_CACHE, Map.of(seriesId, listing.issues()));
+            Cache seriesIssuesCache = cacheManager.getCache(SERIES_ISSUES_CACHE);
+            if (seriesIssuesCache != null) {
+                seriesIssuesCache.put(seriesId, listing.issues());
+            }
+        }
+        return listing.issues();
     }
 
     // Clear all Comic Vine caches
-    @CacheEvict(value = {"comic-vine-series", "comic-vine-issues"}, allEntries = true)
+    @CacheEvict(value = {"comic-vine-series", "comic-vine-issues", VOLUME_ISSUES_CACHE}, allEntries = true)
     public void clearAllComicVineCache() {
         log.info("Cleared all Comic Vine caches");
 
         try {
-            stringRedisTemplate.delete(stringRedisTemplate.keys(SERIES_CACHE_PREFIX + "*"));
-            stringRedisTemplate.delete(stringRedisTemplate.keys(ISSUES_CACHE_PREFIX + "*"));
+            redisKeyIndex.clear(SERIES_CACHE_INDEX, SERIES_CACHE_PREFIX + "*");
+            redisKeyIndex.clear(ISSUES_CACHE_INDEX, ISSUES_CACHE_PREFIX + "*");
         } catch (Exception e) {
             log.warn("Failed to clear manual Comic Vine caches (prefixes: {}, {}): {}", SERIES_CACHE_PREFIX, ISSUES_CACHE_PREFIX, e.getMessage());
         }
@@ -127,462 +244,596 @@ public class ComicVineService {
 
         // Fetch from API and cache
         List<ComicVineSeriesDto> series = searchSeriesFromAPI(query);
-        redisJsonService.jsonSet(cacheKey, series, Duration.ofHours(CACHE_TTL_HOURS));
+        redisJsonService.jsonSet(cacheKey, series, Duration.ofHours(CACHE_TTL_HOURS), SERIES_CACHE_INDEX);
         return series;
     }
 
-    @Cacheable(value = "comic_vine_issues", key = "#comicVineId", unless = "#result == null")
+    @Cacheable(value = ISSUE_BY_ID_CACHE, key = "#comicVineId", unless = "#result == null")
     public ComicVineIssueDto getComicVineIssueById(Long comicVineId) {
+        Optional<ComicVineIssueDto> mirrored = readMirror(() -> comicVineMirror.findIssue(comicVineId));
+        if (mirrored.isPresent()) return mirrored.get();
+
+        if (notFoundCache.isMissing(ISSUE_LOOKUP, comicVineId)) return null;
         if (apiKeyNotValid()) return null;
 
         try {
-            String response = webClient.comicVineClient().get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/issue/4000-" + comicVineId + "/")
-                            .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
-                            .queryParam("format", "json")
-                            .build())
-                    .header("User-Agent", "ComicBookCollectionApp/1.0")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            if (response == null || response.isEmpty()) {
+            List<ComicVineMirrorService.VolumeIssue> results = fetch(uriBuilder -> uriBuilder
+                    .path("/issue/4000-" + comicVineId + "/")
+                    .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                    .queryParam("format", "json")
+                    .queryParam("field_list", ComicVineResponseReader.VOLUME_ISSUE_FIELDS)
+                    .build(), ComicVineResponseReader::readVolumeIssues).results();
+
+            if (results.isEmpty()) {
                 log.warn("Empty response from Comic Vine API for issue ID: {}", comicVineId);
+                notFoundCache.recordMissing(ISSUE_LOOKUP, comicVineId);
                 return null;
             }
 
-            return parseSingleIssueResponse(response);
+            writeMirror(() -> comicVineMirror.storeIssueDetails(results));
+            return results.getFirst().issue();
 
         } catch (Exception e) {
+            if (isNotFound(e)) {
+                log.warn("Comic Vine has no issue with ID: {}", comicVineId);
+                notFoundCache.recordMissing(ISSUE_LOOKUP, comicVineId);
+                return null;
+            }
             log.error("Error fetching issue from Comic Vine API for ID: {}", comicVineId, e);
             return null;
         }
     }
 
+    /**
+     * Batch form of {@link #getComicVineIssueById(Long)}, keyed by Comic Vine id. Ids already in
+     * the per-id cache or mirrored from the detail call cost nothing; the rest are fetched
+     * {@value #PAGE_SIZE} to a call with an {@code id} filter. That filter goes through the
+     * {@code /issues/} listing, which carries no variant covers, so those results are returned
+     * without variants and kept out of the per-id cache and the mirror's details, where a later
+     * {@code getComicVineIssueById} would take them for the detail. Ids that aren't numeric or
+     * that Comic Vine doesn't know are left out of the result, as is a chunk whose call fails;
+     * the unknown ones are remembered for a while and not asked for again.
+     */
+    public Map<String, ComicVineIssueDto> getComicVineIssuesByIds(Collection<String> comicVineIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (String comicVineId : comicVineIds) {
+            try {
+                ids.add(Long.parseLong(comicVineId));
+            } catch (NumberFormatException e) {
+                log.debug("Skipping non-numeric Comic Vine issue ID '{}'", comicVineId);
+            }
+        }
+
+        Map<Long, ComicVineIssueDto> found = new HashMap<>();
+        cacheManager.getAll(ISSUE_BY_ID_CACHE, ids)
+                .forEach((id, issue) -> found.put((Long) id, (ComicVineIssueDto) issue));
+
+        List<Long> uncached = ids.stream().filter(id -> !found.containsKey(id)).toList();
+        Map<Long, ComicVineIssueDto> mirrored = readMirror(() -> Optional.of(comicVineMirror.findIssues(uncached)))
+                .orElse(Map.of());
+        found.putAll(mirrored);
+
+        List<Long> unmirrored = uncached.stream().filter(id -> !mirrored.containsKey(id)).toList();
+        Set<Object> knownMissing = notFoundCache.missing(ISSUE_LOOKUP, unmirrored);
+        List<Long> missing = unmirrored.stream().filter(id -> !knownMissing.contains(id)).toList();
+        Map<Long, ComicVineIssueDto> fetched = new HashMap<>();
+        if (!missing.isEmpty() && !apiKeyNotValid()) {
+            for (int start = 0; start < missing.size(); start += PAGE_SIZE) {
+                List<Long> chunk = missing.subList(start, Math.min(start + PAGE_SIZE, missing.size()));
+                String filter = chunk.stream().map(String::valueOf).collect(Collectors.joining("|"));
+                try {
+                    List<ComicVineMirrorService.VolumeIssue> results = fetch(uriBuilder -> uriBuilder
+                            .path("/issues/")
+                            .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                            .queryParam("format", "json")
+                            .queryParam("filter", "id:" + filter)
+                            .queryParam("field_list", ComicVineResponseReader.VOLUME_ISSUE_FIELDS)
+                            .queryParam("limit", PAGE_SIZE)
+                            .build(), ComicVineResponseReader::readVolumeIssues).results();
+
+                    writeMirror(() -> comicVineMirror.storeIssues(results));
+                    for (ComicVineMirrorService.VolumeIssue result : results) {
+                        fetched.put(Long.valueOf(result.issue().getId()), result.issue());
+                    }
+                    notFoundCache.recordMissing(ISSUE_LOOKUP, chunk.stream().filter(id -> !fetched.containsKey(id)).toList());
+                } catch (Exception e) {
+                    log.error("Error fetching {} issues from Comic Vine API by ID: {}", chunk.size(), e.getMessage());
+                }
+            }
+        }
+        found.putAll(fetched);
+
+        // Mirrored rows are details, so they can serve later lookups by id; listing results can't
+        cacheManager.putAll(ISSUE_BY_ID_CACHE, mirrored);
+
+        log.debug("Resolved {} of {} Comic Vine issues: {} cached, {} mirrored, {} fetched",
+                found.size(), ids.size(), ids.size() - uncached.size(), mirrored.size(), fetched.size());
+
+        Map<String, ComicVineIssueDto> byId = new LinkedHashMap<>();
+        ids.forEach(id -> {
+            if (found.containsKey(id)) {
+                byId.put(String.valueOf(id), found.get(id));
+            }
+        });
+        return byId;
+    }
+
     @Cacheable(value = "comic_vine_series", key = "#comicVineId", unless = "#result == null")
     public ComicVineSeriesDto getComicVineSeriesById(Long comicVineId) {
+        Optional<ComicVineSeriesDto> mirrored = readMirror(() -> comicVineMirror.findVolume(comicVineId));
+        if (mirrored.isPresent()) return mirrored.get();
+
+        if (notFoundCache.isMissing(VOLUME_LOOKUP, comicVineId)) return null;
         if (apiKeyNotValid()) return null;
 
         try {
-            String response = webClient.comicVineClient().get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/volume/4050-" + comicVineId + "/")
-                            .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
-                            .queryParam("format", "json")
-                            .build())
-                    .header("User-Agent", "ComicBookCollectionApp/1.0")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            if (response == null || response.isEmpty()) {
+            List<ComicVineSeriesDto> results = fetch(uriBuilder -> uriBuilder
+                    .path("/volume/4050-" + comicVineId + "/")
+                    .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                    .queryParam("format", "json")
+                    .queryParam("field_list", ComicVineResponseReader.SERIES_FIELDS)
+                    .build(), ComicVineResponseReader::readSeries).results();
+
+            if (results.isEmpty()) {
                 log.warn("Empty response from Comic Vine API for series ID: {}", comicVineId);
+                notFoundCache.recordMissing(VOLUME_LOOKUP, comicVineId);
                 return null;
             }
 
-            return parseSingleSeriesResponse(response);
+            writeMirror(() -> comicVineMirror.storeVolumes(results));
+            return results.getFirst();
 
         } catch (Exception e) {
+            if (isNotFound(e)) {
+                log.warn("Comic Vine has no series with ID: {}", comicVineId);
+                notFoundCache.recordMissing(VOLUME_LOOKUP, comicVineId);
+                return null;
+            }
             log.error("Error fetching series from Comic Vine API for ID: {}", comicVineId, e);
             return null;
         }
     }
 
-    // Internal method that does the actual API call
-    private List<ComicVineSeriesDto> searchSeriesFromAPI(String query) {
-        if (apiKeyNotValid()) return new ArrayList<>();
-
-        try {
-            String response = webClient.comicVineClient().get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search/")
-                            .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
-                            .queryParam("format", "json")
-                            .queryParam("query", query)
-                            .queryParam("resources", "volume")
-                            .queryParam("limit", "25")
-                            .build())
-                    .header("User-Agent", "ComicBookCollectionApp/1.0")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            return parseSeriesSearchResponse(response);
-        } catch (Exception e) {
-            if (e.getMessage().contains("401")) {
-                log.error("Comic Vine API authentication failed. Please check your API key.");
-            } else {
-                log.error("Error searching series: {}", e.getMessage());
-            }
-            return new ArrayList<>();
-        }
-    }
-
-    // Internal method for issues API call
-    private List<ComicVineIssueDto> searchIssuesFromAPI(String seriesId) {
-        if (apiKeyNotValid()) return new ArrayList<>();
+    /**
+     * What one mirror refresh found: volumes checked, records Comic Vine reported as changed,
+     * and batches that failed and will be retried from the same point next time.
+     */
+    public record MirrorRefreshReport(int volumesChecked, int volumesChanged, int issuesChanged, int failedBatches) { }
 
-        List<ComicVineIssueDto> allIssues = new ArrayList<>();
-        int offset = 0;
-        int limit = 100;
-        boolean hasMoreResults = true;
+    /**
+     * Brings the mirror up to date with Comic Vine. For each batch of mirrored volumes it lists
+     * only the volumes, and the issues of volumes whose issue lists are mirrored, whose
+     * {@code date_last_updated} falls after the batch was last refreshed, and stores them. A quiet
+     * day costs one or two calls per {@value #MIRROR_BATCH_SIZE} volumes. Changed entries are
+     * evicted from the caches so the next read picks up the new data.
+     */
+    public MirrorRefreshReport refreshMirror() {
+        if (apiKeyNotValid()) return new MirrorRefreshReport(0, 0, 0, 0);
+
+        List<ComicVineVolume> volumes = comicVineMirror.getVolumes();
+        int volumesChanged = 0;
+        int issuesChanged = 0;
+        int failedBatches = 0;
+
+        for (int start = 0; start < volumes.size(); start += MIRROR_BATCH_SIZE) {
+            List<ComicVineVolume> batch = volumes.subList(start, Math.min(start + MIRROR_BATCH_SIZE, volumes.size()));
+            List<Long> volumeIds = batch.stream().map(ComicVineVolume::getId).toList();
+            String ids = volumeIds.stream().map(String::valueOf).collect(Collectors.joining("|"));
+            List<Long> withIssues = batch.stream()
+                    .filter(volume -> volume.getIssuesSyncedAt() != null)
+                    .map(ComicVineVolume::getId)
+                    .toList();
+
+            LocalDateTime runStart = LocalDateTime.now();
+            LocalDateTime since = batch.stream()
+                    .map(ComicVineVolume::getRefreshedAt)
+                    .filter(Objects::nonNull)
+                    .min(Comparator.naturalOrder())
+                    .orElse(runStart);
+            String changedWindow = "date_last_updated:" + COMIC_VINE_DATE_TIME.format(since.minus(MIRROR_REFRESH_OVERLAP))
+                    + "|" + COMIC_VINE_DATE_TIME.format(runStart.plus(MIRROR_REFRESH_OVERLAP));
 
-        while (hasMoreResults) {
             try {
-                int finalOffset = offset;
-                String response = webClient.comicVineClient().get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/issues/")
-                                .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
-                                .queryParam("format", "json")
-                                .queryParam("filter", "volume:" + seriesId)
-                                .queryParam("limit", limit)
-                                .queryParam("offset", finalOffset)
-                                .build())
-                        .header("User-Agent", "ComicBookCollectionApp/1.0")
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-
-                List<ComicVineIssueDto> pageIssues = parseIssuesResponse(response);
-                allIssues.addAll(pageIssues);
-
-                hasMoreResults = pageIssues.size() == limit;
-                offset += limit;
-
-                if (hasMoreResults) {
-                    Thread.sleep(250); // 250ms delay between requests
+                List<ComicVineSeriesDto> changedVolumes = fetchAllPages(offset -> fetch(uriBuilder -> uriBuilder
+                        .path("/volumes/")
+                        .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                        .queryParam("format", "json")
+                        .queryParam("filter", "id:" + ids + "," + changedWindow)
+                        .queryParam("field_list", ComicVineResponseReader.SERIES_FIELDS)
+                        .queryParam("limit", PAGE_SIZE)
+                        .queryParam("offset", offset)
+                        .build(), ComicVineResponseReader::readSeries));
+
+                List<ComicVineMirrorService.VolumeIssue> changedIssues = new ArrayList<>();
+                if (!withIssues.isEmpty()) {
+                    String issueVolumes = withIssues.stream().map(String::valueOf).collect(Collectors.joining("|"));
+                    changedIssues = fetchAllPages(offset -> fetch(uriBuilder -> uriBuilder
+                            .path("/issues/")
+                            .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                            .queryParam("format", "json")
+                            .queryParam("filter", "volume:" + issueVolumes + "," + changedWindow)
+                            .queryParam("field_list", ComicVineResponseReader.VOLUME_ISSUE_FIELDS)
+                            .queryParam("limit", PAGE_SIZE)
+                            .queryParam("offset", offset)
+                            .build(), ComicVineResponseReader::readVolumeIssues));
                 }
 
+                comicVineMirror.storeVolumes(changedVolumes);
+                comicVineMirror.storeChangedIssues(changedIssues);
+                comicVineMirror.markRefreshed(volumeIds, runStart);
+                evictChanged(changedVolumes, changedIssues);
+
+                volumesChanged += changedVolumes.size();
+                issuesChanged += changedIssues.size();
             } catch (Exception e) {
-                if (e.getMessage().contains("401")) {
-                    log.error("Comic Vine API authentication failed. Please check your API key.");
-                } else {
-                    log.error("Error searching issues at offset {}: {}", offset, e.getMessage());
-                }
-                break;
+                failedBatches++;
+                log.warn("Comic Vine mirror refresh failed for volumes {}: {}", ids, e.getMessage());
             }
         }
 
-        log.info("Fetched {} issues for series {}", allIssues.size(), seriesId);
-        return allIssues;
+        return new MirrorRefreshReport(volumes.size(), volumesChanged, issuesChanged, failedBatches);
     }
 
-    private String sanitizeKey(String input) {
-        if (input == null) return "null";
-        return input.toLowerCase()
-                .replaceAll("[^a-z0-9_-]", "_")
-                .replaceAll("_{2,}", "_")
-                .replaceAll("^_|_$", "");
+    private void evictChanged(List<ComicVineSeriesDto> volumes, List<ComicVineMirrorService.VolumeIssue> issues) {
+        Cache seriesCache = cacheManager.getCache("comic_vine_series");
+        Cache issueCache = cacheManager.getCache(ISSUE_BY_ID_CACHE);
+        Cache volumeIssuesCache = cacheManager.getCache(VOLUME_ISSUES_CACHE);
+
+        volumes.forEach(volume -> evictById(seriesCache, volume.getId()));
+        Set<Long> issueVolumes = new HashSet<>();
+        for (ComicVineMirrorService.VolumeIssue change : issues) {
+            evictById(issueCache, change.issue().getId());
+            if (change.volumeId() != null) {
+                issueVolumes.add(change.volumeId());
+            }
+        }
+        if (volumeIssuesCache != null) {
+            issueVolumes.forEach(volumeId -> volumeIssuesCache.evict(String.valueOf(volumeId)));
+        }
     }
 
-    // Get cache statistics
-    public java.util.Map<String, Object> getCacheStats() {
+    // The by-id caches are keyed by the Long the lookups take
+    private static void evictById(Cache cache, String id) {
+        if (cache == null) return;
         try {
-            long seriesCacheKeys = stringRedisTemplate.keys(SERIES_CACHE_PREFIX + "*").size();
-            long issuesCacheKeys = stringRedisTemplate.keys(ISSUES_CACHE_PREFIX + "*").size();
-
-            return java.util.Map.of(
-                    "manual_series_cache_count", seriesCacheKeys,
-                    "manual_issues_cache_count", issuesCacheKeys,
-                    "cache_ttl_hours", CACHE_TTL_HOURS,
-                    "annotation_based_caches", java.util.List.of("comic-vine-series", "comic-vine-issues")
-            );
-        } catch (Exception e) {
-            log.warn("Error getting Comic Vine cache stats: {}", e.getMessage());
-            return java.util.Map.of("error", "Unable to retrieve cache statistics");
+            cache.evict(Long.valueOf(id));
+        } catch (NumberFormatException e) {
+            // Never cached under a numeric key, so there is nothing to evict
         }
     }
 
-    private List<ComicVineSeriesDto> parseSeriesSearchResponse(String response) {
-        List<ComicVineSeriesDto> series = new ArrayList<>();
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.path("results");
-
-            for (JsonNode result : results) {
-                String resourceType = result.path("resource_type").asText();
-                if (!"volume".equals(resourceType)) {
-                    continue;
-                }
-
-                ComicVineSeriesDto dto = new ComicVineSeriesDto();
-                dto.setId(result.path("id").asText());
-                dto.setName(result.path("name").asText());
-                dto.setDescription(GenericTextCleaner.makeReadable(result.path("description").asText()));
-                dto.setIssueCount(result.path("count_of_issues").asInt());
-
-                JsonNode publisher = result.path("publisher");
-                if (!publisher.isMissingNode()) {
-                    dto.setPublisher(publisher.path("name").asText());
-                }
-
-                dto.setStartYear(result.path("start_year").asInt(0));
-
-                // Parse end_year if available
-                JsonNode endYearNode = result.path("end_year");
-                if (!endYearNode.isMissingNode() && !endYearNode.isNull()) {
-                    int endYear = endYearNode.asInt(0);
-                    if (endYear > 0) {
-                        dto.setEndYear(endYear);
-                    }
-                }
-
-                JsonNode image = result.path("image");
-                if (!image.isMissingNode()) {
-                    dto.setImageUrl(image.path("medium_url").asText());
-                }
+    // Internal method that does the actual API call
+    private List<ComicVineSeriesDto> searchSeriesFromAPI(String query) {
+        if (apiKeyNotValid()) return new ArrayList<>();
 
-                series.add(dto);
-            }
+        try {
+            return fetch(uriBuilder -> uriBuilder
+                    .path("/search/")
+                    .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                    .queryParam("format", "json")
+                    .queryParam("query", query)
+                    .queryParam("resources", "volume")
+                    .queryParam("limit", "25")
+                    .queryParam("field_list", ComicVineResponseReader.SEARCH_FIELDS)
+                    .build(), ComicVineResponseReader::readVolumeSearch).results();
         } catch (Exception e) {
-            log.error("Error parsing series search response: {}", e.getMessage());
+            if (e.getMessage().contains("401")) {
+                log.error("Comic Vine API authentication failed. Please check your API key.");
+            } else {
+                log.error("Error searching series: {}", e.getMessage());
+            }
+            return new ArrayList<>();
         }
-        return series;
     }
 
-    private List<ComicVineSeriesDto> parseSeriesResponse(String response) {
-        List<ComicVineSeriesDto> series = new ArrayList<>();
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.path("results");
-
-            for (JsonNode result : results) {
-                ComicVineSeriesDto dto = new ComicVineSeriesDto();
-                dto.setId(result.path("id").asText());
-                dto.setName(result.path("name").asText());
-                dto.setDescription(result.path("description").asText());
-                dto.setPublisher(result.path("publisher").path("name").asText());
-                dto.setStartYear(result.path("start_year").asInt(0));
-
-                // Parse end_year if available
-                JsonNode endYearNode = result.path("end_year");
-                if (!endYearNode.isMissingNode() && !endYearNode.isNull()) {
-                    int endYear = endYearNode.asInt(0);
-                    if (endYear > 0) {
-                        dto.setEndYear(endYear);
-                    }
-                }
+    // A volume's issues and whether every page of them came back
+    private record VolumeListing(List<ComicVineIssueDto> issues, boolean complete) {}
 
-                JsonNode image = result.path("image");
-                if (!image.isMissingNode()) {
-                    dto.setImageUrl(image.path("medium_url").asText());
-                }
+    private enum PageRun { COMPLETE, FAILED, DEFERRED }
 
-                series.add(dto);
-            }
-        } catch (Exception e) {
-            log.error("Error parsing series response: {}", e.getMessage());
+    // Internal method for issues API call
+    private VolumeListing searchIssuesFromAPI(String seriesId) {
+        if (apiKeyNotValid()) return new VolumeListing(new ArrayList<>(), false);
+
+        // The rest is already on its way; fetching the first pages again would only spend tokens
+        List<ComicVineIssueDto> continuing = continuingVolumes.get(seriesId);
+        if (continuing != null) {
+            return new VolumeListing(new ArrayList<>(continuing), false);
         }
-        return series;
-    }
 
-    private ComicVineSeriesDto parseSingleSeriesResponse(String response) {
-        ComicVineSeriesDto dto = new ComicVineSeriesDto();
+        List<ComicVineIssueDto> allIssues = new ArrayList<>();
+        ComicVineResponseReader.Page<ComicVineIssueDto> firstPage;
         try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode result = root.path("results");
-
-            dto.setId(result.path("id").asText());
-            dto.setName(result.path("name").asText());
-            dto.setDescription(GenericTextCleaner.makeReadable(result.path("description").asText()));
-            dto.setIssueCount(result.path("count_of_issues").asInt());
-
-            JsonNode publisher = result.path("publisher");
-            if (!publisher.isMissingNode()) {
-                dto.setPublisher(publisher.path("name").asText());
+            firstPage = fetchIssuesPage(seriesId, 0);
+        } catch (Exception e) {
+            logIssuesPageError(0, e);
+            return new VolumeListing(allIssues, false);
+        }
+        allIssues.addAll(firstPage.results());
+
+        boolean complete = true;
+        if (firstPage.totalResults() >= 0) {
+            // The first page says how many there are, so the rest can be fetched side by side
+            List<Integer> offsets = new ArrayList<>();
+            for (int offset = PAGE_SIZE; offset < firstPage.totalResults(); offset += PAGE_SIZE) {
+                offsets.add(offset);
             }
-
-            dto.setStartYear(result.path("start_year").asInt(0));
-
-            // Parse end_year if available from ComicVine (field name varies - try common variations)
-            JsonNode endYearNode = result.path("end_year");
-            if (!endYearNode.isMissingNode() && !endYearNode.isNull()) {
-                int endYear = endYearNode.asInt(0);
-                if (endYear > 0) {
-                    dto.setEndYear(endYear);
+            PageRun run = fetchIssuesPages(seriesId, offsets, allIssues);
+            complete = run == PageRun.COMPLETE;
+            if (run == PageRun.DEFERRED) {
+                continueInBackground(seriesId, allIssues, firstPage.totalResults());
+            }
+        } else {
+            // No total to plan from; keep going while pages come back full
+            int offset = PAGE_SIZE;
+            List<ComicVineIssueDto> page = firstPage.results();
+            while (page.size() == PAGE_SIZE) {
+                try {
+                    page = fetchIssuesPage(seriesId, offset).results();
+                } catch (Exception e) {
+                    logIssuesPageError(offset, e);
+                    complete = false;
+                    break;
                 }
+                allIssues.addAll(page);
+                offset += PAGE_SIZE;
             }
+        }
 
-            JsonNode image = result.path("image");
-            if (!image.isMissingNode()) {
-                dto.setImageUrl(image.path("medium_url").asText());
-            }
-        } catch (Exception e) {
-            log.error("Error parsing series response: {}", e.getMessage());
+        log.info("Fetched {} issues for series {}", allIssues.size(), seriesId);
+        if (complete) {
+            writeMirror(() -> comicVineMirror.storeVolumeIssues(Long.parseLong(seriesId), allIssues));
         }
-        return dto;
+        return new VolumeListing(allIssues, complete);
     }
 
-    private List<ComicVineIssueDto> parseIssuesResponse(String response) {
-        List<ComicVineIssueDto> issues = new ArrayList<>();
+    /**
+     * Fetches the pages of a volume a user is waiting on that didn't fit in the free tokens, in
+     * the background lane, then mirrors and caches the whole volume. Until then the pages already
+     * fetched stand in for it, so asking again doesn't fetch them twice.
+     */
+    private void continueInBackground(String seriesId, List<ComicVineIssueDto> fetched, int totalResults) {
+        List<ComicVineIssueDto> issues = new ArrayList<>(fetched);
+        if (continuingVolumes.putIfAbsent(seriesId, List.copyOf(fetched)) != null) {
+            return;
+        }
+        log.info("Fetching the remaining {} issues for series {} in the background", totalResults - issues.size(), seriesId);
         try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode results = root.path("results");
-
-            for (JsonNode result : results) {
+            continuations.execute(() -> requestScheduler.runInBackground(() -> {
                 try {
-                    ComicVineIssueDto dto = new ComicVineIssueDto();
-                    dto.setId(result.path("id").asText());
-                    dto.setIssueNumber(result.path("issue_number").asText());
-                    dto.setName(result.path("name").asText());
-                    dto.setDescription(GenericTextCleaner.makeReadable(result.path("description").asText()));
-                    dto.setCoverDate(result.path("cover_date").asText());
-
-                    JsonNode image = result.path("image");
-                    if (!image.isMissingNode()) {
-                        dto.setImageUrl(image.path("medium_url").asText());
+                    List<Integer> offsets = new ArrayList<>();
+                    for (int offset = issues.size(); offset < totalResults; offset += PAGE_SIZE) {
+                        offsets.add(offset);
                     }
-
-                    JsonNode associatedImages = result.path("associated_images");
-                    if (!associatedImages.isMissingNode() && associatedImages.isArray()) {
-                        List<ComicVineIssueDto.VariantCover> variants = new ArrayList<>();
-
-                        for (JsonNode imageNode : associatedImages) {
-                            ComicVineIssueDto.VariantCover variant = new ComicVineIssueDto.VariantCover();
-                            variant.setId(imageNode.path("id").asText());
-                            variant.setOriginalUrl(imageNode.path("original_url").asText());
-                            variant.setCaption(imageNode.path("caption").asText());
-                            variant.setImageTags(imageNode.path("image_tags").asText());
-                            variants.add(variant);
-                        }
-
-                        dto.setVariants(variants);
+                    if (fetchIssuesPages(seriesId, offsets, issues) == PageRun.COMPLETE) {
+                        log.info("Fetched all {} issues for series {} in the background", issues.size(), seriesId);
+                        writeMirror(() -> comicVineMirror.storeVolumeIssues(Long.parseLong(seriesId), issues));
+                        cacheManager.putAll(VOLUME_ISSUES_CACHE, Map.of(seriesId, issues));
                     }
-
-                    issues.add(dto);
-
                 } catch (Exception e) {
-                    log.error("Error processing individual issue: {}", e.getMessage());
+                    log.warn("Failed to fetch the remaining issues for series {}: {}", seriesId, e.getMessage());
+                } finally {
+                    continuingVolumes.remove(seriesId);
                 }
-            }
-        } catch (Exception e) {
-            log.error("Error parsing issues response: {}", e.getMessage());
+            }));
+        } catch (RejectedExecutionException e) {
+            continuingVolumes.remove(seriesId);
         }
+    }
 
-        return issues;
+    @PreDestroy
+    public void shutdown() {
+        continuations.shutdownNow();
     }
 
-    private ComicVineIssueDto parseSingleIssueResponse(String response) {
-        ComicVineIssueDto dto = new ComicVineIssueDto();
+    /**
+     * Fetches the pages at the given offsets, at most {@code comicVinePageParallelism} at a time,
+     * and adds their issues to {@code issues} in offset order. Stops at the first page that fails
+     * so the list is always an unbroken run from the start of the volume.
+     * <p>
+     * A user shouldn't sit out the refill for a long volume, so in the interactive lane a page
+     * only goes out if a token is free; from the first one that isn't, the rest are deferred.
+     *
+     * @return whether every page was fetched, one failed, or the rest were deferred
+     */
+    private PageRun fetchIssuesPages(String seriesId, List<Integer> offsets, List<ComicVineIssueDto> issues) {
+        if (offsets.isEmpty()) {
+            return PageRun.COMPLETE;
+        }
 
-        try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode result = root.path("results");
-
-            dto.setId(result.path("id").asText());
-            dto.setIssueNumber(result.path("issue_number").asText());
-            dto.setName(result.path("name").asText());
-            dto.setDescription(GenericTextCleaner.makeReadable(result.path("description").asText()));
-            dto.setCoverDate(result.path("cover_date").asText());
-
-            JsonNode image = result.path("image");
-            if (!image.isMissingNode()) {
-                dto.setImageUrl(image.path("medium_url").asText());
+        ComicVineRequestScheduler.Lane lane = requestScheduler.currentLane();
+        boolean deferWhenDrained = lane == ComicVineRequestScheduler.Lane.INTERACTIVE;
+        AtomicInteger firstDeferred = new AtomicInteger(Integer.MAX_VALUE);
+        // Fair, so pages take their tokens in offset order and a deferral cuts the run where it starts
+        Semaphore permits = new Semaphore(Math.max(1, infernoComicsConfig.getComicVinePageParallelism()), true);
+        List<Future<Optional<List<ComicVineIssueDto>>>> pages = new ArrayList<>(offsets.size());
+        try (ExecutorService pageFetchers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int offset : offsets) {
+                pages.add(pageFetchers.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return requestScheduler.withLane(lane, () -> {
+                            if (!deferWhenDrained) {
+                                return Optional.of(fetchIssuesPage(seriesId, offset).results());
+                            }
+                            if (offset > firstDeferred.get()) {
+                                return Optional.<List<ComicVineIssueDto>>empty();
+                            }
+                            Optional<List<ComicVineIssueDto>> page = tryFetchIssuesPage(seriesId, offset)
+                                    .map(ComicVineResponseReader.Page::results);
+                            if (page.isEmpty()) {
+                                firstDeferred.accumulateAndGet(offset, Math::min);
+                            }
+                            return page;
+                        });
+                    } finally {
+                        permits.release();
+                    }
+                }));
             }
 
-            JsonNode associatedImages = result.path("associated_images");
-            if (!associatedImages.isMissingNode() && associatedImages.isArray()) {
-                List<ComicVineIssueDto.VariantCover> variants = new ArrayList<>();
-
-                for (JsonNode imageNode : associatedImages) {
-                    ComicVineIssueDto.VariantCover variant = new ComicVineIssueDto.VariantCover();
-                    variant.setId(imageNode.path("id").asText());
-                    variant.setOriginalUrl(imageNode.path("original_url").asText());
-                    variant.setCaption(imageNode.path("caption").asText());
-                    variant.setImageTags(imageNode.path("image_tags").asText());
-                    variants.add(variant);
+            for (int i = 0; i < pages.size(); i++) {
+                try {
+                    Optional<List<ComicVineIssueDto>> page = pages.get(i).get();
+                    if (page.isEmpty()) {
+                        pages.forEach(pending -> pending.cancel(true));
+                        return PageRun.DEFERRED;
+                    }
+                    issues.addAll(page.get());
+                } catch (ExecutionException e) {
+                    logIssuesPageError(offsets.get(i), e.getCause());
+                    pages.forEach(pending -> pending.cancel(true));
+                    return PageRun.FAILED;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    pages.forEach(pending -> pending.cancel(true));
+                    return PageRun.FAILED;
                 }
-
-                dto.setVariants(variants);
             }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
-        return dto;
+        return PageRun.COMPLETE;
     }
 
-    private int compareIssueNumbers(ComicVineIssueDto issue1, ComicVineIssueDto issue2) {
-        try {
-            String num1 = issue1.getIssueNumber();
-            String num2 = issue2.getIssueNumber();
-
-            // Handle null or empty issue numbers
-            if (num1 == null || num1.isEmpty()) return 1;
-            if (num2 == null || num2.isEmpty()) return -1;
+    private ComicVineResponseReader.Page<ComicVineIssueDto> fetchIssuesPage(String seriesId, int offset) {
+        return fetch(issuesPageUri(seriesId, offset), ComicVineResponseReader::readIssues);
+    }
 
-            // Extract numeric part for comparison
-            Double numericPart1 = extractNumericPart(num1);
-            Double numericPart2 = extractNumericPart(num2);
+    private Optional<ComicVineResponseReader.Page<ComicVineIssueDto>> tryFetchIssuesPage(String seriesId, int offset) {
+        return tryFetch(issuesPageUri(seriesId, offset), ComicVineResponseReader::readIssues);
+    }
 
-            int numericComparison = Double.compare(numericPart1, numericPart2);
+    private Function<UriBuilder, URI> issuesPageUri(String seriesId, int offset) {
+        return uriBuilder -> uriBuilder
+                .path("/issues/")
+                .queryParam("api_key", infernoComicsConfig.getComicVineAPIKey())
+                .queryParam("format", "json")
+                .queryParam("filter", "volume:" + seriesId)
+                .queryParam("field_list", ComicVineResponseReader.ISSUE_FIELDS)
+                .queryParam("limit", PAGE_SIZE)
+                .queryParam("offset", offset)
+                .build();
+    }
 
-            // If numeric parts are equal, use publication date as tie-breaker
-            if (numericComparison == 0) {
-                int dateComparison = compareCoverDates(issue1.getCoverDate(), issue2.getCoverDate());
+    private void logIssuesPageError(int offset, Throwable e) {
+        if (String.valueOf(e.getMessage()).contains("401")) {
+            log.error("Comic Vine API authentication failed. Please check your API key.");
+        } else {
+            log.error("Error searching issues at offset {}: {}", offset, e.getMessage());
+        }
+    }
 
-                // If dates are also equal, compare the full issue number strings
-                if (dateComparison == 0) {
-                    return num1.compareToIgnoreCase(num2);
-                }
+    // Every page of a filtered listing, for listings that usually fit on one
+    private <T> List<T> fetchAllPages(IntFunction<ComicVineResponseReader.Page<T>> pageAt) {
+        List<T> results = new ArrayList<>();
+        int offset = 0;
+        boolean more = true;
+        while (more) {
+            ComicVineResponseReader.Page<T> page = pageAt.apply(offset);
+            results.addAll(page.results());
+            offset += PAGE_SIZE;
+            more = !page.results().isEmpty() && (page.totalResults() >= 0
+                    ? offset < page.totalResults()
+                    : page.results().size() == PAGE_SIZE);
+        }
+        return results;
+    }
 
-                return dateComparison;
-            }
+    private Optional<List<ComicVineIssueDto>> mirroredVolumeIssues(String volumeId) {
+        try {
+            long id = Long.parseLong(volumeId);
+            return readMirror(() -> comicVineMirror.findVolumeIssues(id));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
 
-            return numericComparison;
+    // The mirror only saves API calls, so a database problem falls through to Comic Vine
+    private <T> Optional<T> readMirror(Supplier<Optional<T>> read) {
+        try {
+            return read.get();
         } catch (Exception e) {
-            // Fallback to string comparison if parsing fails
-            return issue1.getIssueNumber().compareToIgnoreCase(issue2.getIssueNumber());
+            log.warn("Failed to read the Comic Vine mirror: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
-    private int compareCoverDates(String date1, String date2) {
+    private void writeMirror(Runnable write) {
         try {
-            if (date1 == null && date2 == null) return 0;
-            if (date1 == null) return 1;
-            if (date2 == null) return -1;
-
-            // Parse dates in format "YYYY-MM-DD"
-            LocalDate localDate1 = LocalDate.parse(date1);
-            LocalDate localDate2 = LocalDate.parse(date2);
-
-            return localDate1.compareTo(localDate2);
+            write.run();
         } catch (Exception e) {
-            // Fallback to string comparison if date parsing fails
-            return date1.compareToIgnoreCase(date2);
+            log.warn("Failed to update the Comic Vine mirror: {}", e.getMessage());
         }
     }
 
     /**
-     * Extract numeric part from issue number string
-     * Examples: "1" -> 1.0, "1.5" -> 1.5, "1A" -> 1.0, "Annual 1" -> 1.0
+     * Every Comic Vine call waits its turn with the scheduler so the whole app stays under the
+     * rate limit. The body is handed to the reader as it arrives instead of being buffered
+     * whole, so large responses don't run into the client's in-memory limit.
      */
-    private Double extractNumericPart(String issueNumber) {
-        if (issueNumber == null || issueNumber.trim().isEmpty()) {
-            return Double.MAX_VALUE; // Put empty/null at the end
-        }
+    private <T> T fetch(Function<UriBuilder, URI> uri, BodyReader<T> reader) {
+        // No point waiting for a token only to be turned away
+        circuitBreakers.checkAvailable(InfernoComicsWebClient.COMIC_VINE_UPSTREAM);
+        return requestScheduler.execute(() -> retrieve(uri, reader));
+    }
 
-        // Remove common prefixes and clean the string
-        String cleaned = issueNumber.toLowerCase()
-                .replaceAll("^(annual|special|one-shot)\\s*", "")
-                .trim();
+    // Like fetch, but empty instead of waiting when no token is free
+    private <T> Optional<T> tryFetch(Function<UriBuilder, URI> uri, BodyReader<T> reader) {
+        circuitBreakers.checkAvailable(InfernoComicsWebClient.COMIC_VINE_UPSTREAM);
+        return requestScheduler.tryExecute(() -> retrieve(uri, reader));
+    }
 
-        // Try to extract the first numeric part
-        Pattern pattern = Pattern.compile("^(\\d+(?:\\.\\d+)?)");
-        Matcher matcher = pattern.matcher(cleaned);
+    private <T> T retrieve(Function<UriBuilder, URI> uri, BodyReader<T> reader) {
+        Flux<DataBuffer> body = webClient.comicVineClient().get()
+                .uri(uri)
+                .header("User-Agent", "ComicBookCollectionApp/1.0")
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, 1)) {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        if (matcher.find()) {
-            try {
-                return Double.parseDouble(matcher.group(1));
-            } catch (NumberFormatException e) {
-                // If parsing fails, use a hash of the string for consistent ordering
-                return (double) issueNumber.hashCode();
+    // A 404 surfaces from the body stream, possibly wrapped on the way out
+    private static boolean isNotFound(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientResponseException.NotFound) {
+                return true;
             }
         }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private String sanitizeKey(String input) {
+        if (input == null) return "null";
+        return input.toLowerCase()
+                .replaceAll("[^a-z0-9_-]", "_")
+                .replaceAll("_{2,}", "_")
+                .replaceAll("^_|_$", "");
+    }
 
-        // If no numeric part found, use a hash for consistent ordering
-        return (double) issueNumber.hashCode();
+    // Get cache statistics
+    public java.util.Map<String, Object> getCacheStats() {
+        try {
+            long seriesCacheKeys = redisKeyIndex.size(SERIES_CACHE_INDEX);
+            long issuesCacheKeys = redisKeyIndex.size(ISSUES_CACHE_INDEX);
+
+            return java.util.Map.of(
+                    "manual_series_cache_count", seriesCacheKeys,
+                    "manual_issues_cache_count", issuesCacheKeys,
+                    "cache_ttl_hours", CACHE_TTL_HOURS,
+                    "annotation_based_caches", java.util.List.of("comic-vine-series", "comic-vine-issues", VOLUME_ISSUES_CACHE)
+            );
+        } catch (Exception e) {
+            log.warn("Error getting Comic Vine cache stats: {}", e.getMessage());
+            return java.util.Map.of("error", "Unable to retrieve cache statistics");
+        }
     }
 
     /**
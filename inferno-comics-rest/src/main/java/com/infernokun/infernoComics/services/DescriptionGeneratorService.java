@@ -2,6 +2,7 @@ package com.infernokun.infernoComics.services;
 
 import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
 import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.config.RedisKeyIndex;
 import com.infernokun.infernoComics.models.Issue;
 import com.infernokun.infernoComics.models.DescriptionGenerated;
 import com.infernokun.infernoComics.models.Series;
@@ -30,8 +31,10 @@ public class DescriptionGeneratorService {
     private final InfernoComicsConfig infernoComicsConfig;
     private final StringRedisTemplate stringRedisTemplate;
     private final InfernoComicsWebClient webClient;
+    private final RedisKeyIndex redisKeyIndex;
 
     private static final String MANUAL_CACHE_KEY_PREFIX = "issue_description_manual:";
+    private static final String MANUAL_CACHE_INDEX = "manual:issue_description";
     private static final long CACHE_TTL_HOURS = 24 * 7; // Cache for 7 days
 
     // Annotation-based caching approach (recommended for most use cases)
@@ -105,6 +108,7 @@ public class DescriptionGeneratorService {
         // Also remove from manual cache
         String manualCacheKey = generateManualCacheKey(seriesName, issueNumber, issueTitle);
         stringRedisTemplate.delete(manualCacheKey);
+        redisKeyIndex.untrack(MANUAL_CACHE_INDEX, manualCacheKey);
     }
 
     // Clear all description caches
@@ -114,7 +118,7 @@ public class DescriptionGeneratorService {
 
         // Also clear manual caches
         try {
-            stringRedisTemplate.delete(stringRedisTemplate.keys(MANUAL_CACHE_KEY_PREFIX + "*"));
+            redisKeyIndex.clear(MANUAL_CACHE_INDEX, MANUAL_CACHE_KEY_PREFIX + "*");
             log.info("Cleared all manual description caches");
         } catch (Exception e) {
             log.warn("Error clearing manual description caches: {}", e.getMessage());
@@ -180,6 +184,7 @@ public class DescriptionGeneratorService {
     private void cacheInManualCache(String cacheKey, String description) {
         try {
             stringRedisTemplate.opsForValue().set(cacheKey, description, CACHE_TTL_HOURS, TimeUnit.HOURS);
+            redisKeyIndex.track(MANUAL_CACHE_INDEX, cacheKey);
             log.debug("Cached description in manual cache with key: {}", cacheKey);
         } catch (Exception e) {
             log.warn("Error caching description in manual cache with key {}: {}", cacheKey, e.getMessage());
@@ -189,7 +194,7 @@ public class DescriptionGeneratorService {
     // Method to get comprehensive cache statistics
     public Map<String, Object> getCacheStats() {
         try {
-            long manualCacheKeys = stringRedisTemplate.keys(MANUAL_CACHE_KEY_PREFIX + "*").size();
+            long manualCacheKeys = redisKeyIndex.size(MANUAL_CACHE_INDEX);
 
             // You could also get annotation-based cache stats if needed
             // This would require injecting CacheManager and iterating through caches
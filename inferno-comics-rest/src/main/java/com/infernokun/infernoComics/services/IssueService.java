@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
 import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.config.TwoTierCacheManager;
 import com.infernokun.infernoComics.controllers.SeriesController;
 import com.infernokun.infernoComics.models.DescriptionGenerated;
 import com.infernokun.infernoComics.models.Issue;
@@ -11,6 +12,9 @@ import com.infernokun.infernoComics.models.MissingIssue;
 import com.infernokun.infernoComics.models.ProgressData;
 import com.infernokun.infernoComics.models.Series;
 import com.infernokun.infernoComics.models.dto.IssueRequest;
+import com.infernokun.infernoComics.models.dto.IssueSummary;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.IssueTotals;
 import com.infernokun.infernoComics.models.gcd.GCDIssue;
 import com.infernokun.infernoComics.repositories.IssueRepository;
 import com.infernokun.infernoComics.repositories.MissingIssueRepository;
@@ -18,13 +22,14 @@ import com.infernokun.infernoComics.repositories.ProgressDataRepository;
 import com.infernokun.infernoComics.repositories.SeriesRepository;
 import com.infernokun.infernoComics.services.gcd.GCDatabaseService;
 import com.infernokun.infernoComics.utils.CacheConstants;
+import com.infernokun.infernoComics.utils.InfernoComicsUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.CacheManager;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
@@ -33,10 +38,9 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.infernokun.infernoComics.utils.InfernoComicsUtils.createEtag;
@@ -57,19 +61,21 @@ public class IssueService {
     private final GCDatabaseService gcDatabaseService;
     private final RecognitionService recognitionService;
     private final DescriptionGeneratorService descriptionGeneratorService;
+    private final CollectionCounterService collectionCounterService;
 
-    private final CacheManager cacheManager;
+    private final TwoTierCacheManager cacheManager;
     private final InfernoComicsWebClient webClient;
 
-    public List<Issue> getAllIssues() {
-        List<Issue> cachedIssues = getCachedValue();
+    // Listings get summaries; full issues are only loaded one at a time or for a series' detail page
+    public List<IssueSummary> getAllIssues() {
+        List<IssueSummary> cachedIssues = getCachedValue();
 
         if (cachedIssues != null) {
             log.info("Returning cached issues list with {} items", cachedIssues.size());
             return cachedIssues;
         }
 
-        List<Issue> issues = issueRepository.findAll();
+        List<IssueSummary> issues = issueRepository.findAllSummaries();
         putCacheValue(issues);
         return issues;
     }
@@ -85,95 +91,89 @@ public class IssueService {
         log.info("Fetching issues for series ID: {}", seriesId);
 
         try {
-            List<Issue> issues = issueRepository.findBySeriesIdOrderByIssueNumberAsc(seriesId);
-            issues.sort(this::compareIssueNumbers);
-            return issues;
+            return issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(seriesId);
         } catch (Exception e) {
             log.error("Error fetching issues for series ID {}: {}", seriesId, e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
+    public List<IssueSummary> getIssueSummariesBySeriesId(Long seriesId) {
+        log.info("Fetching issue summaries for series ID: {}", seriesId);
+        return issueRepository.findSummariesBySeriesId(seriesId);
+    }
+
     @Cacheable(value = "key-issues", key = "'all'", unless = "#result.isEmpty()")
-    public List<Issue> getKeyIssues() {
+    public List<IssueSummary> getKeyIssues() {
         log.info("Fetching key issues");
-        return issueRepository.findKeyIssues();
+        return issueRepository.findKeyIssueSummaries();
     }
 
     @Cacheable(value = "variant-issues", key = "'all'", unless = "#result.isEmpty()")
     public List<Issue> getVariantIssues() {
         log.info("Fetching issues with variant covers");
-        return issueRepository.findAll().stream()
-                .filter(Issue::getVariant)
-                .collect(Collectors.toList());
+        return issueRepository.findVariantIssues();
     }
 
     @Cacheable(value = "recent-issues", key = "#limit")
     public List<Issue> getRecentIssues(int limit) {
         log.info("Fetching {} recent issues", limit);
-        return issueRepository.findAll().stream()
-                .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))
-                .limit(limit)
-                .collect(Collectors.toList());
+        if (limit < 1) {
+            return List.of();
+        }
+        return issueRepository.findRecentIssues(PageRequest.of(0, limit));
     }
 
-    @Cacheable(value = "issue-search", key = "T(java.util.Objects).hash(#query, #limit)")
+    @Cacheable(value = "issue-search", key = "(#query == null ? '' : #query.trim().toLowerCase()) + ':' + #limit")
     public List<Issue> searchIssues(String query, int limit) {
         log.info("Searching issues with query: {} (limit: {})", query, limit);
 
-        String lowerQuery = query.toLowerCase();
-        return issueRepository.findAll().stream()
-                .filter(issue ->
-                        (issue.getTitle() != null && issue.getTitle().toLowerCase().contains(lowerQuery)) ||
-                                issue.getSeries().getName().toLowerCase().contains(lowerQuery) ||
-                                issue.getIssueNumber().toLowerCase().contains(lowerQuery)
-                )
-                .limit(limit)
-                .collect(Collectors.toList());
+        if (query == null || query.isBlank() || limit < 1) {
+            return List.of();
+        }
+
+        String term = query.trim().toLowerCase();
+        return issueRepository.searchRanked(InfernoComicsUtils.toContainsPattern(term), term, PageRequest.of(0, limit));
     }
 
     @Cacheable(value = "issue-stats", key = "'global'")
     public Map<String, Object> getIssueStats() {
         log.info("Calculating issue statistics");
 
-        List<Issue> allIssues = issueRepository.findAll();
-        long totalIssues = allIssues.size();
-        long keyIssues = allIssues.stream().mapToLong(issue -> issue.getKeyIssue() ? 1 : 0).sum();
-        long variantIssues = allIssues.stream().mapToLong(issue -> issue.getVariant() ? 1 : 0).sum();
+        // A fixed set of aggregate queries, each returning at most one row per group
+        IssueTotals totals = issueRepository.aggregateTotals();
 
-        Map<String, Long> conditionCounts = allIssues.stream()
-                .filter(issue -> issue.getCondition() != null)
-                .collect(Collectors.groupingBy(
-                        issue -> issue.getCondition().toString(),
-                        Collectors.counting()
-                ));
+        Map<String, Long> conditionCounts = issueRepository.countByCondition().stream()
+                .collect(Collectors.toMap(row -> row.key().toString(), GroupCount::count));
 
-        Map<String, Long> seriesCounts = allIssues.stream()
-                .collect(Collectors.groupingBy(
-                        issue -> issue.getSeries().getName(),
-                        Collectors.counting()
-                ));
-
-        double totalValue = allIssues.stream()
-                .filter(issue -> issue.getCurrentValue() != null)
-                .mapToDouble(issue -> issue.getCurrentValue().doubleValue())
-                .sum();
+        Map<String, Long> seriesCounts = issueRepository.countBySeriesName().stream()
+                .collect(Collectors.toMap(GroupCount::key, GroupCount::count));
 
         return Map.of(
-                "totalIssues", totalIssues,
-                "keyIssues", keyIssues,
-                "variantIssues", variantIssues,
+                "totalIssues", totals.totalIssues(),
+                "keyIssues", totals.keyIssues(),
+                "variantIssues", totals.variantIssues(),
                 "conditionBreakdown", conditionCounts,
                 "seriesBreakdown", seriesCounts,
-                "totalCollectionValue", totalValue
+                "totalCollectionValue", totals.totalValue().doubleValue()
         );
     }
 
+    public BigDecimal getTotalCurrentValue() {
+        BigDecimal total = issueRepository.sumCurrentValue();
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getTotalPurchasePrice() {
+        BigDecimal total = issueRepository.sumPurchasePrice();
+        return total != null ? total : BigDecimal.ZERO;
+    }
+
     public ComicVineService.ComicVineIssueDto getComicVineIssueById(Long comicVineId) {
         return comicVineService.getComicVineIssueById(comicVineId);
     }
 
-    @Cacheable(value = "comic-vine-issues-by-series", key = "#seriesId", unless = "#result.isEmpty()")
+    // Not cached here: searchIssues caches the listing itself, and only once it's complete
     public List<ComicVineService.ComicVineIssueDto> searchComicVineIssues(Long seriesId) {
         log.info("Searching Comic Vine issues for series ID: {}", seriesId);
         try {
@@ -271,8 +271,10 @@ public class IssueService {
                 .orElseThrow(() -> new IllegalArgumentException("Issue with ID " + id + " not found"));
 
         Long seriesId = existingIssue.getSeries().getId();
+        CollectionCounterService.IssueContribution before = CollectionCounterService.IssueContribution.of(existingIssue);
         mapRequestToIssue(request, existingIssue);
         Issue updatedIssue = issueRepository.save(existingIssue);
+        collectionCounterService.issueChanged(before, updatedIssue);
 
         evictIssueCaches();
         evictSeriesRelatedCaches(seriesId);
@@ -378,6 +380,7 @@ public class IssueService {
 
         Long seriesId = issue.getSeries().getId();
         descriptionGeneratorService.evictIssueCache(issue);
+        collectionCounterService.issueRemoved(issue);
         issueRepository.deleteById(id);
         updateSeriesIssueCount(seriesId);
         evictIssueCaches();
@@ -445,12 +448,14 @@ public class IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new IllegalArgumentException("Issue with ID " + issueId + " not found"));
 
+        CollectionCounterService.IssueContribution before = CollectionCounterService.IssueContribution.of(issue);
         if (issue.getVariantCovers() != null) {
             issue.getVariantCovers().removeIf(variant -> variant.getId().equals(variantId));
             issue.setVariant(!issue.getVariantCovers().isEmpty());
         }
 
         Issue updatedIssue = issueRepository.save(issue);
+        collectionCounterService.issueChanged(before, updatedIssue);
 
         evictCacheValue("variant-issues", "all");
         evictCacheValue("issue-list", "all-issues-list");
@@ -549,7 +554,9 @@ public class IssueService {
             missingIssueRepository.save(missingIssue);
         }
 
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        collectionCounterService.issueAdded(savedIssue);
+        return savedIssue;
     }
 
     private List<String> processComicVineGcdMapping(IssueRequest request, Issue issue, Series series) {
@@ -595,37 +602,6 @@ public class IssueService {
         }
     }
 
-    private int compareIssueNumbers(Issue issue1, Issue issue2) {
-        try {
-            String num1 = issue1.getIssueNumber();
-            String num2 = issue2.getIssueNumber();
-
-            if (num1 == null || num1.isEmpty()) return 1;
-            if (num2 == null || num2.isEmpty()) return -1;
-
-            Double numericPart1 = extractNumericPart(num1);
-            Double numericPart2 = extractNumericPart(num2);
-            int numericComparison = Double.compare(numericPart1, numericPart2);
-
-            return numericComparison == 0 ? num1.compareToIgnoreCase(num2) : numericComparison;
-        } catch (Exception e) {
-            String safe1 = issue1.getIssueNumber() != null ? issue1.getIssueNumber() : "";
-            String safe2 = issue2.getIssueNumber() != null ? issue2.getIssueNumber() : "";
-            return safe1.compareToIgnoreCase(safe2);
-        }
-    }
-
-    private Double extractNumericPart(String issueNumber) {
-        try {
-            String cleaned = issueNumber.trim();
-            Pattern pattern = Pattern.compile("(\\d+(?:\\.\\d+)?)");
-            Matcher matcher = pattern.matcher(cleaned);
-            return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.MAX_VALUE;
-        } catch (NumberFormatException e) {
-            return Double.MAX_VALUE;
-        }
-    }
-
     private Issue createIssueFromComicVineIssue(ComicVineService.ComicVineIssueDto issueDto, Series series) {
         Issue issue = new Issue();
         issue.setIssueNumber(issueDto.getIssueNumber());
@@ -660,7 +636,9 @@ public class IssueService {
             }
         }
 
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        collectionCounterService.issueAdded(savedIssue);
+        return savedIssue;
     }
 
     private void mapRequestToIssue(IssueRequest request, Issue issue) {
@@ -713,8 +691,12 @@ public class IssueService {
     }
 
     private void evictSeriesRelatedCaches(Long seriesId) {
-        // Evict the specific series issues cache
-        evictCacheValue(CacheConstants.CacheNames.ISSUES_BY_SERIES, seriesId.toString());
+        // Evict only the per-series entries of this series
+        try {
+            cacheManager.evictDependents(List.of(CacheConstants.CacheTags.series(seriesId)));
+        } catch (Exception e) {
+            log.warn("Failed to evict cache entries depending on series {}: {}", seriesId, e.getMessage());
+        }
 
         // Evict series-related caches that depend on issue counts
         Arrays.asList(CacheConstants.CacheNames.SERIES_LIST, "series-stats", "popular-series").forEach(cacheName -> {
@@ -726,9 +708,6 @@ public class IssueService {
             }
         });
 
-        // Evict the specific series from cache to refresh issue count
-        evictCacheValue(CacheConstants.CacheNames.SERIES, seriesId.toString());
-
         // Evict the all-series-list cache to ensure getAllSeries() refreshes
         evictCacheValue(CacheConstants.CacheNames.SERIES_LIST, CacheConstants.CacheKeys.ALL_SERIES_LIST);
     }
@@ -792,7 +771,9 @@ public class IssueService {
         // Delete issues
         for (Long issueId : issueIds) {
             try {
-                if (issueRepository.existsById(issueId)) {
+                Optional<Issue> issue = issueRepository.findById(issueId);
+                if (issue.isPresent()) {
+                    collectionCounterService.issueRemoved(issue.get());
                     issueRepository.deleteById(issueId);
                     successful++;
                 }
@@ -832,7 +813,7 @@ public class IssueService {
         }
 
         Series series = seriesOpt.get();
-        List<Issue> issues = issueRepository.findBySeriesIdOrderByIssueNumberAsc(seriesId);
+        List<Issue> issues = issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(seriesId);
 
         if (issues.isEmpty()) {
             log.info("No issues found for series {}", seriesId);
@@ -856,6 +837,21 @@ public class IssueService {
                         (existing, replacement) -> existing
                 ));
 
+        // Issues the volume listings didn't cover are looked up together rather than one call each
+        List<String> unlisted = issues.stream()
+                .map(Issue::getComicVineId)
+                .filter(id -> id != null && !id.isEmpty() && !comicVineMap.containsKey(id))
+                .distinct()
+                .toList();
+        if (!unlisted.isEmpty()) {
+            try {
+                comicVineMap.putAll(comicVineService.getComicVineIssuesByIds(unlisted));
+            } catch (Exception e) {
+                log.warn("Could not fetch Comic Vine data for {} unlisted issues of series {}: {}",
+                        unlisted.size(), seriesId, e.getMessage());
+            }
+        }
+
         int updated = 0;
         int skipped = 0;
         int failed = 0;
@@ -870,16 +866,6 @@ public class IssueService {
 
                 ComicVineService.ComicVineIssueDto comicVineData = comicVineMap.get(issue.getComicVineId());
 
-                if (comicVineData == null) {
-                    // Try fetching individually if not in the list
-                    try {
-                        comicVineData = comicVineService.getComicVineIssueById(Long.parseLong(issue.getComicVineId()));
-                    } catch (Exception e) {
-                        log.warn("Could not fetch Comic Vine data for issue #{} (CV ID: {}): {}",
-                                issue.getIssueNumber(), issue.getComicVineId(), e.getMessage());
-                    }
-                }
-
                 if (comicVineData == null) {
                     log.debug("No Comic Vine data found for issue #{}", issue.getIssueNumber());
                     skipped++;
@@ -887,6 +873,7 @@ public class IssueService {
                 }
 
                 boolean wasUpdated = false;
+                CollectionCounterService.IssueContribution before = CollectionCounterService.IssueContribution.of(issue);
 
                 // Update cover date if available from Comic Vine
                 if (comicVineData.getCoverDate() != null && !comicVineData.getCoverDate().isEmpty()) {
@@ -964,6 +951,7 @@ public class IssueService {
 
                 if (wasUpdated) {
                     issueRepository.save(issue);
+                    collectionCounterService.issueChanged(before, issue);
                     updated++;
                 } else {
                     skipped++;
@@ -1,6 +1,9 @@
 package com.infernokun.infernoComics.services;
 
+import com.infernokun.infernoComics.clients.ComicVineRequestScheduler;
+import com.infernokun.infernoComics.config.RedisKeyIndex;
 import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.SeriesSummary;
 import com.infernokun.infernoComics.services.sync.NextcloudSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,10 @@ import java.util.List;
 public class SchedulingService {
     private final SeriesService seriesService;
     private final NextcloudSyncService nextcloudSyncService;
+    private final CollectionCounterService collectionCounterService;
+    private final RedisKeyIndex redisKeyIndex;
+    private final ComicVineRequestScheduler comicVineRequestScheduler;
+    private final ComicVineService comicVineService;
 
     /**
      * Runs daily at 2:00 AM
@@ -22,27 +29,68 @@ public class SchedulingService {
      */
     @Scheduled(cron = "0 0 2 * * *")
     private void runSeriesProcessingScheduler() {
-        List<Series> allSeries = seriesService.getAllSeries();
+        List<Series> allSeries = seriesService.getAllSeriesEntities();
         allSeries.forEach(nextcloudSyncService::processSeries);
     }
 
+    /**
+     * Runs daily at 1:00 AM
+     * Pulls what changed on Comic Vine into the local mirror, ahead of the jobs that read it
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void runComicVineMirrorRefresh() {
+        comicVineRequestScheduler.runInBackground(() -> {
+            ComicVineService.MirrorRefreshReport report = comicVineService.refreshMirror();
+            log.info("Refreshed Comic Vine mirror: {} volumes checked, {} volumes and {} issues changed, {} failed batches",
+                    report.volumesChecked(), report.volumesChanged(), report.issuesChanged(), report.failedBatches());
+        });
+    }
+
     /**
      * Runs every Wednesday at 12:00 PM
-     * Re-verifies metadata for all series
+     * Re-verifies metadata for all series; its Comic Vine calls yield to interactive ones
      */
     @Scheduled(cron = "0 0 12 ? * WED")
     private void runReverificationScheduler() {
-        List<Series> allSeries = seriesService.getAllSeries();
-        allSeries.forEach(s -> seriesService.reverifyMetadata(s.getId()));
+        List<SeriesSummary> allSeries = seriesService.getAllSeries();
+        comicVineRequestScheduler.runInBackground(() ->
+                allSeries.forEach(s -> seriesService.reverifyMetadata(s.id())));
     }
 
     /**
      * Runs daily at 6:00 AM
-     * Automates which issues are missing
+     * Automates which issues are missing; its Comic Vine calls yield to interactive ones
      */
     @Scheduled(cron = "0 0 6 * * *")
     public void runMissingIssueScheduler() {
-        List<Series> allSeries = seriesService.getAllSeries();
-        allSeries.forEach(seriesService::calculateMissingIssues);
+        List<Series> allSeries = seriesService.getAllSeriesEntities();
+        comicVineRequestScheduler.runInBackground(() ->
+                allSeries.forEach(seriesService::calculateMissingIssues));
+    }
+
+    /**
+     * Runs daily at 3:30 AM
+     * Recomputes the collection counters and corrects any drift
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void runCollectionCounterReconciliation() {
+        CollectionCounterService.ReconciliationReport report = collectionCounterService.reconcile();
+        if (report.hasDrift()) {
+            log.warn("Corrected drift on {} of {} collection counters", report.drift().size(), report.countersChecked());
+        }
+    }
+
+    /**
+     * Runs daily at 4:00 AM
+     * Drops cache index entries whose keys have expired
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void runCacheIndexPrune() {
+        for (String index : redisKeyIndex.indexNames()) {
+            long pruned = redisKeyIndex.prune(index);
+            if (pruned > 0) {
+                log.info("Pruned {} expired entries from cache index {}", pruned, index);
+            }
+        }
     }
 }
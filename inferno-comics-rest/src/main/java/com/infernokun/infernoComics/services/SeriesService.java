@@ -7,6 +7,14 @@ import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
 import com.infernokun.infernoComics.controllers.SeriesController;
 import com.infernokun.infernoComics.models.*;
 import com.infernokun.infernoComics.models.dto.SeriesRequest;
+import com.infernokun.infernoComics.models.dto.CursorPage;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.SeriesCursor;
+import com.infernokun.infernoComics.models.dto.SeriesSearchCriteria;
+import com.infernokun.infernoComics.models.dto.SeriesSearchResult;
+import com.infernokun.infernoComics.models.dto.SeriesSummary;
+import com.infernokun.infernoComics.models.dto.SeriesTotals;
+import com.infernokun.infernoComics.models.enums.SeriesSort;
 import com.infernokun.infernoComics.models.enums.StartedBy;
 import com.infernokun.infernoComics.models.enums.State;
 import com.infernokun.infernoComics.models.gcd.GCDCover;
@@ -17,19 +25,26 @@ import com.infernokun.infernoComics.repositories.IssueRepository;
 import com.infernokun.infernoComics.repositories.MissingIssueRepository;
 import com.infernokun.infernoComics.services.sync.WeirdService;
 import com.infernokun.infernoComics.repositories.SeriesRepository;
+import com.infernokun.infernoComics.repositories.SeriesSpecifications;
 import com.infernokun.infernoComics.repositories.ProgressDataRepository;
 import com.infernokun.infernoComics.repositories.sync.ProcessedFileRepository;
 import com.infernokun.infernoComics.repositories.sync.SeriesSyncStatusRepository;
 import com.infernokun.infernoComics.models.sync.SeriesSyncStatus;
 import com.infernokun.infernoComics.services.gcd.GCDatabaseService;
 import com.infernokun.infernoComics.utils.CacheConstants;
+import com.infernokun.infernoComics.utils.InfernoComicsUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.scheduling.annotation.Async;
@@ -58,6 +73,7 @@ public class SeriesService {
     private final ComicVineService comicVineService;
     private final GCDatabaseService gcDatabaseService;
     private final DescriptionGeneratorService descriptionGeneratorService;
+    private final CollectionCounterService collectionCounterService;
 
     private final IssueRepository issueRepository;
     private final SeriesRepository seriesRepository;
@@ -70,6 +86,8 @@ public class SeriesService {
 
     private final SearxngImageSearchService imageSearchService;
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     @CacheEvict(value = "series", key = "#seriesId")
     @Transactional
     public Series reverifyMetadata(Long seriesId) {
@@ -207,22 +225,92 @@ public class SeriesService {
         return updatedSeries;
     }
 
-    public List<Series> getAllSeries() {
-        List<Series> cachedSeries = getCachedValue();
+    // Owned counts come from the aggregate itself, so a load is a single query. Going through
+    // the cache's loader lets concurrent cold requests share that one query.
+    @Transactional(readOnly = true)
+    public List<SeriesSummary> getAllSeries() {
+        try {
+            var cache = cacheManager.getCache(CacheConstants.CacheNames.SERIES_LIST);
+            if (cache != null) {
+                return cache.get(CacheConstants.CacheKeys.ALL_SERIES_LIST, seriesRepository::findAllSummaries);
+            }
+        } catch (Cache.ValueRetrievalException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Failed to load {} through cache {}: {}", CacheConstants.CacheKeys.ALL_SERIES_LIST, CacheConstants.CacheNames.SERIES_LIST, e.getMessage());
+        }
+        return seriesRepository.findAllSummaries();
+    }
+
+    // Full entities for batch jobs that need to hand a managed Series to other services
+    @Transactional(readOnly = true)
+    public List<Series> getAllSeriesEntities() {
+        return seriesRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SeriesSummary> getSeriesPage(String cursor, int size, SeriesSort sort) {
+        SeriesCursor position = resolveCursor(cursor, sort);
+        List<SeriesSummary> rows = fetchSummaryRows(position, PageRequest.of(0, checkPageSize(size) + 1));
+        return toCursorPage(rows, size, position.sort(), null);
+    }
 
-        if (cachedSeries != null) {
-            log.debug("Returning cached series list with {} items", cachedSeries.size());
-            return cachedSeries;
+    @Transactional(readOnly = true)
+    public CursorPage<Series.FolderMapping> getSeriesFolderPage(String cursor, int page, int size) {
+        int totalCount = (int) seriesRepository.count();
+        CursorPage<SeriesSummary> summaries;
+
+        if (cursor != null) {
+            summaries = getSeriesPage(cursor, size, SeriesSort.NAME);
+        } else {
+            // Page-number access is kept for existing clients; the offset is still applied in the database
+            List<SeriesSummary> rows = seriesRepository.findSummariesAfterName("", 0L,
+                    PageRequest.of(page, checkPageSize(size)));
+            boolean hasNext = (long) (page + 1) * size < totalCount && !rows.isEmpty();
+            summaries = new CursorPage<>(rows,
+                    hasNext ? SeriesCursor.after(SeriesSort.NAME, rows.getLast()).encode() : null, null);
         }
 
-        List<Series> seriesList = seriesRepository.findAll();
-        seriesList.forEach(series -> {
-            List<Issue> issues = issueRepository.findBySeriesId(series.getId());
-            series.setIssuesOwnedCount(issues.size());
-        });
+        List<Series.FolderMapping> mappings = summaries.items().stream()
+                .map(summary -> summary.comicVineIds() == null || summary.comicVineIds().isEmpty() ? null :
+                        InfernoComicsUtils.createFolderMapping(summary.id(), summary.comicVineIds().getFirst(), summary.name()))
+                .collect(Collectors.toList());
 
-        putCacheValue(seriesList);
-        return seriesList;
+        return new CursorPage<>(mappings, summaries.nextCursor(), totalCount);
+    }
+
+    private SeriesCursor resolveCursor(String cursor, SeriesSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return SeriesCursor.start(sort);
+        }
+        SeriesCursor decoded = SeriesCursor.decode(cursor);
+        if (decoded.sort() != sort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + decoded.sort() + ", not " + sort);
+        }
+        return decoded;
+    }
+
+    private List<SeriesSummary> fetchSummaryRows(SeriesCursor position, Pageable pageable) {
+        return switch (position.sort()) {
+            case ID -> seriesRepository.findSummariesAfterId(position.lastId(), pageable);
+            case NAME -> seriesRepository.findSummariesAfterName(position.lastName(), position.lastId(), pageable);
+        };
+    }
+
+    // Rows are fetched with one extra element so the next cursor is only issued when another page exists
+    private CursorPage<SeriesSummary> toCursorPage(List<SeriesSummary> rows, int size, SeriesSort sort, Integer totalCount) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, totalCount);
+        }
+        List<SeriesSummary> items = rows.subList(0, size);
+        return new CursorPage<>(new ArrayList<>(items), SeriesCursor.after(sort, items.getLast()).encode(), totalCount);
+    }
+
+    private int checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
     }
 
     @Cacheable(value = "series", key = "#id", unless = "#result == null")
@@ -241,9 +329,14 @@ public class SeriesService {
         return comicVineService.getComicVineSeriesById(comicVineId);
     }
 
-    @Cacheable(value = "series-search", key = "#query", unless = "#result.isEmpty()")
-    public List<Series> searchSeries(String query) {
-        return seriesRepository.findByNameContainingIgnoreCaseOrPublisherContainingIgnoreCase(query, query);
+    @Cacheable(value = "series-search", key = "(#query == null ? '' : #query.trim().toLowerCase()) + ':' + #limit", unless = "#result.isEmpty()")
+    public List<Series> searchSeries(String query, int limit) {
+        if (query == null || query.isBlank() || limit < 1) {
+            return List.of();
+        }
+
+        String term = query.trim().toLowerCase();
+        return seriesRepository.searchRanked(InfernoComicsUtils.toContainsPattern(term), term, PageRequest.of(0, limit));
     }
 
     @Cacheable(value = "comic-vine-series", key = "#query", unless = "#result.isEmpty()")
@@ -256,8 +349,7 @@ public class SeriesService {
         }
     }
 
-    // Cache Comic Vine issues search
-    @Cacheable(value = "comic-vine-issues", key = "#seriesId", unless = "#result.isEmpty()")
+    // Not cached here: searchIssues caches the listing itself, and only once it's complete
     public List<ComicVineService.ComicVineIssueDto> searchComicVineIssues(Long seriesId) {
         try {
             Optional<Series> series = seriesRepository.findById(seriesId);
@@ -359,6 +451,7 @@ public class SeriesService {
         series.setGcdIds(gcdIds);
         series.setIssuesAvailableCount(totalIssuesAvailable);
         Series savedSeries = seriesRepository.save(series);
+        collectionCounterService.seriesAdded(savedSeries);
 
         evictListCaches();
 
@@ -377,6 +470,8 @@ public class SeriesService {
             List<String> originalComicVineIds = new ArrayList<>(existingSeries.getComicVineIds() != null ?
                     existingSeries.getComicVineIds() : List.of());
 
+            String originalPublisher = existingSeries.getPublisher();
+
             existingSeries.setName(request.getName());
             existingSeries.setDescription(request.getDescription());
             existingSeries.setPublisher(request.getPublisher());
@@ -422,6 +517,8 @@ public class SeriesService {
 
             // Save the updated series
             Series updatedSeries = seriesRepository.save(existingSeries);
+            collectionCounterService.seriesPublisherChanged(originalPublisher, updatedSeries.getPublisher(),
+                    issueRepository.countBySeriesId(id));
 
             // FIX 1: Add explicit flush to ensure data is persisted before cache operations
             seriesRepository.flush();
@@ -588,6 +685,7 @@ public class SeriesService {
         // Get series for cache eviction before deletion
         Optional<Series> series = seriesRepository.findById(id);
         series.ifPresent(descriptionGeneratorService::evictSeriesCache);
+        series.ifPresent(s -> collectionCounterService.seriesRemoved(s, issueRepository.findBySeriesId(id)));
 
         // Delete related records that have FK constraints not covered by cascade
         progressDataRepository.deleteBySeriesId(id);
@@ -605,33 +703,23 @@ public class SeriesService {
     // Cache series statistics with proper TTL
     @Cacheable(value = "series-stats", key = "'global'")
     public Map<String, Object> getSeriesStats() {
-        List<Series> allSeries = seriesRepository.findAll();
-
-        long totalSeries = allSeries.size();
+        SeriesTotals totals = seriesRepository.aggregateTotals();
 
-        Map<String, Long> publisherCounts = allSeries.stream()
-                .filter(series -> series.getPublisher() != null)
-                .collect(Collectors.groupingBy(
-                        Series::getPublisher,
-                        Collectors.counting()
-                ));
+        Map<String, Long> publisherCounts = seriesRepository.countByPublisher().stream()
+                .collect(Collectors.toMap(GroupCount::key, GroupCount::count));
 
-        Map<String, Long> decadeCounts = allSeries.stream()
-                .filter(series -> series.getStartYear() != null)
+        // Rows are per start year, so folding them into decades stays small however many series there are
+        Map<String, Long> decadeCounts = seriesRepository.countByStartYear().stream()
                 .collect(Collectors.groupingBy(
-                        series -> (series.getStartYear() / 10) * 10 + "s",
-                        Collectors.counting()
+                        row -> (row.key() / 10) * 10 + "s",
+                        Collectors.summingLong(GroupCount::count)
                 ));
 
-        long seriesWithComicVineId = allSeries.stream()
-                .mapToLong(series -> series.getComicVineId() != null ? 1 : 0)
-                .sum();
-
         return Map.of(
-                "totalSeries", totalSeries,
+                "totalSeries", totals.totalSeries(),
                 "publisherBreakdown", publisherCounts,
                 "decadeBreakdown", decadeCounts,
-                "seriesWithComicVineId", seriesWithComicVineId
+                "seriesWithComicVineId", totals.seriesWithComicVineId()
         );
     }
 
@@ -641,33 +729,31 @@ public class SeriesService {
         return seriesRepository.findRecentSeries(limit);
     }
 
+    // Every match in one list, for callers that don't page; same order as the paged form
+    @Cacheable(value = "series-advanced-search", key = "#criteria.cacheKey() + ':all'")
+    @Transactional(readOnly = true)
+    public SeriesSearchResult searchSeriesAdvanced(SeriesSearchCriteria criteria) {
+        log.debug("Advanced search - {} (all matches)", criteria);
+
+        List<Series> results = seriesRepository.findAll(SeriesSpecifications.matching(criteria), Sort.by("name", "id"));
+
+        return new SeriesSearchResult(new ArrayList<>(results), results.size(), 0, results.size());
+    }
+
     // Advanced series search with caching
-    @Cacheable(value = "series-advanced-search",
-            key = "T(java.util.Objects).hash(#publisher, #startYear, #endYear)")
-    public List<Series> searchSeriesByPublisherAndYear(String publisher, Integer startYear, Integer endYear) {
-        log.debug("Advanced search - Publisher: {}, Start Year: {}, End Year: {}", publisher, startYear, endYear);
-
-        return seriesRepository.findAll().stream()
-                .filter(series -> {
-                    if (publisher != null && !publisher.isEmpty()) {
-                        return series.getPublisher() != null &&
-                                series.getPublisher().toLowerCase().contains(publisher.toLowerCase());
-                    }
-                    return true;
-                })
-                .filter(series -> {
-                    if (startYear != null) {
-                        return series.getStartYear() != null && series.getStartYear() >= startYear;
-                    }
-                    return true;
-                })
-                .filter(series -> {
-                    if (endYear != null) {
-                        return series.getStartYear() != null && series.getStartYear() <= endYear;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+    @Cacheable(value = "series-advanced-search", key = "#criteria.cacheKey() + ':' + #page + ':' + #size")
+    @Transactional(readOnly = true)
+    public SeriesSearchResult searchSeriesAdvanced(SeriesSearchCriteria criteria, int page, int size) {
+        log.debug("Advanced search - {} (page {}, size {})", criteria, page, size);
+
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+
+        Page<Series> results = seriesRepository.findAll(SeriesSpecifications.matching(criteria),
+                PageRequest.of(page, checkPageSize(size), Sort.by("name", "id")));
+
+        return new SeriesSearchResult(new ArrayList<>(results.getContent()), results.getTotalElements(), page, size);
     }
 
     public Series createSeriesFromComicVine(String comicVineId, ComicVineService.ComicVineSeriesDto comicVineData) {
@@ -714,6 +800,7 @@ public class SeriesService {
         }
 
         Series savedSeries = seriesRepository.save(series);
+        collectionCounterService.seriesAdded(savedSeries);
         evictListCaches();
 
         log.info("Created series '{}' from Comic Vine with ID: {}",
@@ -746,7 +833,9 @@ public class SeriesService {
                     // Note: For batch creation, we skip deriving end year from issues
                     // to avoid excessive API calls. Use reverifyMetadata to populate end years later.
 
-                    return seriesRepository.save(series);
+                    Series savedSeries = seriesRepository.save(series);
+                    collectionCounterService.seriesAdded(savedSeries);
+                    return savedSeries;
                 })
                 .collect(Collectors.toList());
 
@@ -779,9 +868,18 @@ public class SeriesService {
     // Get popular series (most comic books owned)
     @Cacheable(value = "popular-series", key = "#limit")
     public List<Series> getPopularSeries(int limit) {
-        return seriesRepository.findAll().stream()
-                .sorted((s1, s2) -> Integer.compare(s2.getIssues().size(), s1.getIssues().size()))
-                .limit(limit)
+        if (limit < 1) {
+            return List.of();
+        }
+
+        List<Long> ids = seriesRepository.findMostOwnedSeriesIds(PageRequest.of(0, limit));
+        Map<Long, Series> byId = seriesRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Series::getId, series -> series));
+
+        // findAllById doesn't keep the ranking, so restore it from the id list
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
@@ -797,35 +895,6 @@ public class SeriesService {
                 });
     }
 
-    // Helper method to get cached values
-    @SuppressWarnings("unchecked")
-    private <T> T getCachedValue() {
-        try {
-            var cache = cacheManager.getCache("series-list");
-            if (cache != null) {
-                var wrapper = cache.get(CacheConstants.CacheKeys.ALL_SERIES_LIST);
-                if (wrapper != null) {
-                    return (T) wrapper.get();
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get cached value from {} with key {}: {}", "series-list", CacheConstants.CacheKeys.ALL_SERIES_LIST, e.getMessage());
-        }
-        return null;
-    }
-
-    // Helper method to put cached values
-    private void putCacheValue(Object value) {
-        try {
-            var cache = cacheManager.getCache("series-list");
-            if (cache != null) {
-                cache.put(CacheConstants.CacheKeys.ALL_SERIES_LIST, value);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to cache value in {} with key {}: {}", "series-list", CacheConstants.CacheKeys.ALL_SERIES_LIST, e.getMessage());
-        }
-    }
-
     // Helper method to evict specific cache entries
     private void evictCacheValue(String cacheName, String key) {
         try {
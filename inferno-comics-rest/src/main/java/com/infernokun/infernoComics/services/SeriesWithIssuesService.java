@@ -0,0 +1,141 @@
+package com.infernokun.infernoComics.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infernokun.infernoComics.models.ApiResponse;
+import com.infernokun.infernoComics.models.Issue;
+import com.infernokun.infernoComics.models.dto.CursorPage;
+import com.infernokun.infernoComics.models.dto.SeriesSummary;
+import com.infernokun.infernoComics.models.enums.SeriesSort;
+import com.infernokun.infernoComics.repositories.IssueRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read path for the series-with-issues listing. Series are walked in keyset
+ * chunks, each chunk's issues come back from one query already in reading order, and the JSON is
+ * written straight to the response as the rows are consumed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeriesWithIssuesService {
+    private final SeriesService seriesService;
+    private final IssueRepository issueRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final int CHUNK_SIZE = 200;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * A listing whose first page has already been read. With no cursor or size every series is
+     * streamed; otherwise a single page is written along with the cursor for the next one.
+     */
+    public record Listing(CursorPage<SeriesSummary> firstPage, int pageSize, boolean singlePage) { }
+
+    /**
+     * Resolves the cursor and size and reads the first page, so a bad cursor or size fails
+     * with an {@link IllegalArgumentException} before any of the response has been written.
+     */
+    @Transactional(readOnly = true)
+    public Listing openListing(String cursor, Integer size) {
+        boolean singlePage = cursor != null || size != null;
+        int pageSize = size != null ? size : CHUNK_SIZE;
+        return new Listing(seriesService.getSeriesPage(cursor, pageSize, SeriesSort.ID), pageSize, singlePage);
+    }
+
+    /**
+     * Writes an {@link ApiResponse}-shaped body for a listing opened with {@link #openListing}.
+     */
+    @Transactional(readOnly = true)
+    public void writeSeriesWithIssues(Listing listing, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        boolean singlePage = listing.singlePage();
+        int pageSize = listing.pageSize();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("code", HttpStatus.SC_OK);
+            generator.writeStringField("message", "Success");
+            generator.writeStringField("type", ApiResponse.TYPE.SUCCESS.name());
+            generator.writeArrayFieldStart("data");
+
+            CursorPage<SeriesSummary> page = listing.firstPage();
+            int written = 0;
+            while (true) {
+                written += writeChunk(generator, page.items());
+
+                generator.flush();
+                // Nothing written so far is needed again, so keep the persistence context small
+                entityManager.clear();
+
+                if (singlePage || page.nextCursor() == null) {
+                    break;
+                }
+                page = seriesService.getSeriesPage(page.nextCursor(), pageSize, SeriesSort.ID);
+            }
+            String next = page.nextCursor();
+
+            generator.writeEndArray();
+            if (singlePage) {
+                generator.writeNumberField("pageSize", pageSize);
+                generator.writeStringField("nextCursor", next);
+            }
+            generator.writeNumberField("timeMs", System.currentTimeMillis() - startTime);
+            generator.writeStringField("timestamp", LocalDateTime.now().format(TIMESTAMP_FORMAT));
+            generator.writeEndObject();
+
+            log.debug("Streamed {} series with issues in {}ms", written, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private int writeChunk(JsonGenerator generator, List<SeriesSummary> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> seriesIds = chunk.stream().map(SeriesSummary::id).toList();
+
+        try (Stream<Issue> issues = issueRepository.streamBySeriesIdIn(seriesIds)) {
+            Iterator<Issue> iterator = issues.iterator();
+            Issue pending = iterator.hasNext() ? iterator.next() : null;
+
+            // Both sides are ordered by series id and issues arrive in reading order, so one pass merges them
+            for (SeriesSummary summary : chunk) {
+                List<Issue> group = new ArrayList<>();
+                while (pending != null && pending.getSeries().getId().equals(summary.id())) {
+                    group.add(pending);
+                    pending = iterator.hasNext() ? iterator.next() : null;
+                }
+
+                generator.writeStartObject();
+                generator.writeObjectField("series", summary);
+                generator.writeArrayFieldStart("issues");
+                for (Issue issue : group) {
+                    generator.writeObject(issue);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }
+
+        return chunk.size();
+    }
+}
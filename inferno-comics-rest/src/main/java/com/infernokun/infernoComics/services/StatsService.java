@@ -1,9 +1,13 @@
 package com.infernokun.infernoComics.services;
 
+import com.infernokun.infernoComics.models.CollectionCounter;
 import com.infernokun.infernoComics.models.Issue;
-import com.infernokun.infernoComics.models.MissingIssue;
 import com.infernokun.infernoComics.models.ProgressData;
 import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.CompletionTotals;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.MonthCount;
+import com.infernokun.infernoComics.models.dto.ValueTotals;
 import com.infernokun.infernoComics.models.enums.State;
 import com.infernokun.infernoComics.models.sync.ProcessedFile;
 import com.infernokun.infernoComics.models.sync.SeriesSyncStatus;
@@ -16,6 +20,7 @@ import com.infernokun.infernoComics.repositories.sync.SeriesSyncStatusRepository
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -37,51 +42,50 @@ public class StatsService {
     private final ProgressDataRepository progressDataRepository;
     private final ProcessedFileRepository processedFileRepository;
     private final SeriesSyncStatusRepository seriesSyncStatusRepository;
+    private final CollectionCounterService collectionCounterService;
 
-    @Cacheable(value = "collection-stats", key = "'global'")
+    @Cacheable(value = "collection-stats", key = "'global'", sync = true)
     public Map<String, Object> getCollectionStats() {
         log.info("Calculating comprehensive collection statistics");
 
-        List<Series> allSeries = seriesRepository.findAll();
-        List<Issue> allIssues = issueRepository.findAll();
-        List<MissingIssue> missingIssues = missingIssueRepository.findUnresolvedMissingIssues();
+        Map<String, CollectionCounter> counters = collectionCounterService.getCounters();
 
         Map<String, Object> stats = new LinkedHashMap<>();
 
         // Overview
-        stats.put("overview", buildOverview(allSeries, allIssues, missingIssues));
+        stats.put("overview", buildOverview(counters, missingIssueRepository.countUnresolvedMissingIssues()));
 
         // Publisher breakdown
-        stats.put("publisherBreakdown", buildPublisherBreakdown(allSeries, allIssues));
+        stats.put("publisherBreakdown", buildPublisherBreakdown(counters));
 
         // Decade breakdown
-        stats.put("decadeBreakdown", buildDecadeBreakdown(allSeries));
+        stats.put("decadeBreakdown", buildDecadeBreakdown());
 
         // Condition breakdown
-        stats.put("conditionBreakdown", buildConditionBreakdown(allIssues));
+        stats.put("conditionBreakdown", buildConditionBreakdown(counters));
 
         // Top series by issue count
-        stats.put("topSeriesByIssueCount", buildTopSeriesByIssueCount(allIssues));
+        stats.put("topSeriesByIssueCount", buildTopSeriesByIssueCount());
 
         // Collection growth by month
-        stats.put("collectionGrowth", buildCollectionGrowth(allIssues));
+        stats.put("collectionGrowth", buildCollectionGrowth());
 
         // Completion stats
-        stats.put("completionStats", buildCompletionStats(allSeries));
+        stats.put("completionStats", buildCompletionStats());
 
         // Value analysis
-        stats.put("valueAnalysis", buildValueAnalysis(allIssues));
+        stats.put("valueAnalysis", buildValueAnalysis());
 
         // Newest series
-        stats.put("newestSeries", buildNewestSeries(allSeries));
+        stats.put("newestSeries", buildNewestSeries());
 
         // Newest issues
-        stats.put("newestIssues", buildNewestIssues(allIssues));
+        stats.put("newestIssues", buildNewestIssues());
 
         // Read/unread breakdown
-        stats.put("readStats", buildReadStats(allIssues));
+        stats.put("readStats", buildReadStats());
 
-        // Processing stats
+        // Processing, file and sync stats still read their whole tables; they hold job history, not the collection
         List<ProgressData> allProgressData = progressDataRepository.findAll();
         stats.put("processingStats", buildProcessingStats(allProgressData));
 
@@ -96,55 +100,26 @@ public class StatsService {
         return stats;
     }
 
-    private Map<String, Object> buildOverview(List<Series> allSeries, List<Issue> allIssues, List<MissingIssue> missingIssues) {
-        long totalSeries = allSeries.size();
-        long totalIssues = allIssues.size();
-        long keyIssues = allIssues.stream().filter(i -> Boolean.TRUE.equals(i.getKeyIssue())).count();
-        long variantIssues = allIssues.stream().filter(i -> Boolean.TRUE.equals(i.getVariant())).count();
-        long uniquePublishers = allSeries.stream()
-                .map(Series::getPublisher)
-                .filter(Objects::nonNull)
-                .distinct()
-                .count();
-        long missingIssueCount = missingIssues.size();
-
-        BigDecimal totalCurrentValue = allIssues.stream()
-                .map(Issue::getCurrentValue)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalPurchaseValue = allIssues.stream()
-                .map(Issue::getPurchasePrice)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Map<String, Object> buildOverview(Map<String, CollectionCounter> counters, long missingIssueCount) {
+        long uniquePublishers = countersWithPrefix(counters, CollectionCounterService.PUBLISHER_SERIES_PREFIX).size();
 
         return Map.of(
-                "totalSeries", totalSeries,
-                "totalIssues", totalIssues,
-                "keyIssues", keyIssues,
-                "variantIssues", variantIssues,
+                "totalSeries", counterCount(counters, CollectionCounterService.SERIES_TOTAL),
+                "totalIssues", counterCount(counters, CollectionCounterService.ISSUES_TOTAL),
+                "keyIssues", counterCount(counters, CollectionCounterService.ISSUES_KEY),
+                "variantIssues", counterCount(counters, CollectionCounterService.ISSUES_VARIANT),
                 "uniquePublishers", uniquePublishers,
                 "missingIssues", missingIssueCount,
-                "totalCurrentValue", totalCurrentValue,
-                "totalPurchaseValue", totalPurchaseValue
+                "totalCurrentValue", counterAmount(counters, CollectionCounterService.ISSUES_CURRENT_VALUE),
+                "totalPurchaseValue", counterAmount(counters, CollectionCounterService.ISSUES_PURCHASE_VALUE)
         );
     }
 
-    private List<Map<String, Object>> buildPublisherBreakdown(List<Series> allSeries, List<Issue> allIssues) {
-        // Count series per publisher
-        Map<String, Long> seriesPerPublisher = allSeries.stream()
-                .filter(s -> s.getPublisher() != null && !s.getPublisher().isBlank())
-                .collect(Collectors.groupingBy(Series::getPublisher, Collectors.counting()));
-
-        // Count issues per publisher
-        Map<String, Long> issuesPerPublisher = allIssues.stream()
-                .filter(i -> i.getSeries() != null && i.getSeries().getPublisher() != null)
-                .collect(Collectors.groupingBy(
-                        i -> i.getSeries().getPublisher(),
-                        Collectors.counting()
-                ));
+    private List<Map<String, Object>> buildPublisherBreakdown(Map<String, CollectionCounter> counters) {
+        Map<String, Long> seriesPerPublisher = countersWithPrefix(counters, CollectionCounterService.PUBLISHER_SERIES_PREFIX);
+        Map<String, Long> issuesPerPublisher = countersWithPrefix(counters, CollectionCounterService.PUBLISHER_ISSUES_PREFIX);
 
-        long totalSeries = allSeries.size();
+        long totalSeries = counterCount(counters, CollectionCounterService.SERIES_TOTAL);
 
         return seriesPerPublisher.entrySet().stream()
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
@@ -161,54 +136,61 @@ public class StatsService {
                 .collect(Collectors.toList());
     }
 
-    private Map<String, Long> buildDecadeBreakdown(List<Series> allSeries) {
-        return allSeries.stream()
-                .filter(s -> s.getStartYear() != null)
+    private Map<String, Long> buildDecadeBreakdown() {
+        return seriesRepository.countByStartYear().stream()
                 .collect(Collectors.groupingBy(
-                        s -> (s.getStartYear() / 10) * 10 + "s",
+                        row -> (row.key() / 10) * 10 + "s",
                         TreeMap::new,
-                        Collectors.counting()
+                        Collectors.summingLong(GroupCount::count)
                 ));
     }
 
-    private Map<String, Long> buildConditionBreakdown(List<Issue> allIssues) {
-        return allIssues.stream()
-                .filter(i -> i.getCondition() != null)
-                .collect(Collectors.groupingBy(
-                        i -> i.getCondition().toString(),
-                        Collectors.counting()
-                ));
+    private Map<String, Long> buildConditionBreakdown(Map<String, CollectionCounter> counters) {
+        return countersWithPrefix(counters, CollectionCounterService.CONDITION_PREFIX);
     }
 
-    private List<Map<String, Object>> buildTopSeriesByIssueCount(List<Issue> allIssues) {
-        Map<String, Long> seriesCounts = allIssues.stream()
-                .filter(i -> i.getSeries() != null)
-                .collect(Collectors.groupingBy(
-                        i -> i.getSeries().getName(),
-                        Collectors.counting()
+    // Non-zero counts for every counter under a prefix, keyed by the remainder of the counter key
+    private Map<String, Long> countersWithPrefix(Map<String, CollectionCounter> counters, String prefix) {
+        return counters.values().stream()
+                .filter(counter -> counter.getCounterKey().startsWith(prefix) && counter.getCountValue() > 0)
+                .collect(Collectors.toMap(
+                        counter -> counter.getCounterKey().substring(prefix.length()),
+                        CollectionCounter::getCountValue
                 ));
+    }
 
-        return seriesCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+    private long counterCount(Map<String, CollectionCounter> counters, String key) {
+        CollectionCounter counter = counters.get(key);
+        return counter != null ? counter.getCountValue() : 0L;
+    }
+
+    private BigDecimal counterAmount(Map<String, CollectionCounter> counters, String key) {
+        CollectionCounter counter = counters.get(key);
+        return counter != null ? counter.getAmountValue() : BigDecimal.ZERO;
+    }
+
+    private List<Map<String, Object>> buildTopSeriesByIssueCount() {
+        return issueRepository.countBySeriesName().stream()
+                .sorted(Comparator.comparing(GroupCount<String>::count).reversed())
                 .limit(10)
-                .map(entry -> {
+                .map(row -> {
                     Map<String, Object> item = new LinkedHashMap<>();
-                    item.put("name", entry.getKey());
-                    item.put("count", entry.getValue());
+                    item.put("name", row.key());
+                    item.put("count", row.count());
                     return item;
                 })
                 .collect(Collectors.toList());
     }
 
-    private List<Map<String, Object>> buildCollectionGrowth(List<Issue> allIssues) {
+    private List<Map<String, Object>> buildCollectionGrowth() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
 
-        Map<String, Long> monthCounts = allIssues.stream()
-                .filter(i -> i.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(
-                        i -> i.getCreatedAt().format(formatter),
-                        TreeMap::new,
-                        Collectors.counting()
+        Map<String, Long> monthCounts = issueRepository.countByCreatedMonth().stream()
+                .collect(Collectors.toMap(
+                        row -> YearMonth.of(row.year(), row.month()).format(formatter),
+                        MonthCount::count,
+                        Long::sum,
+                        TreeMap::new
                 ));
 
         // Fill in missing months if there are gaps
@@ -242,92 +224,53 @@ public class StatsService {
         return growth;
     }
 
-    private Map<String, Object> buildCompletionStats(List<Series> allSeries) {
-        List<Series> seriesWithAvailable = allSeries.stream()
-                .filter(s -> s.getIssuesAvailableCount() > 0)
-                .toList();
-
-        long completedSeries = seriesWithAvailable.stream()
-                .filter(s -> s.getIssuesOwnedCount() >= s.getIssuesAvailableCount())
-                .count();
-
-        double avgCompletion = seriesWithAvailable.stream()
-                .mapToDouble(s -> Math.min(100.0, (s.getIssuesOwnedCount() * 100.0) / s.getIssuesAvailableCount()))
-                .average()
-                .orElse(0);
+    private Map<String, Object> buildCompletionStats() {
+        CompletionTotals totals = seriesRepository.aggregateCompletion();
 
-        List<Map<String, Object>> seriesCompletion = seriesWithAvailable.stream()
-                .sorted((a, b) -> {
-                    double pctA = (a.getIssuesOwnedCount() * 100.0) / a.getIssuesAvailableCount();
-                    double pctB = (b.getIssuesOwnedCount() * 100.0) / b.getIssuesAvailableCount();
-                    return Double.compare(pctB, pctA);
-                })
-                .limit(10)
-                .map(s -> {
-                    Map<String, Object> item = new LinkedHashMap<>();
-                    item.put("name", s.getName());
-                    item.put("owned", s.getIssuesOwnedCount());
-                    item.put("available", s.getIssuesAvailableCount());
-                    item.put("percentage", Math.round((s.getIssuesOwnedCount() * 100.0) / s.getIssuesAvailableCount() * 10.0) / 10.0);
-                    return item;
-                })
+        List<Map<String, Object>> seriesCompletion = seriesRepository.findMostComplete(PageRequest.of(0, 10)).stream()
+                .map(this::completionItem)
                 .collect(Collectors.toList());
 
         // Least complete series (for "Most Incomplete" chart)
-        List<Map<String, Object>> leastCompleteSeriesCompletion = seriesWithAvailable.stream()
-                .filter(s -> s.getIssuesOwnedCount() < s.getIssuesAvailableCount()) // Only incomplete
-                .sorted((a, b) -> {
-                    double pctA = (a.getIssuesOwnedCount() * 100.0) / a.getIssuesAvailableCount();
-                    double pctB = (b.getIssuesOwnedCount() * 100.0) / b.getIssuesAvailableCount();
-                    return Double.compare(pctA, pctB); // Ascending (lowest first)
-                })
-                .limit(10)
-                .map(s -> {
-                    Map<String, Object> item = new LinkedHashMap<>();
-                    item.put("name", s.getName());
-                    item.put("owned", s.getIssuesOwnedCount());
-                    item.put("available", s.getIssuesAvailableCount());
-                    item.put("percentage", Math.round((s.getIssuesOwnedCount() * 100.0) / s.getIssuesAvailableCount() * 10.0) / 10.0);
-                    return item;
-                })
+        List<Map<String, Object>> leastCompleteSeriesCompletion = seriesRepository.findLeastComplete(PageRequest.of(0, 10)).stream()
+                .map(this::completionItem)
                 .collect(Collectors.toList());
 
         Map<String, Object> result = new LinkedHashMap<>();
-        result.put("completedSeries", completedSeries);
-        result.put("totalTrackedSeries", (long) seriesWithAvailable.size());
-        result.put("averageCompletion", Math.round(avgCompletion * 10.0) / 10.0);
+        result.put("completedSeries", totals.completedSeries());
+        result.put("totalTrackedSeries", totals.trackedSeries());
+        result.put("averageCompletion", Math.round(totals.averageCompletion() * 10.0) / 10.0);
         result.put("topSeriesCompletion", seriesCompletion);
         result.put("leastCompleteSeriesCompletion", leastCompleteSeriesCompletion);
         return result;
     }
 
-    private Map<String, Object> buildValueAnalysis(List<Issue> allIssues) {
-        List<Issue> issuesWithValue = allIssues.stream()
-                .filter(i -> i.getCurrentValue() != null && i.getCurrentValue().compareTo(BigDecimal.ZERO) > 0)
-                .toList();
-
-        BigDecimal totalCurrentValue = issuesWithValue.stream()
-                .map(Issue::getCurrentValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Map<String, Object> completionItem(Series s) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("name", s.getName());
+        item.put("owned", s.getIssuesOwnedCount());
+        item.put("available", s.getIssuesAvailableCount());
+        item.put("percentage", Math.round((s.getIssuesOwnedCount() * 100.0) / s.getIssuesAvailableCount() * 10.0) / 10.0);
+        return item;
+    }
 
-        BigDecimal totalPurchaseValue = allIssues.stream()
-                .map(Issue::getPurchasePrice)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Map<String, Object> buildValueAnalysis() {
+        ValueTotals held = issueRepository.aggregateHeldValue();
+        BigDecimal totalCurrentValue = held.totalValue();
+        BigDecimal totalPurchaseValue = Optional.ofNullable(issueRepository.sumPurchasePrice()).orElse(BigDecimal.ZERO);
 
-        BigDecimal avgValue = issuesWithValue.isEmpty()
+        BigDecimal avgValue = held.issuesWithValue() == 0
                 ? BigDecimal.ZERO
-                : totalCurrentValue.divide(BigDecimal.valueOf(issuesWithValue.size()), 2, RoundingMode.HALF_UP);
+                : totalCurrentValue.divide(BigDecimal.valueOf(held.issuesWithValue()), 2, RoundingMode.HALF_UP);
 
-        Optional<Issue> highestValueIssue = issuesWithValue.stream()
-                .max(Comparator.comparing(Issue::getCurrentValue));
+        Optional<Issue> highestValueIssue = issueRepository.findMostValuable(PageRequest.of(0, 1)).stream().findFirst();
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("totalCurrentValue", totalCurrentValue);
         result.put("totalPurchaseValue", totalPurchaseValue);
         result.put("profitLoss", totalCurrentValue.subtract(totalPurchaseValue));
         result.put("averageIssueValue", avgValue);
-        result.put("issuesWithValue", (long) issuesWithValue.size());
+        result.put("issuesWithValue", held.issuesWithValue());
 
         if (highestValueIssue.isPresent()) {
             Issue hvIssue = highestValueIssue.get();
@@ -343,11 +286,8 @@ public class StatsService {
         return result;
     }
 
-    private List<Map<String, Object>> buildNewestSeries(List<Series> allSeries) {
-        return allSeries.stream()
-                .filter(s -> s.getCreatedAt() != null)
-                .sorted(Comparator.comparing(Series::getCreatedAt).reversed())
-                .limit(5)
+    private List<Map<String, Object>> buildNewestSeries() {
+        return seriesRepository.findTop5ByCreatedAtNotNullOrderByCreatedAtDesc().stream()
                 .map(s -> {
                     Map<String, Object> item = new LinkedHashMap<>();
                     item.put("id", s.getId());
@@ -363,11 +303,8 @@ public class StatsService {
                 .collect(Collectors.toList());
     }
 
-    private List<Map<String, Object>> buildNewestIssues(List<Issue> allIssues) {
-        return allIssues.stream()
-                .filter(i -> i.getCreatedAt() != null)
-                .sorted(Comparator.comparing(Issue::getCreatedAt).reversed())
-                .limit(8)
+    private List<Map<String, Object>> buildNewestIssues() {
+        return issueRepository.findRecentIssues(PageRequest.of(0, 8)).stream()
                 .map(i -> {
                     Map<String, Object> item = new LinkedHashMap<>();
                     item.put("id", i.getId());
@@ -383,11 +320,12 @@ public class StatsService {
                 .collect(Collectors.toList());
     }
 
-    private Map<String, Object> buildReadStats(List<Issue> allIssues) {
-        long readCount = allIssues.stream().filter(Issue::isRead).count();
-        long unreadCount = allIssues.size() - readCount;
-        double readPercentage = allIssues.isEmpty() ? 0
-                : Math.round((readCount * 100.0) / allIssues.size() * 10.0) / 10.0;
+    private Map<String, Object> buildReadStats() {
+        long totalIssues = issueRepository.count();
+        long readCount = issueRepository.countByReadTrue();
+        long unreadCount = totalIssues - readCount;
+        double readPercentage = totalIssues == 0 ? 0
+                : Math.round((readCount * 100.0) / totalIssues * 10.0) / 10.0;
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("read", readCount);
@@ -1,5 +1,7 @@
 package com.infernokun.infernoComics.services.gcd;
 
+import com.infernokun.infernoComics.clients.UpstreamCircuitBreakers;
+import com.infernokun.infernoComics.config.NotFoundCache;
 import com.infernokun.infernoComics.models.gcd.GCDIssue;
 import com.infernokun.infernoComics.models.gcd.GCDSeries;
 import com.infernokun.infernoComics.repositories.gcd.GCDIssueRepository;
@@ -10,10 +12,12 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
 import java.util.*;
@@ -26,15 +30,24 @@ public class GCDatabaseService {
     private static final String GCD_BASE_URL = "https://www.comics.org";
     private static final String GCD_SEARCH_PATH = "/search/advanced/process/";
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String GCD_UPSTREAM = "comics-org";
+    private static final int GCD_MAX_CONCURRENT_CALLS = 4;
+    private static final String VARIANTS_LOOKUP = "gcd-variants";
 
     private final GCDSeriesRepository gcdSeriesRepository;
     private final GCDIssueRepository gcdIssueRepository;
+    private final NotFoundCache notFoundCache;
 
-    public GCDatabaseService(GCDSeriesRepository gcdSeriesRepository, GCDIssueRepository gcdIssueRepository) {
+    public GCDatabaseService(GCDSeriesRepository gcdSeriesRepository, GCDIssueRepository gcdIssueRepository,
+                             UpstreamCircuitBreakers circuitBreakers, NotFoundCache notFoundCache) {
         this.gcdSeriesRepository = gcdSeriesRepository;
         this.gcdIssueRepository = gcdIssueRepository;
+        this.notFoundCache = notFoundCache;
         this.webClient = WebClient.builder()
                 .baseUrl(GCD_BASE_URL)
+                // A response timeout fails the exchange, which the circuit breaker counts; Mono.timeout only cancels it
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().responseTimeout(REQUEST_TIMEOUT)))
+                .filter(circuitBreakers.filter(GCD_UPSTREAM, GCD_MAX_CONCURRENT_CALLS))
                 .defaultHeaders(headers -> {
                     headers.add(HttpHeaders.USER_AGENT, "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36");
                     headers.add(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8");
@@ -75,6 +88,11 @@ public class GCDatabaseService {
     public List<String> getVariantCovers(String seriesName, String publisher, String startYear, String issueNumber) {
         publisher = publisher.split(" ")[0];
         seriesName = seriesName.replace(" ", "%20");
+        String lookupKey = String.join("|", seriesName, publisher, startYear, issueNumber);
+        if (notFoundCache.isMissing(VARIANTS_LOOKUP, lookupKey)) {
+            log.debug("Skipping variant lookup recently found to have no series: {}", lookupKey);
+            return Collections.emptyList();
+        }
         try {
             log.info("Fetching variants for series: {}, publisher: {}, year: {}, issue: {}",
                     seriesName, publisher, startYear, issueNumber);
@@ -85,7 +103,7 @@ public class GCDatabaseService {
             log.error("html content: {}", htmlContent);
 
             if (htmlContent != null && !htmlContent.isEmpty()) {
-                List<String> variants = parseVariantUrls(htmlContent, issueNumber);
+                List<String> variants = parseVariantUrls(htmlContent, issueNumber, lookupKey);
                 if (!variants.isEmpty()) {
                     return variants;
                 }
@@ -131,7 +149,7 @@ public class GCDatabaseService {
         }
     }
 
-    private List<String> parseVariantUrls(String htmlContent, String issueNumber) {
+    private List<String> parseVariantUrls(String htmlContent, String issueNumber, String lookupKey) {
         try {
             Document doc = Jsoup.parse(htmlContent);
             List<String> variantUrls = new ArrayList<>();
@@ -141,6 +159,8 @@ public class GCDatabaseService {
 
             if (seriesLinks.isEmpty()) {
                 log.warn("No series links found in search results");
+                // The search itself answered, so this is a real miss rather than a failure
+                notFoundCache.recordMissing(VARIANTS_LOOKUP, lookupKey);
                 return Collections.emptyList();
             }
 
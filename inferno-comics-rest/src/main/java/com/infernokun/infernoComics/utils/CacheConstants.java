@@ -2,7 +2,7 @@ package com.infernokun.infernoComics.utils;
 
 public class CacheConstants {
     public static final class CacheKeys {
-        public static final String ALL_SERIES_LIST = "all-series-list";
+        public static final String ALL_SERIES_LIST = "all-series-summaries";
         public static final String ALL_ISSUES_LIST = "all-issues-list";
     }
 
@@ -12,5 +12,13 @@ public class CacheConstants {
         public static final String ISSUES = "issue";
         public static final String ISSUE_LIST = "issue-list";
         public static final String ISSUES_BY_SERIES = "issues-by-series";
+        public static final String UPSTREAM_NOT_FOUND = "upstream-not-found";
+    }
+
+    // What a cached entry depends on; writes evict the entries recorded under the tags they touch
+    public static final class CacheTags {
+        public static String series(Object seriesId) {
+            return "series:" + seriesId;
+        }
     }
 }
@@ -0,0 +1,41 @@
+package com.infernokun.infernoComics.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.infernokun.infernoComics.services.ComicVineService;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.infernokun.infernoComics.utils.InfernoComicsUtils.objectMapper;
+
+@Converter
+public class ComicVineVariantListConverter implements AttributeConverter<List<ComicVineService.ComicVineIssueDto.VariantCover>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<ComicVineService.ComicVineIssueDto.VariantCover> variants) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(variants);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting Comic Vine variant list to JSON", e);
+        }
+    }
+
+    @Override
+    public List<ComicVineService.ComicVineIssueDto.VariantCover> convertToEntityAttribute(String jsonString) {
+        if (jsonString == null || jsonString.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(jsonString, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting JSON to Comic Vine variant list", e);
+        }
+    }
+}
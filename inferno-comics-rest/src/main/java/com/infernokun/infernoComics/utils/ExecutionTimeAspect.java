@@ -36,6 +36,7 @@ public class ExecutionTimeAspect {
                             .totalCount(apiResponse.getTotalCount() != null ? apiResponse.getTotalCount() : 0)
                             .currentPage(apiResponse.getCurrentPage() != null ? apiResponse.getCurrentPage() : 0)
                             .pageSize(apiResponse.getPageSize() != null ? apiResponse.getPageSize() : 0)
+                            .nextCursor(apiResponse.getNextCursor())
                             .build();
 
                     return ResponseEntity.status(responseEntity.getStatusCode()).body(updatedResponse);
@@ -52,6 +52,15 @@ public class InfernoComicsUtils {
         return normalized;
     }
 
+    // Lower-cased LIKE pattern matching the term anywhere; '!' is the escape character in the queries
+    public static String toContainsPattern(String term) {
+        String escaped = term.trim().toLowerCase()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
     public static String createEtag(MultipartFile file) {
         if (file == null) {
             throw new IllegalArgumentException("file must not be null");
@@ -0,0 +1,87 @@
+package com.infernokun.infernoComics.utils;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes an issue number into a string that sorts in reading order with a plain
+ * ascending comparison, so the database can order issues without any help from Java.
+ * <p>
+ * The key is {@code class|integer.fraction|suffix}: regular issues come first, then
+ * annuals, then specials and one-shots, then anything without a number. The numeric
+ * part is zero padded to a fixed width and the suffix ("A", "B", ...) breaks ties.
+ */
+public final class IssueSortKey {
+
+    public static final int MAX_LENGTH = 64;
+
+    private static final Pattern NUMBER = Pattern.compile("(\\d+)(?:\\.(\\d+))?");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]");
+
+    private static final int INTEGER_WIDTH = 10;
+    private static final int FRACTION_WIDTH = 6;
+
+    private static final char REGULAR = '0';
+    private static final char ANNUAL = '1';
+    private static final char SPECIAL = '2';
+    private static final char UNNUMBERED = '8';
+    private static final char EMPTY = '9';
+
+    private IssueSortKey() {
+    }
+
+    public static String of(String issueNumber) {
+        if (issueNumber == null || issueNumber.isBlank()) {
+            return String.valueOf(EMPTY);
+        }
+
+        String cleaned = issueNumber.trim().toLowerCase(Locale.ROOT);
+        char issueClass = REGULAR;
+        if (cleaned.startsWith("annual")) {
+            issueClass = ANNUAL;
+            cleaned = cleaned.substring("annual".length());
+        } else if (cleaned.startsWith("special")) {
+            issueClass = SPECIAL;
+            cleaned = cleaned.substring("special".length());
+        } else if (cleaned.startsWith("one-shot")) {
+            issueClass = SPECIAL;
+            cleaned = cleaned.substring("one-shot".length());
+        }
+
+        Matcher matcher = NUMBER.matcher(cleaned);
+        if (!matcher.find()) {
+            return truncate(UNNUMBERED + "|" + alphanumeric(issueNumber.toLowerCase(Locale.ROOT)));
+        }
+
+        String suffix = alphanumeric(cleaned.substring(0, matcher.start()) + cleaned.substring(matcher.end()));
+        return truncate(issueClass + "|" + integerPart(matcher.group(1)) + "." + fractionPart(matcher.group(2)) + "|" + suffix);
+    }
+
+    private static String integerPart(String digits) {
+        String trimmed = digits.replaceFirst("^0+(?=\\d)", "");
+        if (trimmed.length() > INTEGER_WIDTH) {
+            return "9".repeat(INTEGER_WIDTH);
+        }
+        return "0".repeat(INTEGER_WIDTH - trimmed.length()) + trimmed;
+    }
+
+    private static String fractionPart(String digits) {
+        if (digits == null) {
+            return "0".repeat(FRACTION_WIDTH);
+        }
+        if (digits.length() >= FRACTION_WIDTH) {
+            return digits.substring(0, FRACTION_WIDTH);
+        }
+        return digits + "0".repeat(FRACTION_WIDTH - digits.length());
+    }
+
+    // Punctuation is dropped so the key orders the same under any database collation
+    private static String alphanumeric(String value) {
+        return NON_ALPHANUMERIC.matcher(value).replaceAll("");
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_LENGTH ? key.substring(0, MAX_LENGTH) : key;
+    }
+}
@@ -0,0 +1,286 @@
+package com.infernokun.infernoComics.clients;
+
+import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.exceptions.UpstreamUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the scheduler against a loopback server that applies its own token bucket and answers
+ * 429 to any request over it, the way Comic Vine does.
+ */
+class ComicVineRequestSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<String> served = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private StubLimit stubLimit;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            int status = stubLimit.tryTake() ? 200 : 429;
+            if (status == 200) {
+                served.add(exchange.getRequestURI().getPath());
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        serverThreads = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverThreads);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should hold concurrent callers to the upstream limit without a single 429")
+    void shouldStayUnderUpstreamLimit() throws Exception {
+        // 10 per second with bursts of 2; the stub allows one request of slack for arrival jitter
+        ComicVineRequestScheduler scheduler = scheduler(36_000, 2);
+        stubLimit = new StubLimit(36_000, 3);
+
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        long start = System.nanoTime();
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                String path = "/issue/" + i;
+                statuses.add(callers.submit(() -> scheduler.execute(() -> call(path))));
+            }
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get(10, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Two go straight away, the other ten wait for a token each
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(900);
+        assertThat(served).hasSize(12);
+        assertThat(meterRegistry.get("comicvine.scheduler.wait").tag("lane", "interactive").timer().count())
+                .isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should serve an interactive caller before background callers that queued earlier")
+    void shouldLetInteractivePreemptBackground() throws Exception {
+        // One token a second, so the queue builds up before the first refill
+        ComicVineRequestScheduler scheduler = scheduler(3_600, 1);
+        stubLimit = new StubLimit(3_600, 2);
+        assertThat(scheduler.execute(() -> call("/drain"))).isEqualTo(200);
+
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                String path = "/background/" + i;
+                calls.add(callers.submit(() -> scheduler.runInBackground(() -> call(path))));
+                awaitQueued("background", i + 1);
+            }
+            calls.add(callers.submit(() -> scheduler.execute(() -> call("/interactive"))));
+            awaitQueued("interactive", 1);
+
+            for (Future<?> call : calls) {
+                call.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(served).containsExactly("/drain", "/interactive", "/background/0", "/background/1");
+    }
+
+    @Test
+    @DisplayName("Should turn interactive callers away once their wait runs out but let background callers wait on")
+    void shouldLimitInteractiveWait() throws Exception {
+        // One token every 200ms, and the wait derived from that
+        ComicVineRequestScheduler scheduler = scheduler(18_000, 1, Duration.ZERO);
+        stubLimit = new StubLimit(18_000, 2);
+        assertThat(scheduler.maxWait(ComicVineRequestScheduler.Lane.INTERACTIVE)).isEqualTo(Duration.ofMillis(200));
+        assertThat(scheduler.execute(() -> call("/drain"))).isEqualTo(200);
+
+        ExecutorService callers = Executors.newFixedThreadPool(5);
+        try {
+            Future<?> background = callers.submit(() -> scheduler.runInBackground(() -> call("/background")));
+            awaitQueued("background", 1);
+            List<Future<Integer>> interactive = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String path = "/interactive/" + i;
+                interactive.add(callers.submit(() -> scheduler.execute(() -> call(path))));
+            }
+
+            // The next token goes to one of them; the others give up before the one after it
+            int answered = 0;
+            for (Future<Integer> call : interactive) {
+                try {
+                    assertThat(call.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+                    answered++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(UpstreamUnavailableException.class);
+                }
+            }
+            assertThat(answered).isEqualTo(1);
+            assertThat(meterRegistry.get("inferno.client.rejected").tag("reason", "rate_limit_wait").counter().count())
+                    .isEqualTo(3.0);
+            assertThat(meterRegistry.get("comicvine.scheduler.queue").tag("lane", "interactive").gauge().value()).isZero();
+
+            // Queued before all of them and served after, well past the interactive limit
+            background.get(5, TimeUnit.SECONDS);
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(served).hasSize(3).contains("/drain", "/background");
+    }
+
+    @Test
+    @DisplayName("Should keep tokens back from a background job for interactive callers at the default limits")
+    void shouldReserveTokensForInteractiveCallers() throws Exception {
+        ComicVineRequestScheduler scheduler = new ComicVineRequestScheduler(new InfernoComicsConfig(), meterRegistry);
+        stubLimit = new StubLimit(200, 5);
+
+        // 200/h refills a token every 18s, so an interactive caller must be allowed to wait that long
+        assertThat(scheduler.maxWait(ComicVineRequestScheduler.Lane.INTERACTIVE)).isEqualTo(Duration.ofSeconds(18));
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> job = callers.submit(() -> scheduler.runInBackground(() -> {
+                for (int i = 0; i < 5; i++) {
+                    call("/background/" + i);
+                }
+            }));
+            // Three of the five tokens go to the job, which then waits on the other two
+            awaitQueued("background", 1);
+            assertThat(served).containsExactly("/background/0", "/background/1", "/background/2");
+
+            long start = System.nanoTime();
+            assertThat(scheduler.execute(() -> call("/interactive/0"))).isEqualTo(200);
+            assertThat(scheduler.execute(() -> call("/interactive/1"))).isEqualTo(200);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+
+            assertThat(job).isNotDone();
+            job.cancel(true);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run a request straight away only when a token is free")
+    void shouldTryWithoutWaiting() {
+        // One token an hour, so the second try finds the bucket empty
+        ComicVineRequestScheduler scheduler = scheduler(1, 1);
+        stubLimit = new StubLimit(1, 1);
+
+        assertThat(scheduler.tryExecute(() -> call("/first"))).contains(200);
+        long start = System.nanoTime();
+        assertThat(scheduler.tryExecute(() -> call("/second"))).isEmpty();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+        assertThat(served).containsExactly("/first");
+    }
+
+    @Test
+    @DisplayName("Should run background work in the background lane and restore the caller's lane")
+    void shouldScopeLaneToWork() {
+        ComicVineRequestScheduler scheduler = scheduler(3_600, 1);
+
+        List<ComicVineRequestScheduler.Lane> seen = new ArrayList<>();
+        scheduler.runInBackground(() -> seen.add(scheduler.currentLane()));
+
+        assertThat(seen).containsExactly(ComicVineRequestScheduler.Lane.BACKGROUND);
+        assertThat(scheduler.currentLane()).isEqualTo(ComicVineRequestScheduler.Lane.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should reject limits that would never let a request through")
+    void shouldRejectNonPositiveLimits() {
+        assertThatThrownBy(() -> scheduler(0, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduler(200, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scheduler(200, 5, Duration.ofSeconds(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ComicVineRequestScheduler(200, 5, 5, Duration.ZERO, meterRegistry, System::nanoTime))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ComicVineRequestScheduler scheduler(int requestsPerHour, int burst) {
+        return scheduler(requestsPerHour, burst, Duration.ofSeconds(10));
+    }
+
+    private ComicVineRequestScheduler scheduler(int requestsPerHour, int burst, Duration interactiveMaxWait) {
+        return new ComicVineRequestScheduler(requestsPerHour, burst, 0, interactiveMaxWait, meterRegistry, System::nanoTime);
+    }
+
+    private int call(String path) {
+        try {
+            URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+            return httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitQueued(String lane, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("comicvine.scheduler.queue").tag("lane", lane).gauge().value() < depth) {
+            assertThat(System.nanoTime()).as("queue depth %s in %s lane", depth, lane).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * The upstream's own limit, checked as each request arrives.
+     */
+    private static final class StubLimit {
+        private final double capacity;
+        private final double perNano;
+        private double tokens;
+        private long last = System.nanoTime();
+
+        StubLimit(int perHour, int burst) {
+            this.capacity = burst;
+            this.perNano = perHour / (double) TimeUnit.HOURS.toNanos(1);
+            this.tokens = burst;
+        }
+
+        synchronized boolean tryTake() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - last) * perNano);
+            last = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.infernokun.infernoComics.clients;
+
+import com.infernokun.infernoComics.exceptions.UpstreamUnavailableException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the breakers against a loopback server whose next answers can be switched between
+ * healthy, failing, hanging and holding requests until released. Time only moves when a test
+ * moves it.
+ */
+class UpstreamCircuitBreakersTest {
+    private static final String UPSTREAM = "stub";
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMillis(300);
+
+    enum Fault { NONE, ERROR, NOT_FOUND, HANG, HOLD }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger served = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch held = new CountDownLatch(2);
+    private volatile Fault fault = Fault.NONE;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private UpstreamCircuitBreakers breakers;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            served.incrementAndGet();
+            try {
+                switch (fault) {
+                    case ERROR -> exchange.sendResponseHeaders(503, -1);
+                    case NOT_FOUND -> exchange.sendResponseHeaders(404, -1);
+                    case HANG -> {
+                        Thread.sleep(RESPONSE_TIMEOUT.toMillis() * 3);
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                    case HOLD -> {
+                        held.countDown();
+                        release.await(10, TimeUnit.SECONDS);
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                    case NONE -> exchange.sendResponseHeaders(200, -1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        serverThreads = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverThreads);
+        server.start();
+
+        breakers = new UpstreamCircuitBreakers(meterRegistry, FAILURE_THRESHOLD, OPEN_DURATION, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should open after consecutive failures and then turn calls away without sending them")
+    void shouldOpenAfterConsecutiveFailures() {
+        WebClient client = client(4);
+        fault = Fault.ERROR;
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> call(client)).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        }
+        assertThatThrownBy(() -> call(client)).isInstanceOf(UpstreamUnavailableException.class);
+        assertThatThrownBy(() -> breakers.checkAvailable(UPSTREAM)).isInstanceOf(UpstreamUnavailableException.class);
+
+        assertThat(served).hasValue(FAILURE_THRESHOLD);
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.OPEN);
+        assertThat(meterRegistry.get("inferno.client.circuit.state").tag("client", UPSTREAM).gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("inferno.client.rejected").tag("reason", "circuit_open").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should count timeouts as failures but not 4xx answers")
+    void shouldCountTimeoutsButNotClientErrors() {
+        WebClient client = client(4);
+
+        fault = Fault.NOT_FOUND;
+        for (int i = 0; i < FAILURE_THRESHOLD * 2; i++) {
+            assertThatThrownBy(() -> call(client)).isInstanceOf(WebClientResponseException.NotFound.class);
+        }
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.CLOSED);
+
+        fault = Fault.HANG;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> call(client)).isInstanceOf(WebClientRequestException.class);
+        }
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should let one probe through once the open period ends and close when it succeeds")
+    void shouldCloseAfterSuccessfulProbe() {
+        WebClient client = client(4);
+        tripOpen(client);
+
+        now.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertThatThrownBy(() -> call(client)).isInstanceOf(UpstreamUnavailableException.class);
+
+        fault = Fault.NONE;
+        now.addAndGet(1);
+        assertThat(call(client)).isEqualTo(200);
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.CLOSED);
+        assertThat(call(client)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should stay open for another period when the probe fails")
+    void shouldReopenAfterFailedProbe() {
+        WebClient client = client(4);
+        tripOpen(client);
+
+        now.addAndGet(OPEN_DURATION.toNanos());
+        int before = served.get();
+        assertThatThrownBy(() -> call(client)).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThatThrownBy(() -> call(client)).isInstanceOf(UpstreamUnavailableException.class);
+
+        assertThat(served).hasValue(before + 1);
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should turn away calls beyond the concurrency limit at once and admit them again after")
+    void shouldRejectBeyondBulkhead() throws Exception {
+        WebClient client = client(2);
+        fault = Fault.HOLD;
+
+        CompletableFuture<Integer> first = client.get().uri("/held").retrieve().toBodilessEntity()
+                .map(response -> response.getStatusCode().value()).toFuture();
+        CompletableFuture<Integer> second = client.get().uri("/held").retrieve().toBodilessEntity()
+                .map(response -> response.getStatusCode().value()).toFuture();
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> call(client)).isInstanceOf(UpstreamUnavailableException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("inferno.client.rejected").tag("reason", "bulkhead_full").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("inferno.client.bulkhead.available").gauge().value()).isZero();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+
+        fault = Fault.NONE;
+        assertThat(call(client)).isEqualTo(200);
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.CLOSED);
+    }
+
+    private void tripOpen(WebClient client) {
+        fault = Fault.ERROR;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> call(client)).isInstanceOf(WebClientResponseException.class);
+        }
+        assertThat(breakers.state(UPSTREAM)).isEqualTo(UpstreamCircuitBreakers.State.OPEN);
+    }
+
+    private int call(WebClient client) {
+        return client.get().uri("/lookup").retrieve().toBodilessEntity().block().getStatusCode().value();
+    }
+
+    private WebClient client(int maxConcurrentCalls) {
+        return WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create().responseTimeout(RESPONSE_TIMEOUT)))
+                .filter(breakers.filter(UPSTREAM, maxConcurrentCalls))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.infernokun.infernoComics.config;
+
+import com.infernokun.infernoComics.services.ComicVineService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
+
+class CacheValueCodecTest {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private CacheValueCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        json = new GenericJackson2JsonRedisSerializer(RedisConfig.cacheJsonMapper());
+        codec = new CacheValueCodec(RedisConfig.cacheSmileMapper(), json, 1024);
+    }
+
+    private static List<ComicVineService.ComicVineIssueDto> issues(int count) {
+        List<ComicVineService.ComicVineIssueDto> issues = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            ComicVineService.ComicVineIssueDto dto = new ComicVineService.ComicVineIssueDto();
+            dto.setId(String.valueOf(i));
+            dto.setIssueNumber(String.valueOf(i));
+            dto.setName("Issue " + i);
+            dto.setVariants(new ArrayList<>(List.of(
+                    new ComicVineService.ComicVineIssueDto.VariantCover("v" + i, "https://example.com/" + i + ".jpg", null, null))));
+            issues.add(dto);
+        }
+        return issues;
+    }
+
+    @Test
+    @DisplayName("Should round-trip a compressed list smaller than its typed JSON")
+    void shouldRoundTripCompressedList() {
+        List<ComicVineService.ComicVineIssueDto> value = issues(200);
+
+        byte[] encoded = codec.serialize(value);
+        Object decoded = codec.deserialize(encoded);
+
+        assertThat(encoded.length).isLessThan(json.serialize(value).length / 2);
+        assertThat(decoded).asInstanceOf(LIST).hasSize(200);
+        ComicVineService.ComicVineIssueDto last = (ComicVineService.ComicVineIssueDto) ((List<?>) decoded).get(199);
+        assertThat(last.getName()).isEqualTo("Issue 200");
+        assertThat(last.getVariants()).singleElement().extracting(ComicVineService.ComicVineIssueDto.VariantCover::getId).isEqualTo("v200");
+    }
+
+    @Test
+    @DisplayName("Should keep writing registered types as aliases rather than class names")
+    void shouldWriteRegisteredTypesAsAliases() {
+        byte[] encoded = codec.serialize(issues(1));
+
+        assertThat(new String(encoded, StandardCharsets.ISO_8859_1))
+                .contains("cv.issue")
+                .doesNotContain(ComicVineService.ComicVineIssueDto.class.getName());
+    }
+
+    @Test
+    @DisplayName("Should read values written by the typed JSON serializer")
+    void shouldReadLegacyJson() {
+        byte[] legacy = json.serialize(issues(3));
+
+        Object decoded = codec.deserialize(legacy);
+
+        assertThat(decoded).asInstanceOf(LIST)
+                .hasSize(3)
+                .allSatisfy(issue -> assertThat(issue).isInstanceOf(ComicVineService.ComicVineIssueDto.class));
+    }
+}
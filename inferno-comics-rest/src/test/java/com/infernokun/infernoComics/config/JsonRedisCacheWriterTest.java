@@ -0,0 +1,372 @@
+package com.infernokun.infernoComics.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.data.redis.connection.*;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JsonRedisCacheWriterTest {
+
+    private static final String CACHE = "comic-vine-issues";
+    private static final String OTHER_CACHE = "series";
+    private static final byte[] VALUE = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private StandInRedis redis;
+    private RedisKeyIndex keyIndex;
+    private JsonRedisCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        redis = new StandInRedis();
+        keyIndex = new RedisKeyIndex(redis.connectionFactory());
+        writer = new JsonRedisCacheWriter(redis.jsonClient(), keyIndex);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void putEntries(String cache, int count) {
+        for (int i = 0; i < count; i++) {
+            writer.put(cache, bytes(cache + "::" + i), VALUE, Duration.ofHours(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("clean")
+    class CleanTests {
+
+        @Test
+        @DisplayName("Should clear 100k entries in bounded batches without issuing KEYS")
+        void shouldClearLargeCacheWithoutKeys() {
+            putEntries(CACHE, 100_000);
+            putEntries(OTHER_CACHE, 10);
+            redis.resetCommandLog();
+
+            writer.clean(CACHE, bytes(CACHE + "::*"));
+
+            assertThat(redis.keysWithPrefix(CACHE + "::")).isZero();
+            assertThat(redis.keysWithPrefix(OTHER_CACHE + "::")).isEqualTo(10);
+            assertThat(redis.commandCount("KEYS")).isZero();
+            assertThat(redis.largestUnlinkBatch()).isLessThanOrEqualTo(RedisKeyIndex.BATCH_SIZE);
+            assertThat(keyIndex.size(CACHE)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should pick up keys written before indexing with a single SCAN pass")
+        void shouldBackfillLegacyKeysOnce() {
+            for (int i = 0; i < 1_000; i++) {
+                redis.setRaw(CACHE + "::legacy-" + i);
+            }
+            putEntries(CACHE, 100);
+
+            writer.clean(CACHE, bytes(CACHE + "::*"));
+
+            assertThat(redis.keysWithPrefix(CACHE + "::")).isZero();
+            assertThat(redis.commandCount("SCAN")).isEqualTo(1);
+
+            putEntries(CACHE, 100);
+            writer.clean(CACHE, bytes(CACHE + "::*"));
+
+            assertThat(redis.keysWithPrefix(CACHE + "::")).isZero();
+            assertThat(redis.commandCount("SCAN")).isEqualTo(1);
+            assertThat(redis.commandCount("KEYS")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("index size")
+    class SizeTests {
+
+        @Test
+        @DisplayName("Should count entries from the index and drop removed keys")
+        void shouldTrackPutsAndRemoves() {
+            putEntries(CACHE, 50);
+            writer.remove(CACHE, bytes(CACHE + "::0"));
+
+            assertThat(keyIndex.size(CACHE)).isEqualTo(49);
+            assertThat(keyIndex.indexNames()).containsExactly(CACHE);
+            assertThat(redis.commandCount("KEYS")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Should count hits, misses, puts and evictions per cache")
+        void shouldRecordPerCacheMeters() {
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            JsonRedisCacheWriter metered = new JsonRedisCacheWriter(redis.jsonClient(), keyIndex, Set.of(),
+                    new CacheMetrics(registry));
+
+            metered.put(CACHE, bytes(CACHE + "::1"), VALUE, Duration.ofHours(1));
+            metered.get(CACHE, bytes(CACHE + "::1"));
+            metered.get(CACHE, bytes(CACHE + "::2"));
+            metered.remove(CACHE, bytes(CACHE + "::1"));
+
+            assertThat(registry.get("cache.redis.gets").tags("cache", CACHE, "result", "hit").counter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.redis.gets").tags("cache", CACHE, "result", "miss").counter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.redis.puts").tags("cache", CACHE).counter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.redis.evictions").tags("cache", CACHE).counter().count()).isEqualTo(1);
+            assertThat(registry.get("cache.redis.payload").tags("cache", CACHE, "operation", "write").summary().totalAmount())
+                    .isEqualTo(VALUE.length);
+            assertThat(registry.get("cache.redis.latency").tags("cache", CACHE, "operation", "get").timer().count()).isEqualTo(2);
+            assertThat(registry.find("cache.redis.gets").tags("cache", OTHER_CACHE).counter()).isNull();
+        }
+    }
+
+    /**
+     * Just enough of Redis for the key index: a keyspace, sets and cursor scans, with a log of
+     * every command name that reaches it.
+     */
+    private static final class StandInRedis {
+        private final Map<String, byte[]> keyspace = new HashMap<>();
+        private final Map<String, Set<String>> sets = new HashMap<>();
+        private final Map<String, Integer> commandLog = new HashMap<>();
+        private int largestUnlinkBatch;
+
+        private final RedisConnectionFactory connectionFactory;
+        private final RedisJsonClient jsonClient;
+
+        StandInRedis() {
+            RedisKeyCommands keyCommands = mock(RedisKeyCommands.class, withSettings().stubOnly().defaultAnswer(this::keyCommand));
+            RedisSetCommands setCommands = mock(RedisSetCommands.class, withSettings().stubOnly().defaultAnswer(this::setCommand));
+            RedisStringCommands stringCommands = mock(RedisStringCommands.class, withSettings().stubOnly().defaultAnswer(this::stringCommand));
+
+            RedisConnection connection = mock(RedisConnection.class, withSettings().stubOnly().defaultAnswer(invocation ->
+                    switch (invocation.getMethod().getName()) {
+                        case "keyCommands" -> keyCommands;
+                        case "setCommands" -> setCommands;
+                        case "stringCommands" -> stringCommands;
+                        case "execute" -> execute(invocation);
+                        default -> null;
+                    }));
+
+            connectionFactory = mock(RedisConnectionFactory.class, withSettings().stubOnly().defaultAnswer(invocation -> connection));
+            jsonClient = mock(RedisJsonClient.class, withSettings().stubOnly().defaultAnswer(this::jsonCommand));
+        }
+
+        RedisConnectionFactory connectionFactory() {
+            return connectionFactory;
+        }
+
+        RedisJsonClient jsonClient() {
+            return jsonClient;
+        }
+
+        void setRaw(String key) {
+            keyspace.put(key, VALUE);
+        }
+
+        long keysWithPrefix(String prefix) {
+            return keyspace.keySet().stream().filter(key -> key.startsWith(prefix)).count();
+        }
+
+        int commandCount(String command) {
+            return commandLog.getOrDefault(command, 0);
+        }
+
+        int largestUnlinkBatch() {
+            return largestUnlinkBatch;
+        }
+
+        void resetCommandLog() {
+            commandLog.clear();
+            largestUnlinkBatch = 0;
+        }
+
+        private void log(String command) {
+            commandLog.merge(command, 1, Integer::sum);
+        }
+
+        private Object execute(InvocationOnMock invocation) {
+            Object[] raw = invocation.getRawArguments();
+            String command = ((String) raw[0]).toUpperCase(Locale.ROOT);
+            byte[][] args = (byte[][]) raw[1];
+            log(command);
+            if (command.equals("JSON.SET")) {
+                keyspace.put(string(args[0]), args[2]);
+                return "OK";
+            }
+            if (command.equals("KEYS")) {
+                return matching(keyspace.keySet(), string(args[0]));
+            }
+            return null;
+        }
+
+        // The client's write script: value, expiry and index entry in one call
+        private Object jsonCommand(InvocationOnMock invocation) {
+            Object[] args = invocation.getArguments();
+            return switch (invocation.getMethod().getName()) {
+                case "set" -> {
+                    log("EVALSHA");
+                    String key = string((byte[]) args[0]);
+                    keyspace.put(key, (byte[]) args[1]);
+                    if (args[3] != null) {
+                        String index = (String) args[3];
+                        sets.computeIfAbsent(string(RedisKeyIndex.indexKey(index)), k -> new HashSet<>()).add(key);
+                        sets.computeIfAbsent(string(RedisKeyIndex.INDEX_NAMES_KEY), k -> new HashSet<>()).add(index);
+                    }
+                    yield CompletableFuture.completedFuture(null);
+                }
+                case "delete" -> {
+                    log("DEL");
+                    String key = string((byte[]) args[0]);
+                    long removed = keyspace.remove(key) != null ? 1 : 0;
+                    if (args[1] != null) {
+                        Set<String> index = sets.get(string(RedisKeyIndex.indexKey((String) args[1])));
+                        if (index != null) {
+                            index.remove(key);
+                        }
+                    }
+                    yield CompletableFuture.completedFuture(removed);
+                }
+                case "get" -> {
+                    log("JSON.GET");
+                    yield CompletableFuture.completedFuture(keyspace.get(string((byte[]) args[0])));
+                }
+                default -> null;
+            };
+        }
+
+        private Object keyCommand(InvocationOnMock invocation) {
+            Object[] raw = invocation.getRawArguments();
+            return switch (invocation.getMethod().getName()) {
+                case "expire" -> {
+                    log("EXPIRE");
+                    yield true;
+                }
+                case "del", "unlink" -> {
+                    byte[][] keys = keysOf(raw[0]);
+                    String command = invocation.getMethod().getName().toUpperCase(Locale.ROOT);
+                    log(command);
+                    if (command.equals("UNLINK")) {
+                        largestUnlinkBatch = Math.max(largestUnlinkBatch, keys.length);
+                    }
+                    long removed = 0;
+                    for (byte[] key : keys) {
+                        if (keyspace.remove(string(key)) != null || sets.remove(string(key)) != null) {
+                            removed++;
+                        }
+                    }
+                    yield removed;
+                }
+                case "exists" -> {
+                    log("EXISTS");
+                    byte[][] keys = keysOf(raw[0]);
+                    long count = Arrays.stream(keys)
+                            .filter(key -> keyspace.containsKey(string(key)) || sets.containsKey(string(key)))
+                            .count();
+                    yield raw[0] instanceof byte[][] ? (Object) count : (Object) (count > 0);
+                }
+                case "scan" -> {
+                    log("SCAN");
+                    yield cursor(matching(keyspace.keySet(), ((ScanOptions) raw[0]).getPattern()));
+                }
+                case "keys" -> {
+                    log("KEYS");
+                    yield matching(keyspace.keySet(), string((byte[]) raw[0])).stream()
+                            .map(StandInRedis::bytesOf)
+                            .collect(Collectors.toSet());
+                }
+                default -> null;
+            };
+        }
+
+        private Object setCommand(InvocationOnMock invocation) {
+            Object[] raw = invocation.getRawArguments();
+            String key = string((byte[]) raw[0]);
+            return switch (invocation.getMethod().getName()) {
+                case "sAdd" -> {
+                    log("SADD");
+                    Set<String> set = sets.computeIfAbsent(key, k -> new HashSet<>());
+                    long added = Arrays.stream(keysOf(raw[1])).filter(member -> set.add(string(member))).count();
+                    yield added;
+                }
+                case "sRem" -> {
+                    log("SREM");
+                    Set<String> set = sets.getOrDefault(key, new HashSet<>());
+                    long removed = Arrays.stream(keysOf(raw[1])).filter(member -> set.remove(string(member))).count();
+                    if (set.isEmpty()) {
+                        sets.remove(key);
+                    }
+                    yield removed;
+                }
+                case "sCard" -> {
+                    log("SCARD");
+                    yield (long) sets.getOrDefault(key, Set.of()).size();
+                }
+                case "sMembers" -> {
+                    log("SMEMBERS");
+                    Set<byte[]> members = new HashSet<>();
+                    sets.getOrDefault(key, Set.of()).forEach(member -> members.add(bytesOf(member)));
+                    yield members;
+                }
+                case "sScan" -> {
+                    log("SSCAN");
+                    yield cursor(matching(sets.getOrDefault(key, Set.of()), ((ScanOptions) raw[1]).getPattern()));
+                }
+                default -> null;
+            };
+        }
+
+        private Object stringCommand(InvocationOnMock invocation) {
+            if (invocation.getMethod().getName().equals("set")) {
+                log("SET");
+                Object[] raw = invocation.getRawArguments();
+                keyspace.put(string((byte[]) raw[0]), (byte[]) raw[1]);
+                return true;
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Cursor<byte[]> cursor(List<String> snapshot) {
+            Iterator<String> iterator = snapshot.iterator();
+            return mock(Cursor.class, withSettings().stubOnly().defaultAnswer(invocation ->
+                    switch (invocation.getMethod().getName()) {
+                        case "hasNext" -> iterator.hasNext();
+                        case "next" -> bytesOf(iterator.next());
+                        case "isClosed" -> false;
+                        default -> null;
+                    }));
+        }
+
+        private static List<String> matching(Collection<String> keys, String glob) {
+            if (glob == null) {
+                return new ArrayList<>(keys);
+            }
+            Pattern pattern = Pattern.compile(Pattern.quote(glob).replace("*", "\\E.*\\Q"));
+            return keys.stream().filter(key -> pattern.matcher(key).matches()).toList();
+        }
+
+        private static byte[][] keysOf(Object raw) {
+            return raw instanceof byte[][] keys ? keys : new byte[][]{(byte[]) raw};
+        }
+
+        private static String string(byte[] value) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+
+        private static byte[] bytesOf(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.infernokun.infernoComics.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoTierCacheTest {
+
+    private static final String KEY = "global";
+
+    private final ConcurrentMapCache redis = new ConcurrentMapCache("collection-stats", false);
+    private final List<Runnable> refreshQueue = new ArrayList<>();
+
+    private TwoTierCache cache(TwoTierCacheManager.LoadPolicy policy) {
+        return new TwoTierCache("collection-stats", redis, null, (name, key) -> { }, policy, refreshQueue::add);
+    }
+
+    @Nested
+    @DisplayName("single flight")
+    class SingleFlightTests {
+
+        @Test
+        @DisplayName("Should share one load between concurrent misses for the same key")
+        void shouldCoalesceConcurrentMisses() throws Exception {
+            TwoTierCache cache = cache(TwoTierCacheManager.LoadPolicy.singleFlight());
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            Callable<String> loader = () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await();
+                return "stats";
+            };
+
+            int callers = 8;
+            ExecutorService pool = Executors.newFixedThreadPool(callers);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                results.add(pool.submit(() -> cache.get(KEY, loader)));
+                loaderStarted.await(5, TimeUnit.SECONDS);
+                for (int i = 1; i < callers; i++) {
+                    results.add(pool.submit(() -> cache.get(KEY, loader)));
+                }
+                // Wait until every other caller is parked on the running load, then let it finish
+                while ((long) cache.getStatistics().get("coalescedLoads") < callers - 1) {
+                    Thread.onSpinWait();
+                }
+                releaseLoader.countDown();
+
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("stats");
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            assertThat(loads).hasValue(1);
+            assertThat(cache.get(KEY, String.class)).isEqualTo("stats");
+        }
+
+        @Test
+        @DisplayName("Should let the next caller retry after a failed load")
+        void shouldNotCacheFailures() {
+            TwoTierCache cache = cache(TwoTierCacheManager.LoadPolicy.singleFlight());
+
+            Callable<String> failing = () -> {
+                throw new IllegalStateException("upstream down");
+            };
+            assertThatThrownBy(() -> cache.get(KEY, failing))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCauseMessage("upstream down");
+
+            assertThat(cache.get(KEY, () -> "stats")).isEqualTo("stats");
+        }
+    }
+
+    @Nested
+    @DisplayName("stale while revalidate")
+    class StaleWhileRevalidateTests {
+
+        @Test
+        @DisplayName("Should serve the old value past the soft TTL while one refresh runs")
+        void shouldServeStaleWhileRefreshing() {
+            TwoTierCache cache = cache(TwoTierCacheManager.LoadPolicy.staleWhileRevalidate(Duration.ZERO));
+            cache.put(KEY, "old");
+
+            assertThat(cache.get(KEY, () -> "new")).isEqualTo("old");
+            assertThat(cache.get(KEY, () -> "newer")).isEqualTo("old");
+            assertThat(refreshQueue).hasSize(1);
+
+            refreshQueue.getFirst().run();
+
+            assertThat(cache.get(KEY, String.class)).isEqualTo("new");
+            assertThat(cache.getStatistics())
+                    .containsEntry("staleServed", 2L)
+                    .containsEntry("backgroundRefreshes", 1L);
+        }
+
+        @Test
+        @DisplayName("Should keep fresh values without refreshing")
+        void shouldNotRefreshFreshValues() {
+            TwoTierCache cache = cache(TwoTierCacheManager.LoadPolicy.staleWhileRevalidate(Duration.ofMinutes(5)));
+            cache.put(KEY, "current");
+
+            assertThat(cache.get(KEY, () -> "new")).isEqualTo("current");
+            assertThat(refreshQueue).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should treat values stored without a timestamp as stale")
+        void shouldRefreshUntimestampedValues() {
+            redis.put(KEY, "written-before-soft-ttl");
+            TwoTierCache cache = cache(TwoTierCacheManager.LoadPolicy.staleWhileRevalidate(Duration.ofMinutes(5)));
+
+            assertThat(cache.get(KEY, () -> "new")).isEqualTo("written-before-soft-ttl");
+            refreshQueue.getFirst().run();
+
+            assertThat(redis.get(KEY).get()).isInstanceOf(TimestampedValue.class);
+            assertThat(cache.get(KEY, String.class)).isEqualTo("new");
+        }
+    }
+}
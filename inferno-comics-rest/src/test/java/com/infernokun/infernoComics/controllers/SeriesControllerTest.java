@@ -0,0 +1,129 @@
+package com.infernokun.infernoComics.controllers;
+
+import com.infernokun.infernoComics.exceptions.GlobalExceptionHandler;
+import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.SeriesSearchCriteria;
+import com.infernokun.infernoComics.models.dto.SeriesSearchResult;
+import com.infernokun.infernoComics.repositories.sync.ProcessedFileRepository;
+import com.infernokun.infernoComics.services.*;
+import com.infernokun.infernoComics.services.sync.NextcloudSyncService;
+import com.infernokun.infernoComics.services.sync.WeirdService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class SeriesControllerTest {
+
+    @Mock
+    private WeirdService weirdService;
+
+    @Mock
+    private SeriesService seriesService;
+
+    @Mock
+    private SeriesWithIssuesService seriesWithIssuesService;
+
+    @Mock
+    private IssueService issueService;
+
+    @Mock
+    private ProgressDataService progressDataService;
+
+    @Mock
+    private NextcloudSyncService syncService;
+
+    @Mock
+    private RecognitionService recognitionService;
+
+    @Mock
+    private ProcessedFileRepository processedFileRepository;
+
+    @Mock
+    private SchedulingService schedulingService;
+
+    @InjectMocks
+    private SeriesController seriesController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(seriesController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Series with issues stream")
+    class WithIssuesTests {
+
+        @Test
+        @DisplayName("Should answer a bad cursor with a 400 before streaming anything")
+        void shouldRejectBadCursorBeforeStreaming() throws Exception {
+            when(seriesWithIssuesService.openListing("not-a-cursor", null))
+                    .thenThrow(new IllegalArgumentException("Invalid series cursor: not-a-cursor"));
+
+            mockMvc.perform(get("/api/series/with-issues").param("cursor", "not-a-cursor"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(400));
+
+            verify(seriesWithIssuesService, never()).writeSeriesWithIssues(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Advanced search")
+    class AdvancedSearchTests {
+        private final SeriesSearchCriteria marvel = new SeriesSearchCriteria("Marvel", null, null, null, null, null);
+
+        @Test
+        @DisplayName("Should return every match without paging fields when no page or size is given")
+        void shouldReturnAllMatchesByDefault() throws Exception {
+            when(seriesService.searchSeriesAdvanced(marvel))
+                    .thenReturn(new SeriesSearchResult(List.of(series(1L), series(2L)), 2, 0, 2));
+
+            mockMvc.perform(get("/api/series/search/advanced").param("publisher", "Marvel"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2))
+                    .andExpect(jsonPath("$.pageSize").doesNotExist());
+
+            verify(seriesService, never()).searchSeriesAdvanced(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should page from the first page when only a size is given")
+        void shouldPageWhenSizeGiven() throws Exception {
+            when(seriesService.searchSeriesAdvanced(marvel, 0, 1))
+                    .thenReturn(new SeriesSearchResult(List.of(series(1L)), 2, 0, 1));
+
+            mockMvc.perform(get("/api/series/search/advanced").param("publisher", "Marvel").param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(1))
+                    .andExpect(jsonPath("$.totalCount").value(2))
+                    .andExpect(jsonPath("$.currentPage").value(0));
+        }
+
+        private Series series(Long id) {
+            Series series = new Series();
+            series.setId(id);
+            return series;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.config.CacheAccessTracker;
+import com.infernokun.infernoComics.utils.CacheConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupServiceTest {
+
+    @Mock
+    private SeriesService seriesService;
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private CacheAccessTracker accessTracker;
+
+    @Mock
+    private DataSource dataSource;
+
+    private CacheWarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        warmupService = new CacheWarmupService(seriesService, statsService, accessTracker, dataSource);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(accessTracker).runUntracked(any());
+    }
+
+    @Test
+    @DisplayName("Should load the lists first, then the most-read series in rank order")
+    void shouldWarmListsThenHottestSeries() {
+        when(accessTracker.hottestKeys(CacheConstants.CacheNames.SERIES, CacheWarmupService.TOP_SERIES))
+                .thenReturn(List.of("7", "3"));
+
+        warmupService.warmUp("startup");
+
+        InOrder order = inOrder(seriesService, statsService);
+        order.verify(seriesService).getAllSeries();
+        order.verify(statsService).getCollectionStats();
+        order.verify(seriesService).getSeriesById(7L);
+        order.verify(seriesService).getSeriesById(3L);
+        verify(accessTracker, times(4)).runUntracked(any());
+
+        assertThat(warmupService.getProgress())
+                .containsEntry("state", "FINISHED")
+                .containsEntry("trigger", "startup")
+                .containsEntry("planned", 4)
+                .containsEntry("completed", 4)
+                .containsEntry("failed", 0);
+        assertThat((Map<?, ?>) warmupService.getProgress().get("timingsMs"))
+                .containsOnlyKeys(CacheConstants.CacheNames.SERIES_LIST, "collection-stats", "series:7", "series:3");
+    }
+
+    @Test
+    @DisplayName("Should keep going after a failed load and count it")
+    void shouldContinueAfterFailure() {
+        when(accessTracker.hottestKeys(CacheConstants.CacheNames.SERIES, CacheWarmupService.TOP_SERIES))
+                .thenReturn(List.of("5"));
+        when(statsService.getCollectionStats()).thenThrow(new IllegalStateException("database down"));
+
+        warmupService.warmUp("clear");
+
+        verify(seriesService).getSeriesById(5L);
+        assertThat(warmupService.getProgress())
+                .containsEntry("completed", 2)
+                .containsEntry("failed", 1);
+    }
+
+    @Test
+    @DisplayName("Should still warm the lists when the access ranking cannot be read")
+    void shouldWarmListsWithoutRanking() {
+        when(accessTracker.hottestKeys(any(), anyInt())).thenThrow(new IllegalStateException("redis down"));
+
+        warmupService.warmUp("startup");
+
+        verify(seriesService).getAllSeries();
+        verify(statsService).getCollectionStats();
+        verify(seriesService, never()).getSeriesById(any());
+        assertThat(warmupService.getProgress()).containsEntry("planned", 2);
+    }
+}
@@ -0,0 +1,56 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.models.CollectionCounter;
+import com.infernokun.infernoComics.repositories.CollectionCounterRepository;
+import com.infernokun.infernoComics.repositories.IssueRepository;
+import com.infernokun.infernoComics.repositories.SeriesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CollectionCounterServiceTest {
+
+    @Mock
+    private CollectionCounterRepository collectionCounterRepository;
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @InjectMocks
+    private CollectionCounterService collectionCounterService;
+
+    @Test
+    @DisplayName("Should lock the counters before recounting and correct only the drift")
+    void shouldLockCountersBeforeRecounting() {
+        when(collectionCounterRepository.findAllForUpdate()).thenReturn(List.of(
+                CollectionCounter.builder().counterKey(CollectionCounterService.SERIES_TOTAL).countValue(3).build(),
+                CollectionCounter.builder().counterKey(CollectionCounterService.ISSUES_TOTAL).countValue(7).build()));
+        when(seriesRepository.count()).thenReturn(3L);
+        when(seriesRepository.findPopularPublishers()).thenReturn(List.of());
+        when(issueRepository.aggregateCounterContributions()).thenReturn(List.<Object[]>of(
+                new Object[]{null, false, false, null, 5L, null, null}));
+
+        CollectionCounterService.ReconciliationReport report = collectionCounterService.reconcile();
+
+        assertThat(report.drift()).containsOnlyKeys(CollectionCounterService.ISSUES_TOTAL);
+        InOrder order = inOrder(collectionCounterRepository, seriesRepository);
+        order.verify(collectionCounterRepository).findAllForUpdate();
+        order.verify(seriesRepository).count();
+        order.verify(collectionCounterRepository).applyDelta(CollectionCounterService.ISSUES_TOTAL, -2, BigDecimal.ZERO);
+        verify(collectionCounterRepository, never()).findAll();
+    }
+}
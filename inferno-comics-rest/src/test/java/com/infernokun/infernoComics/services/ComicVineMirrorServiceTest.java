@@ -0,0 +1,126 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.models.comicvine.ComicVineIssue;
+import com.infernokun.infernoComics.repositories.comicvine.ComicVineIssueRepository;
+import com.infernokun.infernoComics.repositories.comicvine.ComicVineVolumeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ComicVineMirrorServiceTest {
+
+    @Mock
+    private ComicVineVolumeRepository volumeRepository;
+
+    @Mock
+    private ComicVineIssueRepository issueRepository;
+
+    @InjectMocks
+    private ComicVineMirrorService mirrorService;
+
+    /**
+     * Listings carry no variant covers; only the detail call does.
+     */
+    @Nested
+    @DisplayName("Issue variants")
+    class IssueVariantTests {
+
+        @Test
+        @DisplayName("Should keep the variants from an earlier detail when a listing rewrites the row")
+        void shouldKeepVariantsOnListing() {
+            ComicVineIssue existing = mirroredDetail(7L);
+            when(issueRepository.findAllById(any())).thenReturn(List.of(existing));
+
+            mirrorService.storeIssues(List.of(new ComicVineMirrorService.VolumeIssue(1L, issue(7L, null))));
+
+            ComicVineIssue stored = saved();
+            assertThat(stored.getVariants()).hasSize(1);
+            assertThat(stored.getDetailSyncedAt()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Should send the next lookup back to the detail call when a listing reports a change")
+        void shouldDropDetailOnChange() {
+            when(issueRepository.findAllById(any())).thenReturn(List.of(mirroredDetail(7L)));
+
+            mirrorService.storeChangedIssues(List.of(new ComicVineMirrorService.VolumeIssue(1L, issue(7L, null))));
+
+            assertThat(saved().getDetailSyncedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should store the variants from a detail and serve the issue by id afterwards")
+        void shouldStoreDetail() {
+            when(issueRepository.findAllById(any())).thenReturn(List.of());
+            ComicVineService.ComicVineIssueDto detail = issue(7L, List.of(variant()));
+
+            mirrorService.storeIssueDetails(List.of(new ComicVineMirrorService.VolumeIssue(1L, detail)));
+
+            ComicVineIssue stored = saved();
+            assertThat(stored.getVariants()).hasSize(1);
+            assertThat(stored.getDetailSyncedAt()).isNotNull();
+
+            when(issueRepository.findById(7L)).thenReturn(Optional.of(stored));
+            assertThat(mirrorService.findIssue(7L))
+                    .hasValueSatisfying(dto -> assertThat(dto.getVariants()).hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Should not serve by id an issue only seen in a listing")
+        void shouldNotServeListedOnly() {
+            ComicVineIssue listed = new ComicVineIssue(7L);
+            when(issueRepository.findById(7L)).thenReturn(Optional.of(listed));
+
+            assertThat(mirrorService.findIssue(7L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should leave listed-only issues out of a batch lookup")
+        void shouldBatchOnlyDetails() {
+            when(issueRepository.findAllById(List.of(7L, 8L))).thenReturn(List.of(mirroredDetail(7L), new ComicVineIssue(8L)));
+
+            assertThat(mirrorService.findIssues(List.of(7L, 8L))).containsOnlyKeys(7L);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ComicVineIssue saved() {
+            ArgumentCaptor<List<ComicVineIssue>> captor = ArgumentCaptor.forClass(List.class);
+            verify(issueRepository).saveAll(captor.capture());
+            assertThat(captor.getValue()).hasSize(1);
+            return captor.getValue().getFirst();
+        }
+
+        private ComicVineIssue mirroredDetail(Long id) {
+            ComicVineIssue issue = new ComicVineIssue(id);
+            issue.setVariants(new ArrayList<>(List.of(variant())));
+            issue.setDetailSyncedAt(LocalDateTime.of(2026, 3, 1, 12, 0));
+            return issue;
+        }
+
+        private ComicVineService.ComicVineIssueDto issue(Long id, List<ComicVineService.ComicVineIssueDto.VariantCover> variants) {
+            ComicVineService.ComicVineIssueDto dto = new ComicVineService.ComicVineIssueDto();
+            dto.setId(String.valueOf(id));
+            dto.setVariants(variants);
+            return dto;
+        }
+
+        private ComicVineService.ComicVineIssueDto.VariantCover variant() {
+            return new ComicVineService.ComicVineIssueDto.VariantCover("70", "https://example.test/70.jpg", "Variant", "");
+        }
+    }
+}
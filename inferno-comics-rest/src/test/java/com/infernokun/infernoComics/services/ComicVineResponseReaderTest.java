@@ -0,0 +1,114 @@
+package com.infernokun.infernoComics.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ComicVineResponseReaderTest {
+
+    @Test
+    @DisplayName("Should read an issue page, skipping fields the DTO doesn't use")
+    void shouldReadIssuePage() throws IOException {
+        String body = """
+                {"error": "OK", "limit": 100, "offset": 0, "number_of_total_results": 812,
+                 "results": [
+                   {"api_detail_url": "https://comicvine.gamespot.com/api/issue/4000-6/",
+                    "id": 6, "issue_number": "1", "name": null,
+                    "description": "<p>Peter &amp; Mary Jane.</p>",
+                    "cover_date": "1963-03-01",
+                    "image": {"icon_url": "icon.jpg", "medium_url": "medium.jpg", "image_tags": "All Images"},
+                    "volume": {"id": 2127, "name": "The Amazing Spider-Man", "site_detail_url": "https://x"},
+                    "associated_images": [
+                      {"id": 11, "original_url": "variant.jpg", "caption": null, "image_tags": "All Images"}
+                    ]},
+                   {"id": 7, "issue_number": "2", "name": "The Vulture", "image": null}
+                 ],
+                 "status_code": 1, "version": "1.0"}
+                """;
+
+        ComicVineResponseReader.Page<ComicVineService.ComicVineIssueDto> page = ComicVineResponseReader.readIssues(json(body));
+
+        assertThat(page.totalResults()).isEqualTo(812);
+        assertThat(page.results()).hasSize(2);
+
+        ComicVineService.ComicVineIssueDto first = page.results().getFirst();
+        assertThat(first.getId()).isEqualTo("6");
+        assertThat(first.getIssueNumber()).isEqualTo("1");
+        // Matches JsonNode.asText(), which the tree parsing used
+        assertThat(first.getName()).isEqualTo("null");
+        assertThat(first.getDescription()).isEqualTo("Peter & Mary Jane.");
+        assertThat(first.getCoverDate()).isEqualTo("1963-03-01");
+        assertThat(first.getImageUrl()).isEqualTo("medium.jpg");
+        assertThat(first.getVariants()).containsExactly(
+                new ComicVineService.ComicVineIssueDto.VariantCover("11", "variant.jpg", "null", "All Images"));
+
+        ComicVineService.ComicVineIssueDto second = page.results().get(1);
+        assertThat(second.getName()).isEqualTo("The Vulture");
+        assertThat(second.getCoverDate()).isEmpty();
+        assertThat(second.getImageUrl()).isEmpty();
+        assertThat(second.getVariants()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read a single resource sent as an object")
+    void shouldReadSingleVolume() throws IOException {
+        String body = """
+                {"error": "OK",
+                 "results": {"id": 2127, "name": "The Amazing Spider-Man", "count_of_issues": 700,
+                             "publisher": {"id": 31, "name": "Marvel"}, "start_year": "1963",
+                             "image": {"medium_url": "asm.jpg"},
+                             "characters": [{"id": 1443, "name": "Spider-Man"}]}}
+                """;
+
+        ComicVineResponseReader.Page<ComicVineService.ComicVineSeriesDto> page = ComicVineResponseReader.readSeries(json(body));
+
+        assertThat(page.totalResults()).isEqualTo(-1);
+        assertThat(page.results()).singleElement().satisfies(series -> {
+            assertThat(series.getId()).isEqualTo("2127");
+            assertThat(series.getName()).isEqualTo("The Amazing Spider-Man");
+            assertThat(series.getIssueCount()).isEqualTo(700);
+            assertThat(series.getPublisher()).isEqualTo("Marvel");
+            assertThat(series.getStartYear()).isEqualTo(1963);
+            assertThat(series.getEndYear()).isNull();
+            assertThat(series.getImageUrl()).isEqualTo("asm.jpg");
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep only volumes from search results")
+    void shouldKeepOnlyVolumesFromSearch() throws IOException {
+        String body = """
+                {"number_of_total_results": 3,
+                 "results": [
+                   {"resource_type": "volume", "id": 1, "name": "Saga", "publisher": null},
+                   {"resource_type": "issue", "id": 2, "name": "Saga #1"},
+                   {"resource_type": "volume", "id": 3, "name": "Saga Deluxe"}
+                 ]}
+                """;
+
+        List<ComicVineService.ComicVineSeriesDto> series = ComicVineResponseReader.readVolumeSearch(json(body)).results();
+
+        assertThat(series).extracting(ComicVineService.ComicVineSeriesDto::getId).containsExactly("1", "3");
+        assertThat(series.getFirst().getPublisher()).isEmpty();
+        assertThat(series.get(1).getPublisher()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a body that isn't a JSON object")
+    void shouldRejectNonObjectBody() {
+        assertThatThrownBy(() -> ComicVineResponseReader.readIssues(json("")))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,516 @@
+package com.infernokun.infernoComics.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.infernokun.infernoComics.clients.ComicVineRequestScheduler;
+import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
+import com.infernokun.infernoComics.clients.UpstreamCircuitBreakers;
+import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.config.NotFoundCache;
+import com.infernokun.infernoComics.config.RedisKeyIndex;
+import com.infernokun.infernoComics.config.TwoTierCacheManager;
+import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.comicvine.ComicVineVolume;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ComicVineServiceTest {
+
+    @Mock
+    private RedisJsonService redisJsonService;
+
+    @Mock
+    private InfernoComicsWebClient webClient;
+
+    @Mock
+    private RedisKeyIndex redisKeyIndex;
+
+    @Mock
+    private TwoTierCacheManager cacheManager;
+
+    @Mock
+    private ComicVineMirrorService comicVineMirror;
+
+    @Mock
+    private NotFoundCache notFoundCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * A volume's issue list served 100 at a time by a loopback server, each page taking
+     * {@link #PAGE_DELAY_MS} like a slow upstream would.
+     */
+    @Nested
+    @DisplayName("Issue listing pages")
+    class IssuePagingTests {
+        private static final int TOTAL_ISSUES = 850;
+        private static final long PAGE_DELAY_MS = 100;
+
+        private final List<Integer> requestedOffsets = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> requestedFields = Collections.synchronizedList(new ArrayList<>());
+        private final Set<Integer> failingOffsets = new HashSet<>();
+
+        private HttpServer server;
+        private ExecutorService serverThreads;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/issues/", exchange -> {
+                Map<String, String> query = new HashMap<>();
+                for (String param : exchange.getRequestURI().getQuery().split("&")) {
+                    String[] pair = param.split("=", 2);
+                    query.put(pair[0], pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "");
+                }
+                int offset = Integer.parseInt(query.get("offset"));
+                int limit = Integer.parseInt(query.get("limit"));
+                requestedOffsets.add(offset);
+                requestedFields.add(query.get("field_list"));
+
+                try {
+                    Thread.sleep(PAGE_DELAY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failingOffsets.contains(offset)) {
+                    exchange.sendResponseHeaders(500, -1);
+                    exchange.close();
+                    return;
+                }
+
+                byte[] body = issuesPage(offset, limit).getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            serverThreads = Executors.newFixedThreadPool(16);
+            server.setExecutor(serverThreads);
+            server.start();
+
+            when(webClient.comicVineClient())
+                    .thenReturn(WebClient.create("http://127.0.0.1:" + server.getAddress().getPort()));
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop(0);
+            serverThreads.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("Should return every issue in offset order, fetching each page once")
+        void shouldMergePagesInOffsetOrder() {
+            List<ComicVineService.ComicVineIssueDto> issues = service(4).refreshIssuesSearch("4050");
+
+            assertThat(issues).extracting(ComicVineService.ComicVineIssueDto::getId)
+                    .containsExactlyElementsOf(IntStream.range(0, TOTAL_ISSUES).mapToObj(String::valueOf).toList());
+            assertThat(requestedOffsets).containsExactlyInAnyOrder(0, 100, 200, 300, 400, 500, 600, 700, 800);
+            assertThat(requestedFields).containsOnly(ComicVineResponseReader.ISSUE_FIELDS);
+            verify(comicVineMirror).storeVolumeIssues(eq(4050L), argThat(stored -> stored.size() == TOTAL_ISSUES));
+            verify(cacheManager).putAll(eq("comic-vine-volume-issues"), argThat(cached -> ((List<?>) cached.get("4050")).size() == TOTAL_ISSUES));
+        }
+
+        @Test
+        @DisplayName("Should finish well ahead of fetching the pages one after another")
+        void shouldBeatSequentialFetching() {
+            long sequential = timeRefresh(service(1));
+            long parallel = timeRefresh(service(4));
+
+            // Nine pages: one, then eight in two rounds of four, against nine in a row
+            assertThat(sequential).isGreaterThanOrEqualTo(9 * PAGE_DELAY_MS);
+            assertThat(parallel).isLessThan(sequential * 6 / 10);
+        }
+
+        @Test
+        @DisplayName("Should stop at a failed page and keep only the unbroken run before it")
+        void shouldStopAtFailedPage() {
+            failingOffsets.add(400);
+
+            List<ComicVineService.ComicVineIssueDto> issues = service(4).refreshIssuesSearch("4050");
+
+            assertThat(issues).extracting(ComicVineService.ComicVineIssueDto::getId)
+                    .containsExactlyElementsOf(IntStream.range(0, 400).mapToObj(String::valueOf).toList());
+            verify(comicVineMirror, never()).storeVolumeIssues(any(), any());
+            verify(cacheManager, never()).putAll(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should return the pages the free tokens cover and leave the rest to the background at the default limits")
+        void shouldDeferPagesPastTheBurst() throws InterruptedException {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ComicVineService service = service(new InfernoComicsConfig(), meterRegistry);
+            try {
+                long start = System.nanoTime();
+                List<ComicVineService.ComicVineIssueDto> issues = service.refreshIssuesSearch("4050");
+
+                // One token for the first page and four for the next; the sixth would wait 18s for a refill
+                assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2_000);
+                assertThat(issues).extracting(ComicVineService.ComicVineIssueDto::getId)
+                        .containsExactlyElementsOf(IntStream.range(0, 500).mapToObj(String::valueOf).toList());
+                assertThat(requestedOffsets).containsExactlyInAnyOrder(0, 100, 200, 300, 400);
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (meterRegistry.get("comicvine.scheduler.queue").tag("lane", "background").gauge().value() < 1) {
+                    assertThat(System.nanoTime()).as("remaining pages queued in the background").isLessThan(deadline);
+                    Thread.sleep(5);
+                }
+                verify(comicVineMirror, never()).storeVolumeIssues(any(), any());
+                verify(cacheManager, never()).putAll(any(), any());
+
+                // Asked again meanwhile, the pages in hand come back without being fetched twice
+                assertThat(service.refreshIssuesSearch("4050")).hasSize(500);
+                assertThat(requestedOffsets).hasSize(5);
+            } finally {
+                service.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should finish a deferred volume in the background and then mirror and cache all of it")
+        void shouldFinishDeferredPagesInBackground() {
+            // A token every 500ms: none come back while the first pages are fetched, and the rest follow in seconds
+            InfernoComicsConfig config = new InfernoComicsConfig();
+            config.setComicVineRequestsPerHour(7_200);
+            ComicVineService service = service(config, new SimpleMeterRegistry());
+            try {
+                assertThat(service.refreshIssuesSearch("4050")).hasSize(500);
+
+                verify(comicVineMirror, timeout(10_000))
+                        .storeVolumeIssues(eq(4050L), argThat(stored -> stored.size() == TOTAL_ISSUES));
+                verify(cacheManager, timeout(1_000)).putAll(eq("comic-vine-volume-issues"),
+                        argThat(cached -> ((List<?>) cached.get("4050")).size() == TOTAL_ISSUES));
+                assertThat(requestedOffsets).containsExactlyInAnyOrder(0, 100, 200, 300, 400, 500, 600, 700, 800);
+            } finally {
+                service.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should cache a series' merged issues only once every volume came back whole")
+        void shouldCacheOnlyCompleteSeriesListings() {
+            Cache seriesIssues = mock(Cache.class);
+            when(cacheManager.getCache("comic-vine-issues")).thenReturn(seriesIssues);
+            Series series = new Series();
+            series.setComicVineIds(List.of("4050"));
+            failingOffsets.add(400);
+
+            assertThat(service(4).searchIssues(series)).hasSize(400);
+            verify(seriesIssues, never()).put(any(), any());
+
+            failingOffsets.clear();
+
+            assertThat(service(4).searchIssues(series)).hasSize(TOTAL_ISSUES);
+            verify(seriesIssues).put(eq(List.of("4050")), argThat(cached -> ((List<?>) cached).size() == TOTAL_ISSUES));
+        }
+
+        private long timeRefresh(ComicVineService service) {
+            long start = System.nanoTime();
+            assertThat(service.refreshIssuesSearch("4050")).hasSize(TOTAL_ISSUES);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+
+        private String issuesPage(int offset, int limit) {
+            ObjectNode root = objectMapper.createObjectNode();
+            root.put("number_of_total_results", TOTAL_ISSUES);
+            ArrayNode results = root.putArray("results");
+            for (int id = offset; id < Math.min(offset + limit, TOTAL_ISSUES); id++) {
+                results.addObject()
+                        .put("id", id)
+                        .put("issue_number", String.valueOf(id + 1));
+            }
+            return root.toString();
+        }
+    }
+
+    @Nested
+    @DisplayName("Local mirror")
+    class MirrorTests {
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, String> bodies = new HashMap<>();
+        private final Set<String> notFound = new HashSet<>();
+
+        private HttpServer server;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                String filter = "";
+                for (String param : exchange.getRequestURI().getQuery().split("&")) {
+                    if (param.startsWith("filter=")) {
+                        filter = URLDecoder.decode(param.substring("filter=".length()), StandardCharsets.UTF_8);
+                    }
+                }
+                requests.add(path + "?" + filter);
+
+                String body = bodies.get(path);
+                if (body == null) {
+                    exchange.sendResponseHeaders(notFound.contains(path) ? 404 : 500, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("Should answer lookups from the mirror without calling Comic Vine")
+        void shouldServeMirroredLookups() {
+            ComicVineService.ComicVineIssueDto issue = new ComicVineService.ComicVineIssueDto();
+            issue.setId("7");
+            ComicVineService.ComicVineSeriesDto volume = new ComicVineService.ComicVineSeriesDto();
+            volume.setId("1");
+            when(comicVineMirror.findIssue(7L)).thenReturn(Optional.of(issue));
+            when(comicVineMirror.findVolume(1L)).thenReturn(Optional.of(volume));
+
+            ComicVineService service = service(4);
+
+            assertThat(service.getComicVineIssueById(7L)).isSameAs(issue);
+            assertThat(service.getComicVineSeriesById(1L)).isSameAs(volume);
+            verifyNoInteractions(webClient);
+        }
+
+        @Test
+        @DisplayName("Should not ask Comic Vine again for an id it recently reported missing")
+        void shouldSkipRecentlyMissing() {
+            when(notFoundCache.isMissing("comic-vine-issue", 7L)).thenReturn(true);
+
+            assertThat(service(4).getComicVineIssueById(7L)).isNull();
+            verifyNoInteractions(webClient);
+        }
+
+        @Test
+        @DisplayName("Should remember an id Comic Vine answers with not found")
+        void shouldRecordNotFound() {
+            when(webClient.comicVineClient()).thenReturn(client());
+            notFound.add("/volume/4050-9/");
+
+            assertThat(service(4).getComicVineSeriesById(9L)).isNull();
+            verify(notFoundCache).recordMissing("comic-vine-volume", 9L);
+        }
+
+        @Test
+        @DisplayName("Should fall through to Comic Vine and store the result on a mirror miss")
+        void shouldStoreMissedLookups() {
+            when(webClient.comicVineClient()).thenReturn(client());
+            bodies.put("/volume/4050-1/", "{\"results\":{\"id\":1,\"name\":\"Saga\"}}");
+
+            ComicVineService.ComicVineSeriesDto volume = service(4).getComicVineSeriesById(1L);
+
+            assertThat(volume.getName()).isEqualTo("Saga");
+            verify(comicVineMirror).storeVolumes(argThat(stored -> stored.size() == 1));
+        }
+
+        @Test
+        @DisplayName("Should store an issue fetched from the detail call as a detail, variants included")
+        void shouldStoreIssueDetail() {
+            when(webClient.comicVineClient()).thenReturn(client());
+            bodies.put("/issue/4000-7/", "{\"results\":{\"id\":7,\"volume\":{\"id\":1},"
+                    + "\"associated_images\":[{\"id\":70,\"original_url\":\"https://example.test/70.jpg\"}]}}");
+
+            ComicVineService.ComicVineIssueDto issue = service(4).getComicVineIssueById(7L);
+
+            assertThat(issue.getVariants()).hasSize(1);
+            verify(comicVineMirror).storeIssueDetails(argThat(stored -> stored.size() == 1
+                    && stored.iterator().next().issue().getVariants().size() == 1));
+            verify(comicVineMirror, never()).storeIssues(any());
+        }
+
+        @Test
+        @DisplayName("Should ask Comic Vine only for what changed since the last refresh")
+        void shouldRefreshOnlyChangedRecords() {
+            when(webClient.comicVineClient()).thenReturn(client());
+            LocalDateTime lastRefresh = LocalDateTime.of(2026, 3, 10, 1, 0);
+            when(comicVineMirror.getVolumes()).thenReturn(List.of(
+                    volume(1L, lastRefresh, true),
+                    volume(2L, lastRefresh.plusDays(3), false)));
+            bodies.put("/volumes/", "{\"number_of_total_results\":1,\"results\":[{\"id\":1,\"name\":\"Saga\"}]}");
+            bodies.put("/issues/", "{\"number_of_total_results\":1,\"results\":[{\"id\":7,\"volume\":{\"id\":1}}]}");
+
+            ComicVineService.MirrorRefreshReport report = service(4).refreshMirror();
+
+            assertThat(report).isEqualTo(new ComicVineService.MirrorRefreshReport(2, 1, 1, 0));
+            assertThat(requests).hasSize(2);
+            assertThat(requests.get(0)).startsWith("/volumes/?id:1|2,date_last_updated:2026-03-09 01:00:00|");
+            assertThat(requests.get(1)).startsWith("/issues/?volume:1,date_last_updated:2026-03-09 01:00:00|");
+            verify(comicVineMirror).storeVolumes(argThat(stored -> stored.size() == 1));
+            verify(comicVineMirror).storeChangedIssues(argThat(stored -> stored.size() == 1
+                    && stored.iterator().next().volumeId() == 1L));
+            verify(comicVineMirror).markRefreshed(eq(List.of(1L, 2L)), any());
+        }
+
+        @Test
+        @DisplayName("Should leave a batch to the next refresh when Comic Vine fails")
+        void shouldNotAdvancePastFailedBatch() {
+            when(webClient.comicVineClient()).thenReturn(client());
+            when(comicVineMirror.getVolumes()).thenReturn(List.of(volume(1L, LocalDateTime.now(), true)));
+
+            ComicVineService.MirrorRefreshReport report = service(4).refreshMirror();
+
+            assertThat(report.failedBatches()).isEqualTo(1);
+            verify(comicVineMirror, never()).markRefreshed(any(), any());
+        }
+
+        private WebClient client() {
+            return WebClient.create("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        private ComicVineVolume volume(Long id, LocalDateTime refreshedAt, boolean issuesMirrored) {
+            ComicVineVolume volume = new ComicVineVolume(id);
+            volume.setRefreshedAt(refreshedAt);
+            volume.setIssuesSyncedAt(issuesMirrored ? refreshedAt : null);
+            return volume;
+        }
+    }
+
+    /**
+     * A loopback {@code /issues/} endpoint that answers an {@code id} filter with those issues,
+     * except ids at or above {@link #UNKNOWN_FROM}, which Comic Vine wouldn't know.
+     */
+    @Nested
+    @DisplayName("Batch issue lookups")
+    class BatchLookupTests {
+        private static final long UNKNOWN_FROM = 1_000;
+
+        private final List<List<Long>> requestedIds = Collections.synchronizedList(new ArrayList<>());
+
+        private HttpServer server;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/issues/", exchange -> {
+                List<Long> ids = new ArrayList<>();
+                for (String param : exchange.getRequestURI().getQuery().split("&")) {
+                    if (param.startsWith("filter=")) {
+                        String filter = URLDecoder.decode(param.substring("filter=".length()), StandardCharsets.UTF_8);
+                        Arrays.stream(filter.substring("id:".length()).split("\\|")).map(Long::valueOf).forEach(ids::add);
+                    }
+                }
+                requestedIds.add(ids);
+
+                ObjectNode root = objectMapper.createObjectNode();
+                ArrayNode results = root.putArray("results");
+                ids.stream().filter(id -> id < UNKNOWN_FROM).forEach(id -> results.addObject()
+                        .put("id", id)
+                        .put("issue_number", String.valueOf(id))
+                        .putObject("volume").put("id", 4050));
+                root.put("number_of_total_results", results.size());
+
+                byte[] body = root.toString().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop(0);
+        }
+
+        @Test
+        @DisplayName("Should fetch only cache and mirror misses, at most 100 ids to a call")
+        void shouldFetchMissesInChunks() {
+            when(webClient.comicVineClient())
+                    .thenReturn(WebClient.create("http://127.0.0.1:" + server.getAddress().getPort()));
+            ComicVineService.ComicVineIssueDto cached = issue(1);
+            ComicVineService.ComicVineIssueDto mirrored = issue(2);
+            when(cacheManager.getAll(eq("comic_vine_issues"), any())).thenReturn(Map.of(1L, cached));
+            when(comicVineMirror.findIssues(any())).thenReturn(Map.of(2L, mirrored));
+
+            List<String> ids = new ArrayList<>(LongStream.rangeClosed(1, 152).mapToObj(String::valueOf).toList());
+            ids.add(String.valueOf(UNKNOWN_FROM));
+            ids.add("not-an-id");
+
+            Map<String, ComicVineService.ComicVineIssueDto> issues = service(4).getComicVineIssuesByIds(ids);
+
+            assertThat(issues).hasSize(152).containsEntry("1", cached).containsEntry("2", mirrored);
+            assertThat(issues.keySet()).containsExactlyElementsOf(ids.subList(0, 152));
+            assertThat(requestedIds).hasSize(2);
+            assertThat(requestedIds.get(0)).hasSize(100).startsWith(3L);
+            assertThat(requestedIds.get(1)).hasSize(51).endsWith(UNKNOWN_FROM);
+            verify(comicVineMirror, times(2)).storeIssues(any());
+            verify(cacheManager).putAll("comic_vine_issues", Map.of(2L, mirrored));
+            verify(notFoundCache).recordMissing("comic-vine-issue", List.of(UNKNOWN_FROM));
+        }
+
+        @Test
+        @DisplayName("Should make no call when every id is already known")
+        void shouldNotCallWhenAllKnown() {
+            when(cacheManager.getAll(eq("comic_vine_issues"), any())).thenReturn(Map.of(1L, issue(1)));
+            when(comicVineMirror.findIssues(any())).thenReturn(Map.of(2L, issue(2)));
+
+            assertThat(service(4).getComicVineIssuesByIds(List.of("1", "2"))).containsOnlyKeys("1", "2");
+            verifyNoInteractions(webClient);
+        }
+
+        private ComicVineService.ComicVineIssueDto issue(long id) {
+            ComicVineService.ComicVineIssueDto issue = new ComicVineService.ComicVineIssueDto();
+            issue.setId(String.valueOf(id));
+            return issue;
+        }
+    }
+
+    private ComicVineService service(int pageParallelism) {
+        InfernoComicsConfig config = new InfernoComicsConfig();
+        config.setComicVinePageParallelism(pageParallelism);
+        // Generous enough that only the page parallelism shapes the timings
+        config.setComicVineRequestsPerHour(3_600_000);
+        config.setComicVineBurst(20);
+        return service(config, new SimpleMeterRegistry());
+    }
+
+    private ComicVineService service(InfernoComicsConfig config, SimpleMeterRegistry meterRegistry) {
+        config.setComicVineAPIKey("test-key");
+        ComicVineRequestScheduler scheduler = new ComicVineRequestScheduler(config, meterRegistry);
+        return new ComicVineService(config, redisJsonService, webClient, redisKeyIndex, cacheManager, scheduler, comicVineMirror,
+                notFoundCache, new UpstreamCircuitBreakers(new SimpleMeterRegistry()));
+    }
+}
@@ -1,28 +1,44 @@
 package com.infernokun.infernoComics.services;
 
 import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
+import com.infernokun.infernoComics.config.CacheDependencyIndex;
 import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.config.RedisConfig;
+import com.infernokun.infernoComics.config.TwoTierCacheManager;
 import com.infernokun.infernoComics.models.DescriptionGenerated;
 import com.infernokun.infernoComics.models.Issue;
 import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.GroupCount;
 import com.infernokun.infernoComics.models.dto.IssueRequest;
+import com.infernokun.infernoComics.models.dto.IssueSummary;
+import com.infernokun.infernoComics.models.dto.IssueTotals;
 import com.infernokun.infernoComics.models.enums.Condition;
 import com.infernokun.infernoComics.repositories.IssueRepository;
 import com.infernokun.infernoComics.repositories.MissingIssueRepository;
+import com.infernokun.infernoComics.repositories.ProgressDataRepository;
 import com.infernokun.infernoComics.repositories.SeriesRepository;
 import com.infernokun.infernoComics.services.gcd.GCDatabaseService;
+import com.infernokun.infernoComics.utils.CacheConstants;
+import com.infernokun.infernoComics.utils.IssueSortKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -55,7 +71,7 @@ public class IssueServiceTest {
     private GCDatabaseService gcDatabaseService;
 
     @Mock
-    private CacheManager cacheManager;
+    private TwoTierCacheManager cacheManager;
 
     @Mock
     private RecognitionService recognitionService;
@@ -69,6 +85,12 @@ public class IssueServiceTest {
     @Mock
     private MissingIssueRepository missingIssueRepository;
 
+    @Mock
+    private ProgressDataRepository progressDataRepository;
+
+    @Mock
+    private CollectionCounterService collectionCounterService;
+
     @BeforeEach
     void setUp() {
         issueService = new IssueService(
@@ -76,10 +98,12 @@ public class IssueServiceTest {
                 issueRepository,
                 seriesRepository,
                 missingIssueRepository,
+                progressDataRepository,
                 comicVineService,
                 gcDatabaseService,
                 recognitionService,
                 descriptionGeneratorService,
+                collectionCounterService,
                 cacheManager,
                 webClient
         );
@@ -115,6 +139,10 @@ public class IssueServiceTest {
         return issue;
     }
 
+    private IssueSummary createTestSummary(Long id, String issueNumber) {
+        return new IssueSummary(id, issueNumber, "Test Issue " + issueNumber, null, null, null, false, false, false, 1L);
+    }
+
     @Nested
     @DisplayName("getAllIssues Tests")
     class GetAllIssuesTests {
@@ -122,40 +150,32 @@ public class IssueServiceTest {
         @Test
         @DisplayName("Should return cached issues when available")
         void shouldReturnCachedIssues() {
-            Series series = createTestSeries();
-            List<Issue> cachedIssues = List.of(
-                    createTestIssue(1L, "1", series),
-                    createTestIssue(2L, "2", series)
-            );
+            List<IssueSummary> cachedIssues = List.of(createTestSummary(1L, "1"), createTestSummary(2L, "2"));
 
             Cache.ValueWrapper wrapper = mock(Cache.ValueWrapper.class);
             when(wrapper.get()).thenReturn(cachedIssues);
             when(cacheManager.getCache("issue-list")).thenReturn(cache);
             when(cache.get("all-issues-list")).thenReturn(wrapper);
 
-            List<Issue> result = issueService.getAllIssues();
+            List<IssueSummary> result = issueService.getAllIssues();
 
             assertThat(result).hasSize(2);
-            verify(issueRepository, never()).findAll();
+            verify(issueRepository, never()).findAllSummaries();
         }
 
         @Test
-        @DisplayName("Should fetch from repository when cache is empty")
+        @DisplayName("Should fetch summaries from repository when cache is empty, never the full entities")
         void shouldFetchFromRepositoryWhenCacheEmpty() {
-            Series series = createTestSeries();
-            List<Issue> issues = List.of(
-                    createTestIssue(1L, "1", series),
-                    createTestIssue(2L, "2", series)
-            );
+            List<IssueSummary> issues = List.of(createTestSummary(1L, "1"), createTestSummary(2L, "2"));
 
             when(cacheManager.getCache("issue-list")).thenReturn(cache);
             when(cache.get("all-issues-list")).thenReturn(null);
-            when(issueRepository.findAll()).thenReturn(issues);
+            when(issueRepository.findAllSummaries()).thenReturn(issues);
 
-            List<Issue> result = issueService.getAllIssues();
+            List<IssueSummary> result = issueService.getAllIssues();
 
             assertThat(result).hasSize(2);
-            verify(issueRepository).findAll();
+            verify(issueRepository, never()).findAll();
             verify(cache).put("all-issues-list", issues);
         }
     }
@@ -194,17 +214,25 @@ public class IssueServiceTest {
     @DisplayName("getIssuesBySeriesId Tests")
     class GetIssuesBySeriesIdTests {
 
+        // Mirrors the repository's ORDER BY issue_sort_key, id
+        private List<Issue> inSortKeyOrder(List<Issue> issues) {
+            return issues.stream()
+                    .sorted(Comparator.comparing((Issue issue) -> IssueSortKey.of(issue.getIssueNumber()))
+                            .thenComparing(Issue::getId))
+                    .toList();
+        }
+
         @Test
         @DisplayName("Should return sorted issues for series")
         void shouldReturnSortedIssues() {
             Series series = createTestSeries();
-            List<Issue> issues = new ArrayList<>(List.of(
+            List<Issue> issues = List.of(
                     createTestIssue(3L, "10", series),
                     createTestIssue(1L, "1", series),
                     createTestIssue(2L, "2", series)
-            ));
+            );
 
-            when(issueRepository.findBySeriesIdOrderByIssueNumberAsc(1L)).thenReturn(issues);
+            when(issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(1L)).thenReturn(inSortKeyOrder(issues));
 
             List<Issue> result = issueService.getIssuesBySeriesId(1L);
 
@@ -218,13 +246,13 @@ public class IssueServiceTest {
         @DisplayName("Should handle decimal issue numbers")
         void shouldHandleDecimalIssueNumbers() {
             Series series = createTestSeries();
-            List<Issue> issues = new ArrayList<>(List.of(
-                    createTestIssue(1L, "1", series),
+            List<Issue> issues = List.of(
+                    createTestIssue(3L, "2", series),
                     createTestIssue(2L, "1.5", series),
-                    createTestIssue(3L, "2", series)
-            ));
+                    createTestIssue(1L, "1", series)
+            );
 
-            when(issueRepository.findBySeriesIdOrderByIssueNumberAsc(1L)).thenReturn(issues);
+            when(issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(1L)).thenReturn(inSortKeyOrder(issues));
 
             List<Issue> result = issueService.getIssuesBySeriesId(1L);
 
@@ -237,14 +265,14 @@ public class IssueServiceTest {
         @DisplayName("Should handle variant suffixes in issue numbers")
         void shouldHandleVariantSuffixes() {
             Series series = createTestSeries();
-            List<Issue> issues = new ArrayList<>(List.of(
-                    createTestIssue(1L, "1", series),
-                    createTestIssue(2L, "1A", series),
+            List<Issue> issues = List.of(
+                    createTestIssue(4L, "2", series),
                     createTestIssue(3L, "1B", series),
-                    createTestIssue(4L, "2", series)
-            ));
+                    createTestIssue(1L, "1", series),
+                    createTestIssue(2L, "1A", series)
+            );
 
-            when(issueRepository.findBySeriesIdOrderByIssueNumberAsc(1L)).thenReturn(issues);
+            when(issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(1L)).thenReturn(inSortKeyOrder(issues));
 
             List<Issue> result = issueService.getIssuesBySeriesId(1L);
 
@@ -254,10 +282,45 @@ public class IssueServiceTest {
             assertThat(result.get(3).getIssueNumber()).isEqualTo("2");
         }
 
+        @Test
+        @DisplayName("Should place annuals and specials after regular issues")
+        void shouldPlaceAnnualsAfterRegularIssues() {
+            Series series = createTestSeries();
+            List<Issue> issues = List.of(
+                    createTestIssue(1L, "Special 1", series),
+                    createTestIssue(2L, "Annual 2", series),
+                    createTestIssue(3L, "Annual 1", series),
+                    createTestIssue(4L, "12", series)
+            );
+
+            when(issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(1L)).thenReturn(inSortKeyOrder(issues));
+
+            List<Issue> result = issueService.getIssuesBySeriesId(1L);
+
+            assertThat(result).extracting(Issue::getIssueNumber)
+                    .containsExactly("12", "Annual 1", "Annual 2", "Special 1");
+        }
+
+        @Test
+        @DisplayName("Should return repository order without re-sorting")
+        void shouldNotResortRepositoryResults() {
+            Series series = createTestSeries();
+            List<Issue> issues = List.of(
+                    createTestIssue(2L, "2", series),
+                    createTestIssue(1L, "1", series)
+            );
+
+            when(issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(1L)).thenReturn(issues);
+
+            List<Issue> result = issueService.getIssuesBySeriesId(1L);
+
+            assertThat(result).isSameAs(issues);
+        }
+
         @Test
         @DisplayName("Should return empty list on exception")
         void shouldReturnEmptyListOnException() {
-            when(issueRepository.findBySeriesIdOrderByIssueNumberAsc(1L))
+            when(issueRepository.findBySeriesIdOrderByIssueSortKeyAscIdAsc(1L))
                     .thenThrow(new RuntimeException("Database error"));
 
             List<Issue> result = issueService.getIssuesBySeriesId(1L);
@@ -273,16 +336,14 @@ public class IssueServiceTest {
         @Test
         @DisplayName("Should return only key issues")
         void shouldReturnKeyIssues() {
-            Series series = createTestSeries();
-            Issue keyIssue = createTestIssue(1L, "1", series);
-            keyIssue.setKeyIssue(true);
+            IssueSummary keyIssue = new IssueSummary(1L, "1", "Test Issue 1", null, null, null, true, false, false, 1L);
 
-            when(issueRepository.findKeyIssues()).thenReturn(List.of(keyIssue));
+            when(issueRepository.findKeyIssueSummaries()).thenReturn(List.of(keyIssue));
 
-            List<Issue> result = issueService.getKeyIssues();
+            List<IssueSummary> result = issueService.getKeyIssues();
 
             assertThat(result).hasSize(1);
-            assertThat(result.getFirst().getKeyIssue()).isTrue();
+            assertThat(result.getFirst().keyIssue()).isTrue();
         }
     }
 
@@ -291,19 +352,19 @@ public class IssueServiceTest {
     class GetVariantIssuesTests {
 
         @Test
-        @DisplayName("Should return only variant issues")
+        @DisplayName("Should return variant issues from the variant query")
         void shouldReturnVariantIssues() {
             Series series = createTestSeries();
-            Issue regularIssue = createTestIssue(1L, "1", series);
             Issue variantIssue = createTestIssue(2L, "1", series);
             variantIssue.setVariant(true);
 
-            when(issueRepository.findAll()).thenReturn(List.of(regularIssue, variantIssue));
+            when(issueRepository.findVariantIssues()).thenReturn(List.of(variantIssue));
 
             List<Issue> result = issueService.getVariantIssues();
 
             assertThat(result).hasSize(1);
             assertThat(result.getFirst().getVariant()).isTrue();
+            verify(issueRepository, never()).findAll();
         }
     }
 
@@ -312,25 +373,29 @@ public class IssueServiceTest {
     class GetRecentIssuesTests {
 
         @Test
-        @DisplayName("Should return limited recent issues sorted by creation date")
+        @DisplayName("Should push the limit down to the recent issues query")
         void shouldReturnLimitedRecentIssues() {
             Series series = createTestSeries();
-            Issue older = createTestIssue(1L, "1", series);
-            older.setCreatedAt(LocalDateTime.now().minusDays(2));
-
             Issue newer = createTestIssue(2L, "2", series);
-            newer.setCreatedAt(LocalDateTime.now().minusDays(1));
-
             Issue newest = createTestIssue(3L, "3", series);
-            newest.setCreatedAt(LocalDateTime.now());
 
-            when(issueRepository.findAll()).thenReturn(List.of(older, newer, newest));
+            when(issueRepository.findRecentIssues(PageRequest.of(0, 2))).thenReturn(List.of(newest, newer));
 
             List<Issue> result = issueService.getRecentIssues(2);
 
             assertThat(result).hasSize(2);
             assertThat(result.getFirst().getId()).isEqualTo(3L);
             assertThat(result.get(1).getId()).isEqualTo(2L);
+            verify(issueRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Should return empty list without querying for a non-positive limit")
+        void shouldReturnEmptyForNonPositiveLimit() {
+            List<Issue> result = issueService.getRecentIssues(0);
+
+            assertThat(result).isEmpty();
+            verifyNoInteractions(issueRepository);
         }
     }
 
@@ -339,60 +404,69 @@ public class IssueServiceTest {
     class SearchIssuesTests {
 
         @Test
-        @DisplayName("Should search by title")
-        void shouldSearchByTitle() {
+        @DisplayName("Should push a lower-cased contains pattern to the ranked query")
+        void shouldSearchWithLowerCasedPattern() {
             Series series = createTestSeries();
             Issue issue = createTestIssue(1L, "1", series);
             issue.setTitle("Amazing Fantasy");
 
-            when(issueRepository.findAll()).thenReturn(List.of(issue));
-
-            List<Issue> result = issueService.searchIssues("Fantasy", 10);
-
-            assertThat(result).hasSize(1);
-        }
-
-        @Test
-        @DisplayName("Should search by series name")
-        void shouldSearchBySeriesName() {
-            Series series = createTestSeries();
-            Issue issue = createTestIssue(1L, "1", series);
+            when(issueRepository.searchRanked("%fantasy%", "fantasy", PageRequest.of(0, 10)))
+                    .thenReturn(List.of(issue));
 
-            when(issueRepository.findAll()).thenReturn(List.of(issue));
+            List<Issue> result = issueService.searchIssues("  Fantasy ", 10);
 
-            List<Issue> result = issueService.searchIssues("Spider", 10);
-
-            assertThat(result).hasSize(1);
+            assertThat(result).containsExactly(issue);
+            verify(issueRepository, never()).findAll();
         }
 
         @Test
-        @DisplayName("Should search by issue number")
-        void shouldSearchByIssueNumber() {
-            Series series = createTestSeries();
-            Issue issue = createTestIssue(1L, "129", series);
-
-            when(issueRepository.findAll()).thenReturn(List.of(issue));
+        @DisplayName("Should escape LIKE wildcards in the query")
+        void shouldEscapeWildcards() {
+            when(issueRepository.searchRanked("%100!% !_x%", "100% _x", PageRequest.of(0, 10)))
+                    .thenReturn(List.of());
 
-            List<Issue> result = issueService.searchIssues("129", 10);
+            List<Issue> result = issueService.searchIssues("100% _x", 10);
 
-            assertThat(result).hasSize(1);
+            assertThat(result).isEmpty();
         }
 
         @Test
-        @DisplayName("Should respect limit parameter")
+        @DisplayName("Should apply the limit in the database")
         void shouldRespectLimit() {
             Series series = createTestSeries();
             List<Issue> issues = new ArrayList<>();
-            for (int i = 1; i <= 10; i++) {
+            for (int i = 1; i <= 5; i++) {
                 issues.add(createTestIssue((long) i, String.valueOf(i), series));
             }
 
-            when(issueRepository.findAll()).thenReturn(issues);
+            when(issueRepository.searchRanked("%spider%", "spider", PageRequest.of(0, 5))).thenReturn(issues);
 
             List<Issue> result = issueService.searchIssues("Spider", 5);
 
             assertThat(result).hasSize(5);
         }
+
+        @Test
+        @DisplayName("Should not query for a blank search")
+        void shouldSkipBlankQuery() {
+            List<Issue> result = issueService.searchIssues("   ", 10);
+
+            assertThat(result).isEmpty();
+            verifyNoInteractions(issueRepository);
+        }
+
+        @Test
+        @DisplayName("Should build the cache key for a null query instead of failing before the guard")
+        void shouldKeyNullQuery() throws NoSuchMethodException {
+            String key = IssueService.class.getMethod("searchIssues", String.class, int.class)
+                    .getAnnotation(Cacheable.class).key();
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            context.setVariable("query", null);
+            context.setVariable("limit", 10);
+
+            assertThat(new SpelExpressionParser().parseExpression(key).getValue(context)).isEqualTo(":10");
+            assertThat(issueService.searchIssues(null, 10)).isEmpty();
+        }
     }
 
     @Nested
@@ -402,20 +476,10 @@ public class IssueServiceTest {
         @Test
         @DisplayName("Should calculate correct statistics")
         void shouldCalculateCorrectStats() {
-            Series series = createTestSeries();
-
-            Issue keyIssue = createTestIssue(1L, "1", series);
-            keyIssue.setKeyIssue(true);
-            keyIssue.setCurrentValue(BigDecimal.valueOf(100.00));
-
-            Issue variantIssue = createTestIssue(2L, "2", series);
-            variantIssue.setVariant(true);
-            variantIssue.setCurrentValue(BigDecimal.valueOf(50.00));
-
-            Issue regularIssue = createTestIssue(3L, "3", series);
-            regularIssue.setCurrentValue(BigDecimal.valueOf(25.00));
-
-            when(issueRepository.findAll()).thenReturn(List.of(keyIssue, variantIssue, regularIssue));
+            when(issueRepository.aggregateTotals())
+                    .thenReturn(new IssueTotals(3L, 1L, 1L, BigDecimal.valueOf(175.00)));
+            when(issueRepository.countByCondition()).thenReturn(List.of());
+            when(issueRepository.countBySeriesName()).thenReturn(List.of(new GroupCount<>("Test Series", 3L)));
 
             Map<String, Object> stats = issueService.getIssueStats();
 
@@ -423,20 +487,17 @@ public class IssueServiceTest {
             assertThat(stats.get("keyIssues")).isEqualTo(1L);
             assertThat(stats.get("variantIssues")).isEqualTo(1L);
             assertThat(stats.get("totalCollectionValue")).isEqualTo(175.0);
+            assertThat(stats.get("seriesBreakdown")).isEqualTo(Map.of("Test Series", 3L));
         }
 
         @Test
         @DisplayName("Should handle condition breakdown")
         void shouldHandleConditionBreakdown() {
-            Series series = createTestSeries();
-
-            Issue nmIssue = createTestIssue(1L, "1", series);
-            nmIssue.setCondition(Condition.NEAR_MINT);
-
-            Issue vfIssue = createTestIssue(2L, "2", series);
-            vfIssue.setCondition(Condition.VERY_FINE);
-
-            when(issueRepository.findAll()).thenReturn(List.of(nmIssue, vfIssue));
+            when(issueRepository.aggregateTotals()).thenReturn(new IssueTotals(2L, 0L, 0L, null));
+            when(issueRepository.countByCondition()).thenReturn(List.of(
+                    new GroupCount<>(Condition.NEAR_MINT, 1L),
+                    new GroupCount<>(Condition.VERY_FINE, 1L)));
+            when(issueRepository.countBySeriesName()).thenReturn(List.of());
 
             Map<String, Object> stats = issueService.getIssueStats();
 
@@ -445,6 +506,43 @@ public class IssueServiceTest {
 
             assertThat(conditionBreakdown).containsEntry("NEAR_MINT", 1L);
             assertThat(conditionBreakdown).containsEntry("VERY_FINE", 1L);
+            assertThat(stats.get("totalCollectionValue")).isEqualTo(0.0);
+        }
+
+        @ParameterizedTest(name = "{0} issues")
+        @ValueSource(longs = {0, 10, 1_000_000})
+        @DisplayName("Should use the same three aggregate queries whatever the collection size")
+        void shouldUseFixedQueriesRegardlessOfSize(long issueCount) {
+            when(issueRepository.aggregateTotals())
+                    .thenReturn(new IssueTotals(issueCount, issueCount / 10, issueCount / 5, BigDecimal.valueOf(issueCount)));
+            when(issueRepository.countByCondition())
+                    .thenReturn(List.of(new GroupCount<>(Condition.FAIR, issueCount)));
+            when(issueRepository.countBySeriesName())
+                    .thenReturn(List.of(new GroupCount<>("Test Series", issueCount)));
+
+            Map<String, Object> stats = issueService.getIssueStats();
+
+            assertThat(stats.get("totalIssues")).isEqualTo(issueCount);
+            verify(issueRepository).aggregateTotals();
+            verify(issueRepository).countByCondition();
+            verify(issueRepository).countBySeriesName();
+            verifyNoMoreInteractions(issueRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Total value Tests")
+    class TotalValueTests {
+
+        @Test
+        @DisplayName("Should sum values in the database")
+        void shouldSumInDatabase() {
+            when(issueRepository.sumCurrentValue()).thenReturn(BigDecimal.valueOf(42.50));
+            when(issueRepository.sumPurchasePrice()).thenReturn(null);
+
+            assertThat(issueService.getTotalCurrentValue()).isEqualByComparingTo("42.50");
+            assertThat(issueService.getTotalPurchasePrice()).isEqualByComparingTo("0");
+            verify(issueRepository, never()).findAll();
         }
     }
 
@@ -529,6 +627,78 @@ public class IssueServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("dependency-tracked eviction Tests")
+    class DependencyTrackedEvictionTests {
+
+        // Keeps the tag sets in memory; tracking counts as already started
+        private final Map<String, Set<String>> tagSets = new HashMap<>();
+
+        private final CacheDependencyIndex dependencyIndex = new CacheDependencyIndex(null, Duration.ofDays(1)) {
+            @Override
+            public void record(String cacheName, String key, Collection<String> tags) {
+                tags.forEach(tag -> tagSets.computeIfAbsent(tag, t -> new HashSet<>()).add(cacheName + "\u001F" + key));
+            }
+
+            @Override
+            public Map<String, Set<String>> drain(Collection<String> tags) {
+                Map<String, Set<String>> dependents = new HashMap<>();
+                tags.forEach(tag -> Optional.ofNullable(tagSets.remove(tag)).orElse(Set.of()).forEach(member -> {
+                    String[] parts = member.split("\u001F", 2);
+                    dependents.computeIfAbsent(parts[0], name -> new HashSet<>()).add(parts[1]);
+                }));
+                return dependents;
+            }
+
+            @Override
+            public boolean claimTrackingStart() {
+                return false;
+            }
+        };
+
+        private TwoTierCacheManager trackingCacheManager() {
+            TwoTierCacheManager manager = new TwoTierCacheManager(new ConcurrentMapCacheManager(), Map.of(), Map.of(),
+                    null, Runnable::run);
+            manager.setDependencyTracking(dependencyIndex, RedisConfig.cacheDependencyTaggers());
+            return manager;
+        }
+
+        @Test
+        @DisplayName("Should not evict another series' cached issues when an issue is added")
+        void shouldOnlyEvictEntriesOfTheChangedSeries() {
+            TwoTierCacheManager manager = trackingCacheManager();
+            IssueService service = new IssueService(infernoComicsConfig, issueRepository, seriesRepository,
+                    missingIssueRepository, progressDataRepository, comicVineService, gcDatabaseService,
+                    recognitionService, descriptionGeneratorService, collectionCounterService, manager, webClient);
+
+            // Redis caches key entries by the key's string form, so the seeded keys are strings here
+            Cache issuesBySeries = manager.getCache(CacheConstants.CacheNames.ISSUES_BY_SERIES);
+            Cache seriesCache = manager.getCache(CacheConstants.CacheNames.SERIES);
+            issuesBySeries.put("1", new ArrayList<>(List.of("series 1 issues")));
+            issuesBySeries.put("2", new ArrayList<>(List.of("series 2 issues")));
+            seriesCache.put("1", "series 1");
+            seriesCache.put("2", "series 2");
+
+            Series series = createTestSeries();
+            IssueRequest request = mock(IssueRequest.class);
+            when(request.getSeriesId()).thenReturn(series.getId());
+            when(request.getIssueNumber()).thenReturn("1");
+            when(request.getTitle()).thenReturn("Spider-Man");
+            when(seriesRepository.findById(1L)).thenReturn(Optional.of(series));
+            when(issueRepository.findByUploadedImageUrl(any())).thenReturn(Optional.empty());
+            when(issueRepository.save(any(Issue.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(issueRepository.countBySeriesId(1L)).thenReturn(1);
+
+            service.createIssue(request);
+
+            assertThat(issuesBySeries.get("1")).isNull();
+            assertThat(seriesCache.get("1")).isNull();
+
+            assertThat(issuesBySeries.get("2")).isNotNull();
+            assertThat(seriesCache.get("2")).isNotNull();
+        }
+    }
+
     @Nested
     @DisplayName("createIssuesBulk Tests")
     class CreateIssuesBulkTests {
@@ -691,8 +861,7 @@ public class IssueServiceTest {
             Issue issue2 = createTestIssue(2L, "2", series);
 
             when(issueRepository.findById(1L)).thenReturn(Optional.of(issue1));
-            when(issueRepository.existsById(1L)).thenReturn(true);
-            when(issueRepository.existsById(2L)).thenReturn(true);
+            when(issueRepository.findById(2L)).thenReturn(Optional.of(issue2));
             when(issueRepository.countBySeriesId(1L)).thenReturn(0);
             setupCacheMocks();
 
@@ -701,6 +870,8 @@ public class IssueServiceTest {
             assertThat(result.successful()).isEqualTo(2);
             assertThat(result.failed()).isEqualTo(0);
             verify(issueRepository, times(2)).deleteById(anyLong());
+            verify(collectionCounterService).issueRemoved(issue1);
+            verify(collectionCounterService).issueRemoved(issue2);
         }
 
         @Test
@@ -710,8 +881,7 @@ public class IssueServiceTest {
             Issue issue1 = createTestIssue(1L, "1", series);
 
             when(issueRepository.findById(1L)).thenReturn(Optional.of(issue1));
-            when(issueRepository.existsById(1L)).thenReturn(true);
-            when(issueRepository.existsById(2L)).thenReturn(false);
+            when(issueRepository.findById(2L)).thenReturn(Optional.empty());
             when(issueRepository.countBySeriesId(1L)).thenReturn(0);
             setupCacheMocks();
 
@@ -2,19 +2,50 @@ package com.infernokun.infernoComics.services;
 
 import com.infernokun.infernoComics.clients.InfernoComicsWebClient;
 import com.infernokun.infernoComics.config.InfernoComicsConfig;
+import com.infernokun.infernoComics.models.Series;
+import com.infernokun.infernoComics.models.dto.CursorPage;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.SeriesSearchCriteria;
+import com.infernokun.infernoComics.models.dto.SeriesSearchResult;
+import com.infernokun.infernoComics.models.dto.SeriesCursor;
+import com.infernokun.infernoComics.models.dto.SeriesSummary;
+import com.infernokun.infernoComics.models.dto.SeriesTotals;
+import com.infernokun.infernoComics.models.enums.SeriesSort;
 import com.infernokun.infernoComics.repositories.IssueRepository;
 import com.infernokun.infernoComics.repositories.MissingIssueRepository;
+import com.infernokun.infernoComics.repositories.ProgressDataRepository;
 import com.infernokun.infernoComics.repositories.SeriesRepository;
 import com.infernokun.infernoComics.repositories.sync.ProcessedFileRepository;
+import com.infernokun.infernoComics.repositories.sync.SeriesSyncStatusRepository;
 import com.infernokun.infernoComics.services.gcd.GCDatabaseService;
 import com.infernokun.infernoComics.services.sync.WeirdService;
+import com.infernokun.infernoComics.utils.CacheConstants;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SeriesServiceTest {
@@ -64,6 +95,18 @@ class SeriesServiceTest {
     @Mock
     private MissingIssueRepository missingIssueRepository;
 
+    @Mock
+    private CollectionCounterService collectionCounterService;
+
+    @Mock
+    private SeriesSyncStatusRepository seriesSyncStatusRepository;
+
+    @Mock
+    private ProgressDataRepository progressDataRepository;
+
+    @Mock
+    private SearxngImageSearchService imageSearchService;
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -76,11 +119,250 @@ class SeriesServiceTest {
                 comicVineService,
                 gcDatabaseService,
                 descriptionGeneratorService,
+                collectionCounterService,
                 issueRepository,
                 seriesRepository,
                 missingIssueRepository,
                 processedFileRepository,
-                cacheManager
+                seriesSyncStatusRepository,
+                progressDataRepository,
+                cacheManager,
+                imageSearchService
         );
     }
-}
\ No newline at end of file
+
+    private SeriesSummary createTestSummary(long id, long ownedCount) {
+        return new SeriesSummary(id, "Series " + id, "Description " + id, "Marvel", 2012, 2016,
+                null, String.valueOf(id), List.of(String.valueOf(id)), List.of(), false, 20,
+                ownedCount, LocalDateTime.now(), LocalDateTime.now(), null, null, null);
+    }
+
+    @Nested
+    @DisplayName("getAllSeries Tests")
+    class GetAllSeriesTests {
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 1, 25, 2500})
+        @DisplayName("Should issue a single aggregate query regardless of series count")
+        void shouldUseSingleQueryRegardlessOfSeriesCount(int seriesCount) {
+            List<SeriesSummary> summaries = LongStream.rangeClosed(1, seriesCount)
+                    .mapToObj(id -> createTestSummary(id, id % 7))
+                    .toList();
+            when(cacheManager.getCache(CacheConstants.CacheNames.SERIES_LIST)).thenReturn(cache);
+            when(cache.get(eq(CacheConstants.CacheKeys.ALL_SERIES_LIST), any(Callable.class)))
+                    .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
+            when(seriesRepository.findAllSummaries()).thenReturn(summaries);
+
+            List<SeriesSummary> result = seriesService.getAllSeries();
+
+            assertThat(result).isSameAs(summaries).hasSize(seriesCount);
+            verify(seriesRepository, times(1)).findAllSummaries();
+            verifyNoMoreInteractions(seriesRepository);
+            verifyNoInteractions(issueRepository);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 2500})
+        @DisplayName("Should return cached summaries without touching the database")
+        void shouldReturnCachedSummaries(int seriesCount) {
+            List<SeriesSummary> cached = LongStream.rangeClosed(1, seriesCount)
+                    .mapToObj(id -> createTestSummary(id, 3))
+                    .toList();
+            when(cacheManager.getCache(CacheConstants.CacheNames.SERIES_LIST)).thenReturn(cache);
+            when(cache.get(eq(CacheConstants.CacheKeys.ALL_SERIES_LIST), any(Callable.class))).thenReturn(cached);
+
+            List<SeriesSummary> result = seriesService.getAllSeries();
+
+            assertThat(result).isSameAs(cached);
+            verifyNoInteractions(seriesRepository, issueRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getSeriesPage Tests")
+    class GetSeriesPageTests {
+
+        @Test
+        @DisplayName("Should fetch one extra row and issue a cursor for the next page")
+        void shouldIssueNextCursorWhenMoreRowsExist() {
+            List<SeriesSummary> rows = LongStream.rangeClosed(1, 4).mapToObj(id -> createTestSummary(id, 0)).toList();
+            when(seriesRepository.findSummariesAfterId(0L, PageRequest.of(0, 4))).thenReturn(rows);
+
+            CursorPage<SeriesSummary> page = seriesService.getSeriesPage(null, 3, SeriesSort.ID);
+
+            assertThat(page.items()).extracting(SeriesSummary::id).containsExactly(1L, 2L, 3L);
+            assertThat(page.nextCursor()).isNotNull();
+            assertThat(SeriesCursor.decode(page.nextCursor()).lastId()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("Should resume a name-sorted listing from the cursor position")
+        void shouldResumeFromNameCursor() {
+            String cursor = new SeriesCursor(SeriesSort.NAME, 7L, "Batman: Year One").encode();
+            when(seriesRepository.findSummariesAfterName("Batman: Year One", 7L, PageRequest.of(0, 11)))
+                    .thenReturn(List.of(createTestSummary(8L, 0)));
+
+            CursorPage<SeriesSummary> page = seriesService.getSeriesPage(cursor, 10, SeriesSort.NAME);
+
+            assertThat(page.items()).hasSize(1);
+            assertThat(page.hasNext()).isFalse();
+            verifyNoInteractions(issueRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor issued for a different sort")
+        void shouldRejectMismatchedCursor() {
+            String cursor = SeriesCursor.start(SeriesSort.ID).encode();
+
+            assertThatThrownBy(() -> seriesService.getSeriesPage(cursor, 10, SeriesSort.NAME))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("getPopularSeries Tests")
+    class GetPopularSeriesTests {
+
+        private Series createTestSeries(long id) {
+            Series series = new Series();
+            series.setId(id);
+            series.setName("Series " + id);
+            return series;
+        }
+
+        @Test
+        @DisplayName("Should return series in the ranking order of the count query")
+        void shouldKeepRankingOrder() {
+            when(seriesRepository.findMostOwnedSeriesIds(PageRequest.of(0, 3))).thenReturn(List.of(7L, 2L, 5L));
+            when(seriesRepository.findAllById(List.of(7L, 2L, 5L)))
+                    .thenReturn(List.of(createTestSeries(2L), createTestSeries(5L), createTestSeries(7L)));
+
+            List<Series> result = seriesService.getPopularSeries(3);
+
+            assertThat(result).extracting(Series::getId).containsExactly(7L, 2L, 5L);
+            verify(seriesRepository, never()).findAll();
+            verifyNoInteractions(issueRepository);
+        }
+
+        @Test
+        @DisplayName("Should return empty list without querying for a non-positive limit")
+        void shouldReturnEmptyForNonPositiveLimit() {
+            assertThat(seriesService.getPopularSeries(0)).isEmpty();
+            verifyNoInteractions(seriesRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("searchSeriesAdvanced Tests")
+    class SearchSeriesAdvancedTests {
+
+        @Test
+        @DisplayName("Should page the specification query in the database")
+        @SuppressWarnings("unchecked")
+        void shouldPageSpecificationQuery() {
+            Series series = new Series();
+            series.setId(1L);
+            SeriesSearchCriteria criteria = new SeriesSearchCriteria("Marvel", 2000, 2010, 50, null, true);
+            PageRequest pageRequest = PageRequest.of(2, 10, Sort.by("name", "id"));
+
+            when(seriesRepository.findAll(any(Specification.class), eq(pageRequest)))
+                    .thenReturn(new PageImpl<>(List.of(series), pageRequest, 21));
+
+            SeriesSearchResult result = seriesService.searchSeriesAdvanced(criteria, 2, 10);
+
+            assertThat(result.getItems()).extracting(Series::getId).containsExactly(1L);
+            assertThat(result.getTotalCount()).isEqualTo(21);
+            verify(seriesRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Should return every match in name order when not paging")
+        @SuppressWarnings("unchecked")
+        void shouldReturnAllMatchesWithoutPaging() {
+            Series first = new Series();
+            first.setId(1L);
+            Series second = new Series();
+            second.setId(2L);
+            SeriesSearchCriteria criteria = new SeriesSearchCriteria("Marvel", null, null, null, null, null);
+
+            when(seriesRepository.findAll(any(Specification.class), eq(Sort.by("name", "id"))))
+                    .thenReturn(List.of(first, second));
+
+            SeriesSearchResult result = seriesService.searchSeriesAdvanced(criteria);
+
+            assertThat(result.getItems()).extracting(Series::getId).containsExactly(1L, 2L);
+            assertThat(result.getTotalCount()).isEqualTo(2);
+            verify(seriesRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should reject an out-of-range page size")
+        void shouldRejectInvalidPageSize() {
+            SeriesSearchCriteria criteria = new SeriesSearchCriteria(null, null, null, null, null, null);
+
+            assertThatThrownBy(() -> seriesService.searchSeriesAdvanced(criteria, 0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(seriesRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted completion range")
+        void shouldRejectInvertedCompletionRange() {
+            assertThatThrownBy(() -> new SeriesSearchCriteria(null, null, null, 80, 20, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should give different criteria different cache keys")
+        void shouldNotCollideCacheKeys() {
+            SeriesSearchCriteria embedded = new SeriesSearchCriteria("DC&startYear=1990", null, null, null, null, null);
+            SeriesSearchCriteria separate = new SeriesSearchCriteria("DC", 1990, null, null, null, null);
+            SeriesSearchCriteria swapped = new SeriesSearchCriteria(null, 1990, 2000, null, null, null);
+            SeriesSearchCriteria reversed = new SeriesSearchCriteria(null, 2000, 1990, null, null, null);
+
+            assertThat(embedded.cacheKey()).isNotEqualTo(separate.cacheKey());
+            assertThat(swapped.cacheKey()).isNotEqualTo(reversed.cacheKey());
+            assertThat(new SeriesSearchCriteria(" dc ", null, null, null, null, null).cacheKey())
+                    .isEqualTo(new SeriesSearchCriteria("DC", null, null, null, null, null).cacheKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("getSeriesStats Tests")
+    class GetSeriesStatsTests {
+
+        @Test
+        @DisplayName("Should fold start years into decades")
+        void shouldFoldYearsIntoDecades() {
+            when(seriesRepository.aggregateTotals()).thenReturn(new SeriesTotals(4L, 3L));
+            when(seriesRepository.countByPublisher()).thenReturn(List.of(
+                    new GroupCount<>("Marvel", 3L), new GroupCount<>("DC", 1L)));
+            when(seriesRepository.countByStartYear()).thenReturn(List.of(
+                    new GroupCount<>(1985, 1L), new GroupCount<>(1989, 2L), new GroupCount<>(2012, 1L)));
+
+            Map<String, Object> stats = seriesService.getSeriesStats();
+
+            assertThat(stats.get("totalSeries")).isEqualTo(4L);
+            assertThat(stats.get("seriesWithComicVineId")).isEqualTo(3L);
+            assertThat(stats.get("publisherBreakdown")).isEqualTo(Map.of("Marvel", 3L, "DC", 1L));
+            assertThat(stats.get("decadeBreakdown")).isEqualTo(Map.of("1980s", 3L, "2010s", 1L));
+        }
+
+        @ParameterizedTest(name = "{0} series")
+        @ValueSource(longs = {0, 10, 1_000_000})
+        @DisplayName("Should use the same three aggregate queries whatever the collection size")
+        void shouldUseFixedQueriesRegardlessOfSize(long seriesCount) {
+            when(seriesRepository.aggregateTotals()).thenReturn(new SeriesTotals(seriesCount, seriesCount));
+            when(seriesRepository.countByPublisher()).thenReturn(List.of(new GroupCount<>("Marvel", seriesCount)));
+            when(seriesRepository.countByStartYear()).thenReturn(List.of(new GroupCount<>(2000, seriesCount)));
+
+            seriesService.getSeriesStats();
+
+            verify(seriesRepository).aggregateTotals();
+            verify(seriesRepository).countByPublisher();
+            verify(seriesRepository).countByStartYear();
+            verifyNoMoreInteractions(seriesRepository);
+            verifyNoInteractions(issueRepository);
+        }
+    }
+}
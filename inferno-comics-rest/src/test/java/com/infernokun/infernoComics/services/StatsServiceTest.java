@@ -0,0 +1,97 @@
+package com.infernokun.infernoComics.services;
+
+import com.infernokun.infernoComics.models.dto.CompletionTotals;
+import com.infernokun.infernoComics.models.dto.GroupCount;
+import com.infernokun.infernoComics.models.dto.MonthCount;
+import com.infernokun.infernoComics.models.dto.ValueTotals;
+import com.infernokun.infernoComics.repositories.IssueRepository;
+import com.infernokun.infernoComics.repositories.MissingIssueRepository;
+import com.infernokun.infernoComics.repositories.ProgressDataRepository;
+import com.infernokun.infernoComics.repositories.SeriesRepository;
+import com.infernokun.infernoComics.repositories.sync.ProcessedFileRepository;
+import com.infernokun.infernoComics.repositories.sync.SeriesSyncStatusRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatsServiceTest {
+
+    @Mock
+    private SeriesRepository seriesRepository;
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    @Mock
+    private MissingIssueRepository missingIssueRepository;
+
+    @Mock
+    private ProgressDataRepository progressDataRepository;
+
+    @Mock
+    private ProcessedFileRepository processedFileRepository;
+
+    @Mock
+    private SeriesSyncStatusRepository seriesSyncStatusRepository;
+
+    @Mock
+    private CollectionCounterService collectionCounterService;
+
+    @InjectMocks
+    private StatsService statsService;
+
+    @Test
+    @DisplayName("Should build the series and issue sections from aggregates without loading either table")
+    @SuppressWarnings("unchecked")
+    void shouldBuildCollectionSectionsFromAggregates() {
+        YearMonth thisMonth = YearMonth.now();
+        YearMonth lastMonth = thisMonth.minusMonths(1);
+        when(seriesRepository.countByStartYear()).thenReturn(List.of(
+                new GroupCount<>(1963, 2L), new GroupCount<>(1968, 1L), new GroupCount<>(2011, 4L)));
+        when(issueRepository.countBySeriesName()).thenReturn(List.of(
+                new GroupCount<>("X-Men", 3L), new GroupCount<>("Saga", 9L)));
+        when(issueRepository.countByCreatedMonth()).thenReturn(List.of(
+                new MonthCount(lastMonth.getYear(), lastMonth.getMonthValue(), 5L)));
+        when(seriesRepository.aggregateCompletion()).thenReturn(new CompletionTotals(4L, 1L, 62.54));
+        when(issueRepository.aggregateHeldValue()).thenReturn(new ValueTotals(3L, new BigDecimal("10.00")));
+        when(issueRepository.sumPurchasePrice()).thenReturn(new BigDecimal("4.00"));
+        when(issueRepository.count()).thenReturn(12L);
+        when(issueRepository.countByReadTrue()).thenReturn(3L);
+
+        Map<String, Object> stats = statsService.getCollectionStats();
+
+        assertThat((Map<String, Long>) stats.get("decadeBreakdown")).containsExactly(
+                Map.entry("1960s", 3L), Map.entry("2010s", 4L));
+        assertThat((List<Map<String, Object>>) stats.get("topSeriesByIssueCount"))
+                .extracting(item -> item.get("name")).containsExactly("Saga", "X-Men");
+        assertThat((List<Map<String, Object>>) stats.get("collectionGrowth"))
+                .extracting(point -> point.get("cumulative")).containsExactly(5L, 5L);
+        assertThat((Map<String, Object>) stats.get("completionStats"))
+                .containsEntry("completedSeries", 1L)
+                .containsEntry("totalTrackedSeries", 4L)
+                .containsEntry("averageCompletion", 62.5);
+        assertThat((Map<String, Object>) stats.get("valueAnalysis"))
+                .containsEntry("profitLoss", new BigDecimal("6.00"))
+                .containsEntry("averageIssueValue", new BigDecimal("3.33"))
+                .containsEntry("issuesWithValue", 3L);
+        assertThat((Map<String, Object>) stats.get("readStats"))
+                .containsEntry("read", 3L)
+                .containsEntry("unread", 9L)
+                .containsEntry("readPercentage", 25.0);
+
+        verify(seriesRepository, never()).findAll();
+        verify(issueRepository, never()).findAll();
+    }
+}
@@ -11,7 +11,7 @@ import { generateSlug, Series } from '../../../models/series.model';
 import { ComicVineService } from '../../../services/comic-vine.service';
 import { SeriesService } from '../../../services/series.service';
 import { IssueService } from '../../../services/issue.service';
-import { Issue } from '../../../models/issue.model';
+import { IssueSummary } from '../../../models/issue.model';
 import { MessageService } from '../../../services/message.service';
 
 @Component({
@@ -307,11 +307,9 @@ export class SeriesFormComponent implements OnInit, OnDestroy {
 
     if (this.deleteIssuesOnRemove && this.seriesId) {
       this.removingIssues = true;
-      this.issueService.getIssuesBySeries(this.seriesId).subscribe({
-        next: (res: ApiResponse<Issue[]>) => {
-          const issueIds = (res.data || [])
-            .map(i => i.id)
-            .filter((id): id is number => id !== undefined);
+      this.issueService.getIssueSummariesBySeries(this.seriesId).subscribe({
+        next: (res: ApiResponse<IssueSummary[]>) => {
+          const issueIds = (res.data || []).map(i => i.id);
 
           if (issueIds.length === 0) {
             this.removingIssues = false;
@@ -27,6 +27,20 @@ export interface IssueRequest {
   generatedDescription: boolean;
 }
 
+// What list endpoints return: no description, prices or variant covers, and the series by id only
+export interface IssueSummary {
+  id: number;
+  issueNumber: string;
+  title?: string;
+  coverDate?: number[];
+  imageUrl?: string;
+  uploadedImageUrl?: string;
+  keyIssue?: boolean;
+  variant?: boolean;
+  read: boolean;
+  seriesId: number;
+}
+
 export enum IssueCondition {
   MINT = 'MINT',
   NEAR_MINT = 'NEAR_MINT',
@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Issue, IssueRequest } from '../models/issue.model';
+import { Issue, IssueRequest, IssueSummary } from '../models/issue.model';
 import { EnvironmentService } from './environment.service';
 import { ApiResponse } from '../models/api-response.model';
 import { BaseService } from './base.service';
@@ -20,8 +20,8 @@ export class IssueService extends BaseService {
     this.apiUrl = `${this.environmentService.settings?.restUrl}/issues`;
   }
 
-  getAllIssues(): Observable<ApiResponse<Issue[]>> {
-    return this.get<ApiResponse<Issue[]>>(this.apiUrl);
+  getAllIssues(): Observable<ApiResponse<IssueSummary[]>> {
+    return this.get<ApiResponse<IssueSummary[]>>(this.apiUrl);
   }
 
   getIssueById(id: number): Observable<ApiResponse<Issue>> {
@@ -32,6 +32,10 @@ export class IssueService extends BaseService {
     return this.get<ApiResponse<Issue[]>>(`${this.apiUrl}/series/${seriesId}`);
   }
 
+  getIssueSummariesBySeries(seriesId: number): Observable<ApiResponse<IssueSummary[]>> {
+    return this.get<ApiResponse<IssueSummary[]>>(`${this.apiUrl}/series/${seriesId}/summary`);
+  }
+
   createIssue(issue: any, imageData?: File): Observable<ApiResponse<Issue>> {
     const formData = new FormData();
 
@@ -98,8 +102,8 @@ export class IssueService extends BaseService {
     );
   }
 
-  getKeyIssues(): Observable<ApiResponse<Issue[]>> {
-    return this.get<ApiResponse<Issue[]>>(`${this.apiUrl}/key-issues`);
+  getKeyIssues(): Observable<ApiResponse<IssueSummary[]>> {
+    return this.get<ApiResponse<IssueSummary[]>>(`${this.apiUrl}/key-issues`);
   }
 
   getTotalValueCurrent(): Observable<ApiResponse<number>> {